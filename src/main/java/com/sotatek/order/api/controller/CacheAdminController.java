@@ -0,0 +1,58 @@
+package com.sotatek.order.api.controller;
+
+import com.sotatek.order.application.dto.CacheStatsDto;
+import com.sotatek.order.application.service.CacheAdminService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for cache administration.
+ */
+@RestController
+@RequestMapping("/api/admin/caches")
+@Tag(name = "Cache Admin", description = "In-process cache statistics and invalidation")
+public class CacheAdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheAdminController.class);
+
+    private final CacheAdminService cacheAdminService;
+
+    public CacheAdminController(CacheAdminService cacheAdminService) {
+        this.cacheAdminService = cacheAdminService;
+    }
+
+    @GetMapping
+    @Operation(summary = "List cache statistics", description = "Hit/miss/eviction statistics of every cache")
+    public ResponseEntity<List<CacheStatsDto>> listCaches() {
+        log.info("GET /api/admin/caches");
+        return ResponseEntity.ok(cacheAdminService.listStats());
+    }
+
+    @DeleteMapping("/{cacheName}/{key}")
+    @Operation(summary = "Evict cache entry", description = "Evicts a single entry (e.g. a member) immediately")
+    public ResponseEntity<Void> evict(
+            @Parameter(description = "Cache name") @PathVariable String cacheName,
+            @Parameter(description = "Entry key") @PathVariable Long key) {
+        log.info("DELETE /api/admin/caches/{}/{}", cacheName, key);
+        cacheAdminService.invalidate(cacheName, key);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{cacheName}")
+    @Operation(summary = "Clear cache", description = "Evicts all entries of a cache")
+    public ResponseEntity<Void> clear(
+            @Parameter(description = "Cache name") @PathVariable String cacheName) {
+        log.info("DELETE /api/admin/caches/{}", cacheName);
+        cacheAdminService.invalidateAll(cacheName);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.sotatek.order.api.controller;
+
+import com.sotatek.order.application.dto.MemberOrderViewDrift;
+import com.sotatek.order.application.dto.MemberOrderViewRebuild;
+import com.sotatek.order.application.service.MemberOrderViewAdminService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for member order history read model administration.
+ */
+@RestController
+@RequestMapping("/api/admin/member-order-view")
+@Tag(name = "Member Order View Admin", description = "Backfill and consistency check of the order history read model")
+public class MemberOrderViewAdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberOrderViewAdminController.class);
+
+    private final MemberOrderViewAdminService memberOrderViewAdminService;
+
+    public MemberOrderViewAdminController(MemberOrderViewAdminService memberOrderViewAdminService) {
+        this.memberOrderViewAdminService = memberOrderViewAdminService;
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild read model", description = "Copies every order into the read model, chunk by chunk")
+    public ResponseEntity<MemberOrderViewRebuild> rebuild() {
+        log.info("POST /api/admin/member-order-view/rebuild");
+        return ResponseEntity.ok(memberOrderViewAdminService.rebuild());
+    }
+
+    @GetMapping("/drift")
+    @Operation(summary = "Check read model", description = "Compares the read model with the orders and reports drift")
+    public ResponseEntity<MemberOrderViewDrift> drift() {
+        log.info("GET /api/admin/member-order-view/drift");
+        return ResponseEntity.ok(memberOrderViewAdminService.checkConsistency());
+    }
+}
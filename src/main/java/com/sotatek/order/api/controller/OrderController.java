@@ -1,8 +1,11 @@
 package com.sotatek.order.api.controller;
 
 import com.sotatek.order.api.dto.*;
+import com.sotatek.order.application.dto.CursorPage;
+import com.sotatek.order.application.dto.OrderSummary;
 import com.sotatek.order.application.service.*;
 import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderStatus;
 import com.sotatek.order.domain.model.PaymentMethod;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,14 +19,20 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST Controller for Order operations.
+ * <p>
+ * Reads carry an ETag (see OrderETags). With a matching If-None-Match, a 304 is answered
+ * from a version-only query, without loading items or serializing the response.
  */
 @RestController
 @RequestMapping("/api/orders")
@@ -32,26 +41,41 @@ public class OrderController {
 
     private static final Logger log = LoggerFactory.getLogger(OrderController.class);
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final CreateOrderService createOrderService;
+    private final IdempotentCreateOrderService idempotentCreateOrderService;
     private final GetOrderService getOrderService;
     private final ListOrdersService listOrdersService;
+    private final ListOrderSummariesService listOrderSummariesService;
     private final CancelOrderService cancelOrderService;
 
     public OrderController(
             CreateOrderService createOrderService,
+            IdempotentCreateOrderService idempotentCreateOrderService,
             GetOrderService getOrderService,
             ListOrdersService listOrdersService,
+            ListOrderSummariesService listOrderSummariesService,
             CancelOrderService cancelOrderService) {
         this.createOrderService = createOrderService;
+        this.idempotentCreateOrderService = idempotentCreateOrderService;
         this.getOrderService = getOrderService;
         this.listOrdersService = listOrdersService;
+        this.listOrderSummariesService = listOrderSummariesService;
         this.cancelOrderService = cancelOrderService;
     }
 
     @PostMapping
-    @Operation(summary = "Create a new order", description = "Creates an order, validates member/products, and processes payment")
-    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        log.info("POST /api/orders - memberId={}", request.memberId());
+    @Operation(summary = "Create a new order", description = "Creates an order, validates member/products, and processes payment. "
+            + "With an Idempotency-Key header, retries of the same request return the original order.")
+    public ResponseEntity<OrderResponse> createOrder(
+            @Parameter(description = "Client-generated key making retries safe (max 255 chars)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequest request) {
+        log.info("POST /api/orders - memberId={}, idempotencyKey={}", request.memberId(), idempotencyKey);
 
         // Convert request items
         List<CreateOrderService.OrderItemRequest> items = request.items().stream()
@@ -61,38 +85,120 @@ public class OrderController {
         // Parse payment method
         PaymentMethod paymentMethod = PaymentMethod.valueOf(request.paymentMethod().toUpperCase());
 
-        // Execute use case
-        Order order = createOrderService.execute(request.memberId(), items, paymentMethod);
+        if (idempotencyKey == null) {
+            Order order = createOrderService.execute(request.memberId(), items, paymentMethod);
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .body(OrderResponse.fromDomain(order));
+        }
 
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    IDEMPOTENCY_KEY_HEADER + " must be 1-" + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        IdempotentCreateOrderService.Result result = idempotentCreateOrderService.execute(
+                idempotencyKey, request.memberId(), items, paymentMethod);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(OrderResponse.fromDomain(order));
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(OrderResponse.fromDomain(result.order()));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get order by ID", description = "Retrieves order details by order ID")
+    @Operation(summary = "Get order by ID", description = "Retrieves order details by order ID; "
+            + "answers 304 when If-None-Match holds the current ETag")
     public ResponseEntity<OrderResponse> getOrder(
-            @Parameter(description = "Order ID") @PathVariable Long id) {
+            @Parameter(description = "Order ID") @PathVariable Long id,
+            WebRequest webRequest) {
         log.info("GET /api/orders/{}", id);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(OrderETags.of(id, getOrderService.findVersion(id)))) {
+            return null;
+        }
         Order order = getOrderService.execute(id);
-        return ResponseEntity.ok(OrderResponse.fromDomain(order));
+        return ResponseEntity.ok()
+                .eTag(OrderETags.of(order))
+                .body(OrderResponse.fromDomain(order));
     }
 
     @GetMapping
-    @Operation(summary = "List orders", description = "Lists orders with pagination")
+    @Operation(summary = "List orders", description = "Lists orders with pagination; "
+            + "filtered by member, answers 304 when If-None-Match holds the current ETag")
     public ResponseEntity<Page<OrderResponse>> listOrders(
             @Parameter(description = "Filter by member ID") @RequestParam(required = false) Long memberId,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            WebRequest webRequest) {
         log.info("GET /api/orders - memberId={}, page={}", memberId, pageable.getPageNumber());
 
-        Page<Order> orders;
-        if (memberId != null) {
-            orders = listOrdersService.executeByMember(memberId, pageable);
-        } else {
-            orders = listOrdersService.execute(pageable);
+        if (memberId == null) {
+            return ResponseEntity.ok(listOrdersService.execute(pageable).map(OrderResponse::fromDomain));
         }
+        String eTag = OrderETags.ofMemberList(memberId,
+                listOrdersService.findMemberListVersion(memberId, pageable.getSort()));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        Page<Order> orders = listOrdersService.executeByMember(memberId, pageable);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(orders.map(OrderResponse::fromDomain));
+    }
 
-        return ResponseEntity.ok(orders.map(OrderResponse::fromDomain));
+    @GetMapping("/summary")
+    @Operation(summary = "List order summaries", description = "Lists id, status, total, item count and dates "
+            + "of orders with pagination, without loading items; fields= selects a subset, expand=items adds "
+            + "the order lines")
+    public ResponseEntity<Page<OrderSummaryResponse>> listOrderSummaries(
+            @Parameter(description = "Filter by member ID") @RequestParam(required = false) Long memberId,
+            @Parameter(description = "Comma-separated fields to return (id is always returned)")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Set to 'items' to include the order lines")
+            @RequestParam(required = false) String expand,
+            @PageableDefault(size = 20) Pageable pageable,
+            WebRequest webRequest) {
+        log.info("GET /api/orders/summary - memberId={}, page={}, fields={}, expand={}",
+                memberId, pageable.getPageNumber(), fields, expand);
+
+        Set<String> selectedFields = OrderSummaryResponse.parseFields(fields);
+        boolean expandItems = OrderSummaryResponse.parseExpandItems(expand);
+        if (memberId == null) {
+            return ResponseEntity.ok(listOrderSummariesService.execute(null, pageable, expandItems)
+                    .map(summary -> OrderSummaryResponse.from(summary, selectedFields)));
+        }
+        String eTag = memberListETag(memberId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        Page<OrderSummary> summaries = listOrderSummariesService.execute(memberId, pageable, expandItems);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(summaries.map(summary -> OrderSummaryResponse.from(summary, selectedFields)));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "List orders by cursor", description = "Lists orders newest first with cursor pagination; "
+            + "pass nextCursor of a page to get the following one")
+    public ResponseEntity<CursorPage<OrderResponse>> listOrdersByCursor(
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Filter by member ID") @RequestParam(required = false) Long memberId,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        log.info("GET /api/orders/cursor - memberId={}, status={}, size={}", memberId, status, size);
+
+        OrderStatus orderStatus = status != null ? OrderStatus.valueOf(status.toUpperCase()) : null;
+        if (memberId == null) {
+            return ResponseEntity.ok(listOrdersService.executeWithCursor(cursor, null, orderStatus, size)
+                    .map(OrderResponse::fromDomain));
+        }
+        String eTag = memberListETag(memberId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        CursorPage<Order> orders = listOrdersService.executeWithCursor(cursor, memberId, orderStatus, size);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(orders.map(OrderResponse::fromDomain));
     }
 
     @PutMapping("/{id}")
@@ -109,4 +215,14 @@ public class OrderController {
         Order order = cancelOrderService.execute(id);
         return ResponseEntity.ok(OrderResponse.fromDomain(order));
     }
+
+    /**
+     * Tag of a member's listing read from the order tables, computed before the page is
+     * loaded: a change racing with the load then yields a stale tag, which only costs the
+     * client one extra full response. Unfiltered listings get no tag, as versioning them
+     * would aggregate the whole table.
+     */
+    private String memberListETag(Long memberId) {
+        return OrderETags.ofMemberList(memberId, listOrdersService.findMemberListVersion(memberId));
+    }
 }
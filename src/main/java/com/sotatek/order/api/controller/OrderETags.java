@@ -0,0 +1,31 @@
+package com.sotatek.order.api.controller;
+
+import com.sotatek.order.application.dto.OrderListVersion;
+import com.sotatek.order.domain.model.Order;
+
+/**
+ * Strong entity tags of order representations, derived from the optimistic-lock version.
+ * Every state change increments the version, so the tag changes exactly when the body does.
+ */
+final class OrderETags {
+
+    private OrderETags() {
+    }
+
+    static String of(Order order) {
+        return of(order.getId(), order.getVersion());
+    }
+
+    static String of(Long orderId, long version) {
+        return "\"" + orderId + "-" + version + "\"";
+    }
+
+    /**
+     * Tag of a listing restricted to one member; the same for every page of it, as the
+     * page parameters are part of the request URI the tag belongs to.
+     */
+    static String ofMemberList(Long memberId, OrderListVersion version) {
+        return "\"m" + memberId + "-" + version.orderCount() + "-" + version.versionSum()
+                + "-" + version.lastUpdatedAt() + "\"";
+    }
+}
@@ -0,0 +1,62 @@
+package com.sotatek.order.api.controller;
+
+import com.sotatek.order.api.dto.*;
+import com.sotatek.order.application.service.CreateOrderService;
+import com.sotatek.order.application.service.ReactiveCreateOrderService;
+import com.sotatek.order.domain.model.PaymentMethod;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import jakarta.validation.Valid;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Create Order on the reactive pipeline, active when {@code order.create.mode=reactive}.
+ * <p>
+ * Takes precedence over {@link OrderController#createOrder} for requests without an
+ * Idempotency-Key; idempotent creates keep the blocking path. The Tomcat thread is
+ * released as soon as the pipeline is assembled; the response is written when the
+ * returned Mono completes.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@ConditionalOnProperty(name = "order.create.mode", havingValue = "reactive")
+@Tag(name = "Orders", description = "Order management APIs")
+public class ReactiveOrderController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveOrderController.class);
+
+    private final ReactiveCreateOrderService createOrderService;
+
+    public ReactiveOrderController(ReactiveCreateOrderService createOrderService) {
+        this.createOrderService = createOrderService;
+    }
+
+    @PostMapping(headers = "!" + OrderController.IDEMPOTENCY_KEY_HEADER)
+    @Operation(summary = "Create a new order (reactive)", description = "Creates an order, validates member/products, "
+            + "and processes payment without holding a request thread")
+    public Mono<ResponseEntity<OrderResponse>> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+        log.info("POST /api/orders (reactive) - memberId={}", request.memberId());
+
+        List<CreateOrderService.OrderItemRequest> items = request.items().stream()
+                .map(item -> new CreateOrderService.OrderItemRequest(item.productId(), item.quantity()))
+                .toList();
+        PaymentMethod paymentMethod = PaymentMethod.valueOf(request.paymentMethod().toUpperCase());
+
+        return createOrderService.execute(request.memberId(), items, paymentMethod)
+                .map(order -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(OrderResponse.fromDomain(order)));
+    }
+}
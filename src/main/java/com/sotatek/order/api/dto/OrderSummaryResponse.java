@@ -0,0 +1,102 @@
+package com.sotatek.order.api.dto;
+
+import com.sotatek.order.application.dto.OrderItemSummary;
+import com.sotatek.order.application.dto.OrderSummary;
+import com.sotatek.order.domain.model.OrderStatus;
+import com.sotatek.order.domain.model.PaymentMethod;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Response DTO for an order in summary listings.
+ * Fields left out by sparse selection ({@code fields=}) are null and not serialized;
+ * {@code items} is only present with {@code expand=items}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderSummaryResponse(
+        Long id,
+        Long memberId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        PaymentMethod paymentMethod,
+        Integer itemCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<OrderResponse.OrderItemResponse> items) {
+
+    public static final Set<String> FIELDS = Set.of(
+            "memberId", "status", "totalAmount", "paymentMethod", "itemCount", "createdAt", "updatedAt");
+
+    /**
+     * Parse a comma-separated {@code fields=} value; null or blank selects every field.
+     *
+     * @throws IllegalArgumentException on an unknown field name
+     */
+    public static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return FIELDS;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.equals("id") || name.isEmpty()) {
+                continue; // always included
+            }
+            if (!FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "', expected any of " + FIELDS);
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    /**
+     * Expansions accepted by {@code expand=}.
+     *
+     * @return whether items are requested
+     * @throws IllegalArgumentException on an unknown expansion
+     */
+    public static boolean parseExpandItems(String expand) {
+        if (expand == null || expand.isBlank()) {
+            return false;
+        }
+        boolean items = false;
+        for (String name : Arrays.stream(expand.split(",")).map(String::trim).toList()) {
+            if (!name.equals("items")) {
+                throw new IllegalArgumentException("Unknown expansion '" + name + "', expected 'items'");
+            }
+            items = true;
+        }
+        return items;
+    }
+
+    public static OrderSummaryResponse from(OrderSummary summary, Set<String> fields) {
+        return new OrderSummaryResponse(
+                summary.id(),
+                fields.contains("memberId") ? summary.memberId() : null,
+                fields.contains("status") ? summary.status() : null,
+                fields.contains("totalAmount") ? summary.totalAmount() : null,
+                fields.contains("paymentMethod") ? summary.paymentMethod() : null,
+                fields.contains("itemCount") ? summary.itemCount() : null,
+                fields.contains("createdAt") ? summary.createdAt() : null,
+                fields.contains("updatedAt") ? summary.updatedAt() : null,
+                summary.items() != null ? summary.items().stream().map(OrderSummaryResponse::toItemResponse).toList()
+                        : null);
+    }
+
+    private static OrderResponse.OrderItemResponse toItemResponse(OrderItemSummary item) {
+        return new OrderResponse.OrderItemResponse(
+                item.productId(),
+                item.productName(),
+                item.unitPrice(),
+                item.quantity(),
+                item.subtotal());
+    }
+}
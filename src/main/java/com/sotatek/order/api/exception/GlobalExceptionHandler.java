@@ -6,9 +6,11 @@ import com.sotatek.order.domain.exception.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -43,6 +45,15 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of("INVALID_STATE_TRANSITION", ex.getMessage(), getPath(request)));
     }
 
+    @ExceptionHandler(OrderVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(OrderVersionConflictException ex,
+            WebRequest request) {
+        log.warn("Concurrent order modification: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ErrorResponse.of("ORDER_VERSION_CONFLICT", ex.getMessage(), getPath(request)));
+    }
+
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex, WebRequest request) {
         log.warn("Domain logic error: {}", ex.getMessage());
@@ -88,6 +99,33 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of("PAYMENT_FAILED", ex.getMessage(), getPath(request)));
     }
 
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException ex,
+            WebRequest request) {
+        log.warn("Duplicate request in flight: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .header("Retry-After", "1")
+                .body(ErrorResponse.of("IDEMPOTENCY_KEY_IN_PROGRESS", ex.getMessage(), getPath(request)));
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException ex,
+            WebRequest request) {
+        log.warn("Idempotency-Key reused: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ErrorResponse.of("IDEMPOTENCY_KEY_MISMATCH", ex.getMessage(), getPath(request)));
+    }
+
+    @ExceptionHandler(CacheNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCacheNotFound(CacheNotFoundException ex, WebRequest request) {
+        log.warn("Cache not found: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ErrorResponse.of("CACHE_NOT_FOUND", ex.getMessage(), getPath(request)));
+    }
+
     @ExceptionHandler(ExternalServiceException.class)
     public ResponseEntity<ErrorResponse> handleExternalService(ExternalServiceException ex, WebRequest request) {
         log.error("External service error: {} - {}", ex.getServiceName(), ex.getMessage());
@@ -98,6 +136,14 @@ public class GlobalExceptionHandler {
                         getPath(request)));
     }
 
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(RuntimeException ex, WebRequest request) {
+        log.error("No database connection: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of("SERVICE_OVERLOADED", "Database temporarily unavailable", getPath(request)));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex, WebRequest request) {
         String errors = ex.getBindingResult().getFieldErrors().stream()
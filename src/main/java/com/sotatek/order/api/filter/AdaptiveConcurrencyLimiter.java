@@ -0,0 +1,143 @@
+package com.sotatek.order.api.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency (gradient algorithm, after
+ * Netflix concurrency-limits' Gradient2).
+ * <p>
+ * A long-term average of request latency is the baseline of an unloaded system. When
+ * recent latency rises above it by more than {@code tolerance}, requests are queueing
+ * somewhere and the limit shrinks by the ratio; while latency is at the baseline the
+ * limit grows by about {@code sqrt(limit)} per update. Requests that fail because of
+ * overload cut the limit multiplicatively (AIMD backoff). Requests beyond the limit are
+ * rejected immediately instead of queueing.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_RTT_WEIGHT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double longRttWeight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    // Guarded by this
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    /**
+     * @param tolerance  latency increase over the baseline accepted before the limit shrinks (e.g. 1.5)
+     * @param smoothing  weight of each new limit estimate (0..1)
+     * @param longWindow number of samples the baseline averages over
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance,
+            double smoothing, int longWindow) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longRttWeight = 2.0 / (longWindow + 1);
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * Take a slot for one request.
+     *
+     * @return the permit, or null if the limit is reached (the request should be rejected)
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime(), current + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos = shortRttNanos * (1 - SHORT_RTT_WEIGHT) + rttNanos * SHORT_RTT_WEIGHT;
+        longRttNanos = longRttNanos * (1 - longRttWeight) + rttNanos * longRttWeight;
+        // After a long overload the baseline is inflated; let it recover quickly
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        // Latency says nothing about the limit while most of it is unused
+        if (inFlightAtStart < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double estimate = current * gradient + Math.sqrt(current);
+        limit = clamp(current * (1 - smoothing) + estimate * smoothing);
+    }
+
+    private synchronized void onDropped() {
+        limit = clamp(limit * BACKOFF_RATIO);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    /**
+     * Slot held by one request; release it exactly once with the request outcome.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * The request completed; its latency feeds the limit.
+         */
+        public void onSuccess() {
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inFlightAtStart);
+        }
+
+        /**
+         * The request failed because something was overloaded; back off.
+         */
+        public void onDropped() {
+            inFlight.decrementAndGet();
+            AdaptiveConcurrencyLimiter.this.onDropped();
+        }
+
+        /**
+         * The request ended without saying anything about load (e.g. invalid input).
+         */
+        public void onIgnore() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.sotatek.order.api.filter;
+
+import com.sotatek.order.api.dto.ErrorResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Load shedding for {@code POST /api/orders}.
+ * <p>
+ * Create Order runs under an {@link AdaptiveConcurrencyLimiter}; requests beyond the
+ * limit get 503 with {@code Retry-After} at once, instead of queueing until their
+ * client has given up. On platform threads the limit never exceeds the Tomcat pool
+ * minus {@code reserved-threads}, so reads (Get Order, List Orders) always find a thread.
+ * Responses with 503/504 (downstream overload or timeout) shrink the limit; other
+ * 4xx/5xx responses do not feed it.
+ * <p>
+ * Metrics: {@code order.create.concurrency.limit}, {@code order.create.concurrency.inflight}
+ * and {@code order.create.rejected}.
+ */
+@Component
+@ConditionalOnProperty(name = "order.create-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class CreateOrderLoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(CreateOrderLoadSheddingFilter.class);
+
+    private static final String PATH = "/api/orders";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final Counter rejected;
+
+    public CreateOrderLoadSheddingFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${server.tomcat.threads.max:200}") int tomcatThreads,
+            @Value("${order.create-limit.reserved-threads:50}") int reservedThreads,
+            @Value("${order.create-limit.initial-limit:20}") int initialLimit,
+            @Value("${order.create-limit.min-limit:4}") int minLimit,
+            @Value("${order.create-limit.max-limit:200}") int maxLimit,
+            @Value("${order.create-limit.tolerance:1.5}") double tolerance,
+            @Value("${order.create-limit.smoothing:0.2}") double smoothing,
+            @Value("${order.create-limit.long-window:600}") int longWindow,
+            @Value("${order.create-limit.retry-after:1s}") Duration retryAfter) {
+        // Virtual threads are not drawn from the Tomcat pool, so reads cannot be starved of one
+        int effectiveMax = virtualThreads
+                ? maxLimit
+                : Math.max(minLimit, Math.min(maxLimit, tomcatThreads - reservedThreads));
+        this.limiter = new AdaptiveConcurrencyLimiter(Math.min(initialLimit, effectiveMax), minLimit, effectiveMax,
+                tolerance, smoothing, longWindow);
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.rejected = Counter.builder("order.create.rejected")
+                .description("Create Order requests shed by the concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("order.create.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit of Create Order")
+                .register(meterRegistry);
+        Gauge.builder("order.create.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Create Order requests in progress")
+                .register(meterRegistry);
+        log.info("Create Order concurrency limit: initial {}, range {}..{}", limiter.getLimit(), minLimit,
+                effectiveMax);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !("POST".equals(request.getMethod()) && PATH.equals(request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            rejected.increment();
+            reject(request, response);
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                // Reactive Create Order: the request is still running after this thread returns
+                request.getAsyncContext().addListener(new PermitReleasingListener(permit));
+            } else {
+                release(permit, completed, response.getStatus());
+            }
+        }
+    }
+
+    private static void release(AdaptiveConcurrencyLimiter.Permit permit, boolean completed, int status) {
+        if (!completed || status == 503 || status == 504) {
+            permit.onDropped();
+        } else if (status < 400) {
+            permit.onSuccess();
+        } else {
+            permit.onIgnore();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of("SERVICE_OVERLOADED",
+                "Too many orders in progress, retry later", request.getRequestURI()));
+    }
+
+    /**
+     * Releases the permit once an async request completes; the container calls
+     * {@code onComplete} after a timeout or error too, with the error status set.
+     */
+    private static final class PermitReleasingListener implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimiter.Permit permit;
+
+        private PermitReleasingListener(AdaptiveConcurrencyLimiter.Permit permit) {
+            this.permit = permit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(permit, true, ((HttpServletResponse) event.getSuppliedResponse()).getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
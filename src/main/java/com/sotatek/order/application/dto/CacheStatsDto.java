@@ -0,0 +1,14 @@
+package com.sotatek.order.application.dto;
+
+/**
+ * Statistics snapshot of an in-process cache.
+ */
+public record CacheStatsDto(
+        String name,
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long loadFailureCount) {
+}
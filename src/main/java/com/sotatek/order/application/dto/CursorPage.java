@@ -0,0 +1,19 @@
+package com.sotatek.order.application.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a cursor-based listing. Has no total count; {@code nextCursor} is null
+ * on the last page.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, nextCursor, hasNext);
+    }
+}
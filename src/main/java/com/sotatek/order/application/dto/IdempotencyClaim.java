@@ -0,0 +1,43 @@
+package com.sotatek.order.application.dto;
+
+/**
+ * Outcome of claiming an Idempotency-Key.
+ *
+ * @param status  claim outcome
+ * @param orderId order bound to the key; set for COMPLETED, and for IN_PROGRESS once
+ *                the order was persisted
+ * @param failure for COMPLETED, the error the first request ended with, or null if it
+ *                returned the order
+ */
+public record IdempotencyClaim(Status status, Long orderId, IdempotencyFailure failure) {
+
+    public IdempotencyClaim(Status status, Long orderId) {
+        this(status, orderId, null);
+    }
+
+    public enum Status {
+        /**
+         * Key is new (or its stale lock was taken over): the caller must process the request
+         */
+        ACQUIRED,
+
+        /**
+         * Another request with this key is still being processed
+         */
+        IN_PROGRESS,
+
+        /**
+         * Request was already processed: replay the bound order, or its failure
+         */
+        COMPLETED,
+
+        /**
+         * Key was used before with a different request body
+         */
+        MISMATCH
+    }
+
+    public static IdempotencyClaim of(Status status) {
+        return new IdempotencyClaim(status, null);
+    }
+}
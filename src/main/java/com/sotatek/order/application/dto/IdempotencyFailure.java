@@ -0,0 +1,46 @@
+package com.sotatek.order.application.dto;
+
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.exception.PaymentFailedException;
+
+import java.util.Optional;
+
+/**
+ * Error that the first request with an Idempotency-Key ended with after its order was
+ * persisted. Replays of the key end with the same error instead of the order.
+ *
+ * @param type    kind of error
+ * @param service downstream service, for SERVICE_UNAVAILABLE
+ * @param message payment failure reason, or the service error message
+ */
+public record IdempotencyFailure(Type type, String service, String message) {
+
+    public enum Type {
+        PAYMENT_FAILED,
+        SERVICE_UNAVAILABLE
+    }
+
+    /**
+     * The failure to store for an error, if it is one a replay can reproduce.
+     */
+    public static Optional<IdempotencyFailure> of(RuntimeException e) {
+        if (e instanceof PaymentFailedException paymentFailed) {
+            return Optional.of(new IdempotencyFailure(Type.PAYMENT_FAILED, null, paymentFailed.getReason()));
+        }
+        if (e instanceof ExternalServiceException serviceFailure) {
+            return Optional.of(new IdempotencyFailure(Type.SERVICE_UNAVAILABLE, serviceFailure.getServiceName(),
+                    serviceFailure.getMessage()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The exception the first request ended with.
+     */
+    public RuntimeException toException(Long orderId) {
+        return switch (type) {
+            case PAYMENT_FAILED -> new PaymentFailedException(orderId, message);
+            case SERVICE_UNAVAILABLE -> new ExternalServiceException(service, message);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.sotatek.order.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Differences between the member order history read model and the order tables.
+ * Orders changed within the grace period before the check are skipped, since their
+ * events may still be on the way.
+ *
+ * @param checkedOrders orders compared
+ * @param missing       orders without a row
+ * @param stale         rows at an older version than the order
+ * @param mismatched    rows at the order's version but with different content
+ * @param orphaned      rows whose order no longer exists
+ * @param sampleOrderIds some of the drifted order IDs, to investigate or repair
+ * @param checkedAt     start of the check
+ */
+public record MemberOrderViewDrift(
+        long checkedOrders,
+        long missing,
+        long stale,
+        long mismatched,
+        long orphaned,
+        List<Long> sampleOrderIds,
+        LocalDateTime checkedAt) {
+
+    public boolean hasDrift() {
+        return missing + stale + mismatched + orphaned > 0;
+    }
+}
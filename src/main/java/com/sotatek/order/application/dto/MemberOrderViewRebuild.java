@@ -0,0 +1,11 @@
+package com.sotatek.order.application.dto;
+
+/**
+ * Outcome of a member order history rebuild.
+ *
+ * @param scannedOrders orders read from the order tables
+ * @param writtenRows   rows inserted or replaced because they were missing or older
+ * @param durationMillis wall time of the rebuild
+ */
+public record MemberOrderViewRebuild(long scannedOrders, long writtenRows, long durationMillis) {
+}
@@ -0,0 +1,44 @@
+package com.sotatek.order.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the order listing sorted by (createdAt desc, id desc).
+ * Clients only see the opaque encoded form.
+ */
+public record OrderCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public OrderCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires createdAt and id");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor was not produced by {@link #encode()}
+     */
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.sotatek.order.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Order lifecycle event taken from the outbox.
+ *
+ * @param id        outbox sequence number, unique per event (consumers may use it to dedupe)
+ * @param orderId   the order
+ * @param type      event type
+ * @param payload   JSON snapshot of the order after the change
+ * @param createdAt when the change was committed
+ */
+public record OrderEvent(
+        Long id,
+        Long orderId,
+        OrderEventType type,
+        String payload,
+        LocalDateTime createdAt) {
+}
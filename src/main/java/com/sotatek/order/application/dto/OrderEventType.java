@@ -0,0 +1,31 @@
+package com.sotatek.order.application.dto;
+
+import com.sotatek.order.domain.model.OrderStatus;
+
+/**
+ * Order lifecycle event types published to downstream consumers.
+ */
+public enum OrderEventType {
+    ORDER_CREATED,
+    ORDER_CONFIRMED,
+    ORDER_PAYMENT_PENDING,
+    ORDER_FAILED,
+    ORDER_CANCELLED,
+    /**
+     * PENDING order whose payment outcome is unknown; it is no longer checked
+     * automatically and needs to be settled by hand. The order itself is unchanged.
+     */
+    ORDER_PAYMENT_REVIEW_REQUIRED;
+
+    /**
+     * Event emitted when an existing order is saved with this status.
+     */
+    public static OrderEventType forStatusChange(OrderStatus status) {
+        return switch (status) {
+            case CONFIRMED -> ORDER_CONFIRMED;
+            case PENDING -> ORDER_PAYMENT_PENDING;
+            case FAILED -> ORDER_FAILED;
+            case CANCELLED -> ORDER_CANCELLED;
+        };
+    }
+}
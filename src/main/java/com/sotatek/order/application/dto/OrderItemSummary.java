@@ -0,0 +1,18 @@
+package com.sotatek.order.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Read model of an order line, projected straight from the order_items row.
+ */
+public record OrderItemSummary(
+        Long orderId,
+        Long productId,
+        String productName,
+        BigDecimal unitPrice,
+        int quantity) {
+
+    public BigDecimal subtotal() {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+}
@@ -0,0 +1,13 @@
+package com.sotatek.order.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of the set of orders of one member, read without loading the orders.
+ * A new order raises {@code orderCount}; every state change raises {@code versionSum}
+ * and {@code lastUpdatedAt}. Equal versions therefore mean unchanged listings.
+ *
+ * @param lastUpdatedAt latest updatedAt of the member's orders, or null if there are none
+ */
+public record OrderListVersion(Long orderCount, LocalDateTime lastUpdatedAt, Long versionSum) {
+}
@@ -0,0 +1,39 @@
+package com.sotatek.order.application.dto;
+
+import com.sotatek.order.domain.model.OrderStatus;
+import com.sotatek.order.domain.model.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read model of an order for listings, projected straight from the orders row.
+ *
+ * @param itemCount number of order lines
+ * @param items     the order lines, or null when they were not requested
+ */
+public record OrderSummary(
+        Long id,
+        Long memberId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        PaymentMethod paymentMethod,
+        Integer itemCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<OrderItemSummary> items) {
+
+    /**
+     * Projection without items (used by the summary queries).
+     */
+    public OrderSummary(Long id, Long memberId, OrderStatus status, BigDecimal totalAmount,
+            PaymentMethod paymentMethod, Integer itemCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, memberId, status, totalAmount, paymentMethod, itemCount, createdAt, updatedAt, null);
+    }
+
+    public OrderSummary withItems(List<OrderItemSummary> orderItems) {
+        return new OrderSummary(id, memberId, status, totalAmount, paymentMethod, itemCount, createdAt, updatedAt,
+                orderItems);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sotatek.order.application.dto;
+
+/**
+ * Product info combined with its stock info, as returned by a combined lookup.
+ * {@code stock} is null when Product Service has no stock information for the product.
+ */
+public record ProductWithStockDto(
+        ProductDto product,
+        ProductStockDto stock) {
+    public boolean hasStockInfo() {
+        return stock != null;
+    }
+}
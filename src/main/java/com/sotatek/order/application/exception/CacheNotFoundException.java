@@ -0,0 +1,18 @@
+package com.sotatek.order.application.exception;
+
+/**
+ * Exception when an admin operation names a cache that does not exist.
+ */
+public class CacheNotFoundException extends RuntimeException {
+
+    private final String cacheName;
+
+    public CacheNotFoundException(String cacheName) {
+        super("Cache not found: " + cacheName);
+        this.cacheName = cacheName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+}
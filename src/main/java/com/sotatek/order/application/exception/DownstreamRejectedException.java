@@ -0,0 +1,13 @@
+package com.sotatek.order.application.exception;
+
+/**
+ * Exception for a downstream call rejected before it was sent (circuit breaker open,
+ * too many calls in flight): unlike other external service errors, the downstream
+ * service never received the request.
+ */
+public class DownstreamRejectedException extends ExternalServiceException {
+
+    public DownstreamRejectedException(String serviceName, String message, Throwable cause) {
+        super(serviceName, message, cause);
+    }
+}
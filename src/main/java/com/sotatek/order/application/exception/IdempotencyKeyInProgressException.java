@@ -0,0 +1,19 @@
+package com.sotatek.order.application.exception;
+
+/**
+ * Exception when a request reuses an Idempotency-Key whose first request is still
+ * being processed.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyKeyInProgressException(String idempotencyKey) {
+        super("A request with Idempotency-Key " + idempotencyKey + " is still being processed");
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sotatek.order.application.exception;
+
+/**
+ * Exception when an Idempotency-Key is reused with a different request body.
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyKeyMismatchException(String idempotencyKey) {
+        super("Idempotency-Key " + idempotencyKey + " was already used with a different request");
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
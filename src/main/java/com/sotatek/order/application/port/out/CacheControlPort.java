@@ -0,0 +1,26 @@
+package com.sotatek.order.application.port.out;
+
+import com.sotatek.order.application.dto.CacheStatsDto;
+
+/**
+ * Output port for administering an in-process cache keyed by entity ID.
+ */
+public interface CacheControlPort {
+
+    /**
+     * Unique cache name used to address it from admin operations.
+     */
+    String cacheName();
+
+    /**
+     * Evict a single entry immediately.
+     */
+    void invalidate(Long key);
+
+    /**
+     * Evict all entries immediately.
+     */
+    void invalidateAll();
+
+    CacheStatsDto stats();
+}
@@ -0,0 +1,50 @@
+package com.sotatek.order.application.port.out;
+
+import com.sotatek.order.application.dto.IdempotencyClaim;
+import com.sotatek.order.application.dto.IdempotencyFailure;
+
+import java.time.LocalDateTime;
+
+/**
+ * Output port for storing Idempotency-Keys of create-order requests.
+ */
+public interface IdempotencyStorePort {
+
+    /**
+     * Atomically claim a key for a request. Exactly one of several concurrent callers
+     * with the same key gets ACQUIRED.
+     *
+     * @param key         client-supplied Idempotency-Key
+     * @param requestHash fingerprint of the request body, to detect key reuse
+     */
+    IdempotencyClaim claim(String key, String requestHash);
+
+    /**
+     * Bind the order created for this key, as soon as it is persisted.
+     */
+    void attachOrder(String key, Long orderId);
+
+    /**
+     * Mark processing as finished; later requests with the key replay the bound order.
+     */
+    void complete(String key);
+
+    /**
+     * Mark processing as finished with an error raised after the order was created;
+     * later requests with the key end with the same error.
+     */
+    void completeWithFailure(String key, IdempotencyFailure failure);
+
+    /**
+     * Drop a claim whose request failed before an order was created, so the client
+     * can retry with the same key.
+     */
+    void release(String key);
+
+    /**
+     * Delete up to {@code batchSize} keys created before {@code cutoff}.
+     *
+     * @return number of deleted keys
+     */
+    int purgeCreatedBefore(LocalDateTime cutoff, int batchSize);
+}
@@ -0,0 +1,21 @@
+package com.sotatek.order.application.port.out;
+
+import com.sotatek.order.application.dto.MemberOrderViewDrift;
+import com.sotatek.order.application.dto.MemberOrderViewRebuild;
+
+/**
+ * Output port for maintaining the member order history read model from the order tables.
+ */
+public interface MemberOrderViewMaintenancePort {
+
+    /**
+     * Copy every order into the read model, chunk by chunk. Rows already at the
+     * order's version or newer are left alone, so it is safe while events are relayed.
+     */
+    MemberOrderViewRebuild rebuild();
+
+    /**
+     * Compare the read model with the order tables, chunk by chunk.
+     */
+    MemberOrderViewDrift checkConsistency();
+}
@@ -0,0 +1,32 @@
+package com.sotatek.order.application.port.out;
+
+import com.sotatek.order.application.dto.OrderListVersion;
+import com.sotatek.order.domain.model.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Output port for the member order history read model: a denormalized copy of each
+ * order, kept up to date from order events. It may lag the order tables by the
+ * event relay delay, and never shows an older version of an order after a newer one.
+ */
+public interface MemberOrderViewPort {
+
+    /**
+     * Whether pages in this order can be served from the read model.
+     */
+    boolean supports(Sort sort);
+
+    /**
+     * Page of a member's orders, read from the read model only.
+     *
+     * @throws IllegalArgumentException if the sort is not {@link #supports supported}
+     */
+    Page<Order> findByMemberId(Long memberId, Pageable pageable);
+
+    /**
+     * Version of the member's orders as the read model sees them.
+     */
+    OrderListVersion findListVersionByMemberId(Long memberId);
+}
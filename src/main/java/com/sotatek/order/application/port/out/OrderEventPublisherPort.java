@@ -0,0 +1,20 @@
+package com.sotatek.order.application.port.out;
+
+import com.sotatek.order.application.dto.OrderEvent;
+
+import java.util.List;
+
+/**
+ * Output port for publishing order lifecycle events.
+ * Delivery is at-least-once: a batch may be published again if the relay fails
+ * before recording it as sent.
+ */
+public interface OrderEventPublisherPort {
+
+    /**
+     * Publish a batch of events in order.
+     *
+     * @throws RuntimeException if the batch could not be published; it will be retried
+     */
+    void publish(List<OrderEvent> events);
+}
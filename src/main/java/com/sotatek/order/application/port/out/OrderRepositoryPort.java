@@ -1,9 +1,14 @@
 package com.sotatek.order.application.port.out;
 
+import com.sotatek.order.application.dto.OrderCursor;
+import com.sotatek.order.application.dto.OrderListVersion;
 import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,7 +20,58 @@ public interface OrderRepositoryPort {
 
     Optional<Order> findById(Long id);
 
+    /**
+     * Current version of an order, without loading it or its items.
+     */
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Version of the member's order set, from one aggregate query on the orders rows.
+     */
+    OrderListVersion findListVersionByMemberId(Long memberId);
+
     Page<Order> findAll(Pageable pageable);
 
     Page<Order> findByMemberId(Long memberId, Pageable pageable);
+
+    /**
+     * Keyset listing: orders sorted by (createdAt desc, id desc) positioned after the
+     * cursor. Cost does not depend on how deep the position is, and no count is run.
+     *
+     * @param after    position of the last order already returned, or null for the first page
+     * @param memberId optional member filter
+     * @param status   optional status filter
+     * @param limit    maximum number of orders to return
+     */
+    List<Order> findPageAfter(OrderCursor after, Long memberId, OrderStatus status, int limit);
+
+    /**
+     * Claim PENDING orders whose payment status check is due, and postpone their next
+     * check to {@code nextCheckAt} so that no other node claims them meanwhile.
+     * Concurrent callers never receive the same order.
+     *
+     * @param dueBefore   claim orders whose check is due at or before this time
+     * @param nextCheckAt next check time of the claimed orders
+     * @param limit       maximum number of orders to claim
+     */
+    List<Order> claimDuePaymentChecks(LocalDateTime dueBefore, LocalDateTime nextCheckAt, int limit);
+
+    /**
+     * Save state changes of several existing orders in one transaction, as batched
+     * versioned updates. Orders changed by someone else since they were loaded are
+     * skipped instead of failing the whole batch.
+     *
+     * @return the saved orders, with their new version
+     */
+    List<Order> saveAll(List<Order> orders);
+
+    /**
+     * Stop the automatic payment checks of PENDING orders whose payment outcome is
+     * unknown, and record an ORDER_PAYMENT_REVIEW_REQUIRED event for each of them.
+     * The orders keep their status and version. Orders that got a payment or changed
+     * status meanwhile are skipped.
+     *
+     * @return number of orders flagged
+     */
+    int flagForPaymentReview(List<Order> orders);
 }
@@ -0,0 +1,31 @@
+package com.sotatek.order.application.port.out;
+
+import com.sotatek.order.application.dto.OrderItemSummary;
+import com.sotatek.order.application.dto.OrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Output port for order listing read models: projections queried directly, without
+ * loading order aggregates.
+ */
+public interface OrderSummaryQueryPort {
+
+    /**
+     * Page of order summaries, without items.
+     *
+     * @param memberId optional member filter
+     */
+    Page<OrderSummary> findSummaries(Long memberId, Pageable pageable);
+
+    /**
+     * Lines of the given orders, loaded in one query.
+     *
+     * @return lines by order ID, in insertion order; orders without lines are absent
+     */
+    Map<Long, List<OrderItemSummary>> findItems(Collection<Long> orderIds);
+}
@@ -3,6 +3,8 @@ package com.sotatek.order.application.port.out;
 import com.sotatek.order.application.dto.PaymentRequestDto;
 import com.sotatek.order.application.dto.PaymentResponseDto;
 
+import java.util.Optional;
+
 /**
  * Output port for Payment Service integration.
  */
@@ -20,4 +22,14 @@ public interface PaymentClientPort {
      *                                                                          timeout/unavailable
      */
     PaymentResponseDto createPayment(PaymentRequestDto request);
+
+    /**
+     * Get the current state of a payment.
+     *
+     * @param paymentId payment ID
+     * @return payment, or empty if Payment Service does not know it
+     * @throws com.sotatek.order.application.exception.ExternalServiceException on
+     *                                                                          timeout/unavailable
+     */
+    Optional<PaymentResponseDto> getPayment(Long paymentId);
 }
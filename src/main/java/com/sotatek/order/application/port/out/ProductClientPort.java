@@ -2,7 +2,10 @@ package com.sotatek.order.application.port.out;
 
 import com.sotatek.order.application.dto.ProductDto;
 import com.sotatek.order.application.dto.ProductStockDto;
+import com.sotatek.order.application.dto.ProductWithStockDto;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -19,4 +22,24 @@ public interface ProductClientPort {
      * Get product stock info.
      */
     Optional<ProductStockDto> getStock(Long productId);
+
+    /**
+     * Get products by IDs in as few downstream calls as possible.
+     * Duplicate IDs are looked up once; products that do not exist are absent from
+     * the result.
+     */
+    Map<Long, ProductDto> getProducts(Collection<Long> productIds);
+
+    /**
+     * Get stock info for several products.
+     * Duplicate IDs are looked up once; products without stock info are absent from
+     * the result.
+     */
+    Map<Long, ProductStockDto> getStocks(Collection<Long> productIds);
+
+    /**
+     * Get product info and stock info for several products in one lookup.
+     * Products that do not exist are absent from the result.
+     */
+    Map<Long, ProductWithStockDto> getProductsWithStock(Collection<Long> productIds);
 }
@@ -0,0 +1,22 @@
+package com.sotatek.order.application.port.out;
+
+import com.sotatek.order.application.dto.MemberDto;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking output port for Member Service, used by the reactive Create Order
+ * pipeline. Same semantics as {@link MemberClientPort}.
+ */
+public interface ReactiveMemberClientPort {
+
+    /**
+     * Get member by ID.
+     *
+     * @param memberId the member ID
+     * @return the member, or empty if it does not exist; fails with
+     *         {@link com.sotatek.order.application.exception.ExternalServiceException}
+     *         on timeout/unavailable
+     */
+    Mono<MemberDto> getMember(Long memberId);
+}
@@ -0,0 +1,24 @@
+package com.sotatek.order.application.port.out;
+
+import com.sotatek.order.application.dto.PaymentRequestDto;
+import com.sotatek.order.application.dto.PaymentResponseDto;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking output port for Payment Service, used by the reactive Create Order
+ * pipeline. Same semantics as {@link PaymentClientPort}.
+ */
+public interface ReactivePaymentClientPort {
+
+    /**
+     * Process payment for an order.
+     *
+     * @return the payment; fails with
+     *         {@link com.sotatek.order.application.exception.PaymentFailedException}
+     *         if the payment is rejected, or
+     *         {@link com.sotatek.order.application.exception.ExternalServiceException}
+     *         on timeout/unavailable
+     */
+    Mono<PaymentResponseDto> createPayment(PaymentRequestDto request);
+}
@@ -0,0 +1,21 @@
+package com.sotatek.order.application.port.out;
+
+import com.sotatek.order.application.dto.ProductWithStockDto;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Non-blocking output port for Product Service, used by the reactive Create Order
+ * pipeline. Same semantics as {@link ProductClientPort}.
+ */
+public interface ReactiveProductClientPort {
+
+    /**
+     * Get product info and stock info for several products in one lookup.
+     * Products that do not exist are absent from the result.
+     */
+    Mono<Map<Long, ProductWithStockDto>> getProductsWithStock(Collection<Long> productIds);
+}
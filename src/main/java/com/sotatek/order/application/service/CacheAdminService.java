@@ -0,0 +1,65 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.CacheStatsDto;
+import com.sotatek.order.application.exception.CacheNotFoundException;
+import com.sotatek.order.application.port.out.CacheControlPort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case: Inspect and invalidate in-process caches (admin operations).
+ */
+@Service
+public class CacheAdminService {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheAdminService.class);
+
+    private final Map<String, CacheControlPort> caches = new LinkedHashMap<>();
+
+    public CacheAdminService(List<CacheControlPort> caches) {
+        caches.forEach(cache -> this.caches.put(cache.cacheName(), cache));
+    }
+
+    /**
+     * Statistics of all registered caches.
+     */
+    public List<CacheStatsDto> listStats() {
+        return caches.values().stream()
+                .map(CacheControlPort::stats)
+                .toList();
+    }
+
+    /**
+     * Evict a single entry, e.g. right after an admin changed a member's status.
+     *
+     * @throws CacheNotFoundException if no cache has this name
+     */
+    public void invalidate(String cacheName, Long key) {
+        log.info("Invalidating cache={} key={}", cacheName, key);
+        find(cacheName).invalidate(key);
+    }
+
+    /**
+     * Evict all entries of a cache.
+     *
+     * @throws CacheNotFoundException if no cache has this name
+     */
+    public void invalidateAll(String cacheName) {
+        log.info("Invalidating all entries of cache={}", cacheName);
+        find(cacheName).invalidateAll();
+    }
+
+    private CacheControlPort find(String cacheName) {
+        CacheControlPort cache = caches.get(cacheName);
+        if (cache == null) {
+            throw new CacheNotFoundException(cacheName);
+        }
+        return cache;
+    }
+}
@@ -8,35 +8,40 @@ import com.sotatek.order.domain.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Use case: Create Order.
  * Flow: Validate Member → Validate Products/Stock → Create Order → Call Payment
  * → Update Status
+ * <p>
+ * Deliberately NOT transactional: each save is its own short transaction, so no
+ * database connection is held during the downstream HTTP calls (validation and the
+ * payment call).
+ * <p>
+ * Crash recovery: the order is persisted as PENDING before payment is requested, so
+ * an interruption between steps never loses an order. A PENDING order without a
+ * paymentId means the payment outcome is unknown (crash, or Payment Service timed
+ * out); Payment Service cannot be asked by orderId, so payment reconciliation flags it
+ * for manual review once it is older than {@code order.payment-reconciliation.unpaid-timeout}.
  */
 @Service
-@Transactional
 public class CreateOrderService {
 
     private static final Logger log = LoggerFactory.getLogger(CreateOrderService.class);
 
     private final OrderRepositoryPort orderRepository;
-    private final MemberClientPort memberClient;
-    private final ProductClientPort productClient;
+    private final OrderValidationService orderValidationService;
     private final PaymentClientPort paymentClient;
 
     public CreateOrderService(
             OrderRepositoryPort orderRepository,
-            MemberClientPort memberClient,
-            ProductClientPort productClient,
+            OrderValidationService orderValidationService,
             PaymentClientPort paymentClient) {
         this.orderRepository = orderRepository;
-        this.memberClient = memberClient;
-        this.productClient = productClient;
+        this.orderValidationService = orderValidationService;
         this.paymentClient = paymentClient;
     }
 
@@ -49,20 +54,31 @@ public class CreateOrderService {
      * @return created order
      */
     public Order execute(Long memberId, List<OrderItemRequest> itemRequests, PaymentMethod paymentMethod) {
-        log.info("Creating order for memberId={}, items={}", memberId, itemRequests.size());
+        return execute(memberId, itemRequests, paymentMethod, order -> {
+        });
+    }
 
-        // 1. Validate Member
-        validateMember(memberId);
+    /**
+     * Create a new order, notifying the caller once the PENDING order is persisted
+     * (before payment is requested).
+     *
+     * @param onPersisted called with the persisted PENDING order
+     * @return created order
+     */
+    public Order execute(Long memberId, List<OrderItemRequest> itemRequests, PaymentMethod paymentMethod,
+            Consumer<Order> onPersisted) {
+        log.info("Creating order for memberId={}, items={}", memberId, itemRequests.size());
 
-        // 2. Validate Products and Stock, build OrderItems
-        List<OrderItem> orderItems = validateAndBuildOrderItems(itemRequests);
+        // 1-2. Validate Member, Products and Stock concurrently, build OrderItems
+        List<OrderItem> orderItems = orderValidationService.validate(memberId, itemRequests);
 
-        // 3. Create Order
+        // 3. Create Order (committed as PENDING before any payment is attempted)
         Order order = Order.create(memberId, orderItems, paymentMethod);
         order = orderRepository.save(order);
         log.info("Order created with id={}, status={}", order.getId(), order.getStatus());
+        onPersisted.accept(order);
 
-        // 4. Call Payment Service
+        // 4. Call Payment Service, no transaction open
         try {
             PaymentRequestDto paymentRequest = new PaymentRequestDto(
                     order.getId(),
@@ -71,16 +87,7 @@ public class CreateOrderService {
             PaymentResponseDto paymentResponse = paymentClient.createPayment(paymentRequest);
 
             // 5. Update order status based on payment result
-            if (paymentResponse.isCompleted()) {
-                order.markAsConfirmed(paymentResponse.id());
-                log.info("Order id={} confirmed, paymentId={}", order.getId(), paymentResponse.id());
-            } else if (paymentResponse.isPending()) {
-                order.markAsPending(paymentResponse.id());
-                log.info("Order id={} pending payment, paymentId={}", order.getId(), paymentResponse.id());
-            } else {
-                order.markAsFailed();
-                log.warn("Order id={} payment failed", order.getId());
-            }
+            applyPaymentResult(order, paymentResponse);
             order = orderRepository.save(order);
 
         } catch (PaymentFailedException e) {
@@ -88,63 +95,36 @@ public class CreateOrderService {
             order.markAsFailed();
             order = orderRepository.save(order);
             throw e;
+        } catch (DownstreamRejectedException e) {
+            // Never sent to Payment Service, so no payment exists: nothing to reconcile
+            log.error("Payment not attempted for order id={}: {}", order.getId(), e.getMessage());
+            order.markAsFailed();
+            order = orderRepository.save(order);
+            throw e;
+        } catch (ExternalServiceException e) {
+            // Payment may or may not have been taken; left PENDING until reconciliation flags it for review
+            log.warn("Payment outcome unknown for order id={}, left PENDING: {}", order.getId(), e.getMessage());
+            throw e;
         }
 
         return order;
     }
 
-    private void validateMember(Long memberId) {
-        log.debug("Validating member id={}", memberId);
-        MemberDto member = memberClient.getMember(memberId)
-                .orElseThrow(() -> new MemberValidationException(memberId, "Member does not exist"));
-
-        if (!member.isActive()) {
-            throw new MemberValidationException(memberId, "Member is not active (status: " + member.status() + ")");
-        }
-        log.debug("Member id={} validated successfully", memberId);
-    }
-
-    private List<OrderItem> validateAndBuildOrderItems(List<OrderItemRequest> itemRequests) {
-        List<OrderItem> orderItems = new ArrayList<>();
-
-        for (OrderItemRequest request : itemRequests) {
-            log.debug("Validating product id={}, quantity={}", request.productId(), request.quantity());
-
-            // Get product info
-            ProductDto product = productClient.getProduct(request.productId())
-                    .orElseThrow(() -> new ProductValidationException(
-                            request.productId(), "Product does not exist"));
-
-            if (product.isDiscontinued()) {
-                throw new ProductValidationException(request.productId(), "Product is discontinued");
-            }
-            if (!product.isAvailable()) {
-                throw new ProductValidationException(request.productId(), "Product is not available");
-            }
-
-            // Check stock
-            ProductStockDto stock = productClient.getStock(request.productId())
-                    .orElseThrow(() -> new ProductValidationException(
-                            request.productId(), "Cannot retrieve stock information"));
-
-            if (!stock.hasAvailableStock(request.quantity())) {
-                throw new ProductValidationException(
-                        request.productId(),
-                        String.format("Insufficient stock. Available: %d, Requested: %d",
-                                stock.availableQuantity(), request.quantity()));
-            }
-
-            // Build OrderItem with product snapshot
-            OrderItem item = new OrderItem(
-                    product.id(),
-                    product.name(),
-                    product.price(),
-                    request.quantity());
-            orderItems.add(item);
-            log.debug("Product id={} validated, subtotal={}", product.id(), item.getSubtotal());
+    /**
+     * Move the order to the status matching the payment outcome; shared with the
+     * reactive pipeline.
+     */
+    static void applyPaymentResult(Order order, PaymentResponseDto paymentResponse) {
+        if (paymentResponse.isCompleted()) {
+            order.markAsConfirmed(paymentResponse.id());
+            log.info("Order id={} confirmed, paymentId={}", order.getId(), paymentResponse.id());
+        } else if (paymentResponse.isPending()) {
+            order.markAsPending(paymentResponse.id());
+            log.info("Order id={} pending payment, paymentId={}", order.getId(), paymentResponse.id());
+        } else {
+            order.markAsFailed();
+            log.warn("Order id={} payment failed", order.getId());
         }
-
-        return orderItems;
     }
 
     /**
@@ -7,13 +7,13 @@ import com.sotatek.order.domain.model.Order;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use case: Get Order by ID.
+ * Not transactional: the repository read is its own read-only transaction, so an
+ * order served from the read cache does not borrow a database connection.
  */
 @Service
-@Transactional(readOnly = true)
 public class GetOrderService {
 
     private static final Logger log = LoggerFactory.getLogger(GetOrderService.class);
@@ -36,4 +36,16 @@ public class GetOrderService {
         return orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
+
+    /**
+     * Get the current version of an order without loading it, to answer conditional requests.
+     *
+     * @param orderId the order ID
+     * @return the order version
+     * @throws OrderNotFoundException if order not found
+     */
+    public long findVersion(Long orderId) {
+        return orderRepository.findVersionById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
 }
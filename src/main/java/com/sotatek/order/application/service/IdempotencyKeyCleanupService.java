@@ -0,0 +1,57 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.port.out.IdempotencyStorePort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Use case: Delete expired Idempotency-Keys.
+ * Deletes in bounded batches (each its own short transaction) and caps the batches
+ * per run, so cleanup never holds long locks or runs unbounded after a backlog.
+ */
+@Service
+public class IdempotencyKeyCleanupService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyCleanupService.class);
+
+    private final IdempotencyStorePort idempotencyStore;
+    private final Duration ttl;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public IdempotencyKeyCleanupService(
+            IdempotencyStorePort idempotencyStore,
+            @Value("${order.idempotency.ttl:24h}") Duration ttl,
+            @Value("${order.idempotency.cleanup.batch-size:500}") int batchSize,
+            @Value("${order.idempotency.cleanup.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.idempotencyStore = idempotencyStore;
+        this.ttl = ttl;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * @return number of deleted keys
+     */
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int deleted = idempotencyStore.purgeCreatedBefore(cutoff, batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} Idempotency-Keys created before {}", total, cutoff);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,128 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.IdempotencyClaim;
+import com.sotatek.order.application.dto.IdempotencyFailure;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.exception.IdempotencyKeyInProgressException;
+import com.sotatek.order.application.exception.IdempotencyKeyMismatchException;
+import com.sotatek.order.application.exception.PaymentFailedException;
+import com.sotatek.order.application.port.out.IdempotencyStorePort;
+import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.domain.exception.OrderNotFoundException;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.PaymentMethod;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use case: Create Order with an Idempotency-Key.
+ * <p>
+ * The first request with a key runs Create Order; the key is bound to the order as
+ * soon as it is persisted, so retries never create a second order or a second
+ * payment, whatever the outcome of the first request. Later requests with the same
+ * key get the same outcome: the bound order, or the payment or service error the first
+ * request ended with once its order existed. Requests arriving while the first one is
+ * still in flight are rejected. If the first request fails before an order exists
+ * (e.g. validation), the key is released and may be retried.
+ */
+@Service
+public class IdempotentCreateOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotentCreateOrderService.class);
+
+    private final CreateOrderService createOrderService;
+    private final OrderRepositoryPort orderRepository;
+    private final IdempotencyStorePort idempotencyStore;
+
+    public IdempotentCreateOrderService(
+            CreateOrderService createOrderService,
+            OrderRepositoryPort orderRepository,
+            IdempotencyStorePort idempotencyStore) {
+        this.createOrderService = createOrderService;
+        this.orderRepository = orderRepository;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    /**
+     * Create an order once per Idempotency-Key.
+     *
+     * @return created order, or the order of the first request when replayed
+     * @throws PaymentFailedException            also when replaying a first request that failed so
+     * @throws ExternalServiceException          also when replaying a first request that failed so
+     * @throws IdempotencyKeyInProgressException if the first request with this key is still running
+     * @throws IdempotencyKeyMismatchException   if the key was used with a different request
+     */
+    public Result execute(String idempotencyKey, Long memberId, List<CreateOrderService.OrderItemRequest> items,
+            PaymentMethod paymentMethod) {
+        IdempotencyClaim claim = idempotencyStore.claim(idempotencyKey, fingerprint(memberId, items, paymentMethod));
+        switch (claim.status()) {
+            case COMPLETED -> {
+                if (claim.failure() != null) {
+                    log.info("Replaying {} of order id={} for Idempotency-Key={}", claim.failure().type(),
+                            claim.orderId(), idempotencyKey);
+                    throw claim.failure().toException(claim.orderId());
+                }
+                log.info("Replaying order id={} for Idempotency-Key={}", claim.orderId(), idempotencyKey);
+                Order order = orderRepository.findById(claim.orderId())
+                        .orElseThrow(() -> new OrderNotFoundException(claim.orderId()));
+                return new Result(order, true);
+            }
+            case IN_PROGRESS -> throw new IdempotencyKeyInProgressException(idempotencyKey);
+            case MISMATCH -> throw new IdempotencyKeyMismatchException(idempotencyKey);
+            case ACQUIRED -> log.debug("Acquired Idempotency-Key={}", idempotencyKey);
+        }
+
+        boolean[] orderPersisted = { false };
+        try {
+            Order order = createOrderService.execute(memberId, items, paymentMethod, persisted -> {
+                idempotencyStore.attachOrder(idempotencyKey, persisted.getId());
+                orderPersisted[0] = true;
+            });
+            idempotencyStore.complete(idempotencyKey);
+            return new Result(order, false);
+        } catch (RuntimeException e) {
+            if (orderPersisted[0]) {
+                // Retries replay this outcome instead of paying again; errors a replay cannot
+                // reproduce leave the order to speak for the outcome
+                IdempotencyFailure.of(e).ifPresentOrElse(
+                        failure -> idempotencyStore.completeWithFailure(idempotencyKey, failure),
+                        () -> idempotencyStore.complete(idempotencyKey));
+            } else {
+                idempotencyStore.release(idempotencyKey);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * SHA-256 of the request fields that define the order.
+     */
+    static String fingerprint(Long memberId, List<CreateOrderService.OrderItemRequest> items,
+            PaymentMethod paymentMethod) {
+        String canonical = memberId + "|" + paymentMethod + "|" + items.stream()
+                .map(item -> item.productId() + ":" + item.quantity())
+                .collect(Collectors.joining(","));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * @param order    the order
+     * @param replayed true if the order was created by an earlier request with the same key
+     */
+    public record Result(Order order, boolean replayed) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.OrderItemSummary;
+import com.sotatek.order.application.dto.OrderSummary;
+import com.sotatek.order.application.port.out.OrderSummaryQueryPort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case: List order summaries (id, status, total, item count, ...) with pagination.
+ * Served from projections instead of order aggregates; items are loaded only on request,
+ * for the whole page in one query.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ListOrderSummariesService {
+
+    private static final Logger log = LoggerFactory.getLogger(ListOrderSummariesService.class);
+
+    private final OrderSummaryQueryPort summaryQuery;
+
+    public ListOrderSummariesService(OrderSummaryQueryPort summaryQuery) {
+        this.summaryQuery = summaryQuery;
+    }
+
+    /**
+     * List order summaries.
+     *
+     * @param memberId    optional member filter
+     * @param pageable    page request
+     * @param expandItems whether to include the order lines
+     */
+    public Page<OrderSummary> execute(Long memberId, Pageable pageable, boolean expandItems) {
+        log.debug("Listing order summaries for memberId={}, page={}, size={}, expandItems={}",
+                memberId, pageable.getPageNumber(), pageable.getPageSize(), expandItems);
+        Page<OrderSummary> page = summaryQuery.findSummaries(memberId, pageable);
+        if (!expandItems || page.isEmpty()) {
+            return page;
+        }
+        Map<Long, List<OrderItemSummary>> items = summaryQuery.findItems(
+                page.getContent().stream().map(OrderSummary::id).toList());
+        return page.map(summary -> summary.withItems(items.getOrDefault(summary.id(), List.of())));
+    }
+}
@@ -1,17 +1,29 @@
 package com.sotatek.order.application.service;
 
+import com.sotatek.order.application.dto.CursorPage;
+import com.sotatek.order.application.dto.OrderCursor;
+import com.sotatek.order.application.dto.OrderListVersion;
+import com.sotatek.order.application.port.out.MemberOrderViewPort;
 import com.sotatek.order.application.port.out.OrderRepositoryPort;
 import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderStatus;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Use case: List Orders with pagination.
+ * <p>
+ * With {@code order.member-order-view.read-from-view=true} a member's order history is
+ * read from the member order view instead of the order tables, when its sort allows.
  */
 @Service
 @Transactional(readOnly = true)
@@ -19,10 +31,19 @@ public class ListOrdersService {
 
     private static final Logger log = LoggerFactory.getLogger(ListOrdersService.class);
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final OrderRepositoryPort orderRepository;
+    private final MemberOrderViewPort memberOrderView;
+    private final boolean readFromView;
 
-    public ListOrdersService(OrderRepositoryPort orderRepository) {
+    public ListOrdersService(
+            OrderRepositoryPort orderRepository,
+            MemberOrderViewPort memberOrderView,
+            @Value("${order.member-order-view.read-from-view:false}") boolean readFromView) {
         this.orderRepository = orderRepository;
+        this.memberOrderView = memberOrderView;
+        this.readFromView = readFromView;
     }
 
     /**
@@ -39,6 +60,59 @@ public class ListOrdersService {
     public Page<Order> executeByMember(Long memberId, Pageable pageable) {
         log.debug("Listing orders for memberId={}, page={}, size={}",
                 memberId, pageable.getPageNumber(), pageable.getPageSize());
+        if (readsFromView(pageable.getSort())) {
+            return memberOrderView.findByMemberId(memberId, pageable);
+        }
         return orderRepository.findByMemberId(memberId, pageable);
     }
+
+    /**
+     * Version of the member's orders in the order tables, to answer conditional requests
+     * of listings always read from them (summaries, cursor pages) without loading them.
+     */
+    public OrderListVersion findMemberListVersion(Long memberId) {
+        return orderRepository.findListVersionByMemberId(memberId);
+    }
+
+    /**
+     * Version of the member's orders, to answer conditional {@link #executeByMember}
+     * requests without loading them. Read from the store that serves the history with
+     * this sort, so the tag never comes from the view while the page comes from the tables.
+     */
+    public OrderListVersion findMemberListVersion(Long memberId, Sort sort) {
+        return readsFromView(sort)
+                ? memberOrderView.findListVersionByMemberId(memberId)
+                : orderRepository.findListVersionByMemberId(memberId);
+    }
+
+    /**
+     * List orders newest first with cursor pagination (no total count).
+     *
+     * @param cursor   cursor from the previous page, or null for the first page
+     * @param memberId optional member filter
+     * @param status   optional status filter
+     * @param size     page size (1-100)
+     * @throws IllegalArgumentException if the cursor is malformed or the size is out of range
+     */
+    public CursorPage<Order> executeWithCursor(String cursor, Long memberId, OrderStatus status, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        OrderCursor after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+        log.debug("Listing orders after cursor={}, memberId={}, status={}, size={}", after, memberId, status, size);
+
+        // One extra row tells whether there is a next page
+        List<Order> orders = orderRepository.findPageAfter(after, memberId, status, size + 1);
+        if (orders.size() <= size) {
+            return new CursorPage<>(orders, null, false);
+        }
+        List<Order> page = orders.subList(0, size);
+        Order last = page.get(size - 1);
+        String nextCursor = new OrderCursor(last.getCreatedAt(), last.getId()).encode();
+        return new CursorPage<>(List.copyOf(page), nextCursor, true);
+    }
+
+    private boolean readsFromView(Sort sort) {
+        return readFromView && memberOrderView.supports(sort);
+    }
 }
@@ -0,0 +1,41 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.MemberOrderViewDrift;
+import com.sotatek.order.application.dto.MemberOrderViewRebuild;
+import com.sotatek.order.application.port.out.MemberOrderViewMaintenancePort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case: Backfill and verify the member order history read model (admin operations).
+ */
+@Service
+public class MemberOrderViewAdminService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberOrderViewAdminService.class);
+
+    private final MemberOrderViewMaintenancePort maintenance;
+
+    public MemberOrderViewAdminService(MemberOrderViewMaintenancePort maintenance) {
+        this.maintenance = maintenance;
+    }
+
+    /**
+     * Copy all orders into the read model, e.g. before serving reads from it for the
+     * first time or to repair drift. Safe to run while orders change.
+     */
+    public MemberOrderViewRebuild rebuild() {
+        log.info("Rebuilding member order view");
+        return maintenance.rebuild();
+    }
+
+    /**
+     * Report differences between the read model and the orders.
+     */
+    public MemberOrderViewDrift checkConsistency() {
+        log.info("Checking member order view consistency");
+        return maintenance.checkConsistency();
+    }
+}
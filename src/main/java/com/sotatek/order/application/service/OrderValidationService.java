@@ -0,0 +1,276 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.*;
+import com.sotatek.order.application.exception.*;
+import com.sotatek.order.application.port.out.*;
+import com.sotatek.order.domain.model.OrderItem;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation stage of Create Order.
+ * Issues the member lookup and one combined product/stock lookup for all distinct
+ * products concurrently, so latency is bounded by the slowest call rather than
+ * their sum.
+ * <p>
+ * Error semantics are the same as the former sequential flow: the member is checked
+ * first, then each item in request order. Every lookup gets a rank matching that
+ * order and the failure with the lowest rank wins; as soon as a failure is known, all
+ * lookups ranked after it are cancelled since they can no longer change the outcome.
+ * The whole stage is bounded by a per-order deadline.
+ */
+@Service
+public class OrderValidationService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderValidationService.class);
+
+    private static final String STAGE_NAME = "OrderValidation";
+
+    private final MemberClientPort memberClient;
+    private final ProductClientPort productClient;
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    public OrderValidationService(
+            MemberClientPort memberClient,
+            ProductClientPort productClient,
+            @Qualifier("validationExecutor") ExecutorService executor,
+            @Value("${order.validation.timeout:3000}") long timeoutMillis) {
+        this.memberClient = memberClient;
+        this.productClient = productClient;
+        this.executor = executor;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    /**
+     * Validate member and items, and build OrderItems with product snapshots.
+     *
+     * @param memberId     the member ID
+     * @param itemRequests list of items (productId, quantity)
+     * @return order items in request order
+     * @throws MemberValidationException  if member does not exist or is not active
+     * @throws ProductValidationException if a product or its stock is not valid
+     * @throws ExternalServiceException   if a downstream call fails or the deadline
+     *                                    is exceeded
+     */
+    @SuppressWarnings("unchecked")
+    public List<OrderItem> validate(Long memberId, List<CreateOrderService.OrderItemRequest> itemRequests) {
+        // The same product may appear on several lines; look it up only once
+        List<Long> productIds = itemRequests.stream()
+                .map(CreateOrderService.OrderItemRequest::productId)
+                .distinct()
+                .toList();
+
+        // Task order defines failure priority: member first, then products
+        List<Callable<Object>> tasks = List.of(
+                () -> {
+                    validateMember(memberId);
+                    return null;
+                },
+                () -> productClient.getProductsWithStock(productIds));
+
+        List<Object> results = runAll(tasks);
+        Map<Long, ProductWithStockDto> products = (Map<Long, ProductWithStockDto>) results.get(1);
+
+        List<OrderItem> orderItems = new ArrayList<>(itemRequests.size());
+        for (CreateOrderService.OrderItemRequest request : itemRequests) {
+            OrderItem item = validateAndBuildOrderItem(request, products.get(request.productId()));
+            orderItems.add(item);
+            log.debug("Product id={} validated, subtotal={}", item.productId(), item.getSubtotal());
+        }
+        return orderItems;
+    }
+
+    private void validateMember(Long memberId) {
+        log.debug("Validating member id={}", memberId);
+        MemberDto member = memberClient.getMember(memberId)
+                .orElseThrow(() -> new MemberValidationException(memberId, "Member does not exist"));
+        checkMember(memberId, member);
+    }
+
+    /**
+     * Member rule shared with the reactive pipeline.
+     */
+    static void checkMember(Long memberId, MemberDto member) {
+        if (!member.isActive()) {
+            throw new MemberValidationException(memberId, "Member is not active (status: " + member.status() + ")");
+        }
+        log.debug("Member id={} validated successfully", memberId);
+    }
+
+    /**
+     * Product and stock rules shared with the reactive pipeline.
+     */
+    static OrderItem validateAndBuildOrderItem(CreateOrderService.OrderItemRequest request,
+            ProductWithStockDto productWithStock) {
+        log.debug("Validating product id={}, quantity={}", request.productId(), request.quantity());
+        if (productWithStock == null) {
+            throw new ProductValidationException(request.productId(), "Product does not exist");
+        }
+
+        ProductDto product = productWithStock.product();
+        if (product.isDiscontinued()) {
+            throw new ProductValidationException(request.productId(), "Product is discontinued");
+        }
+        if (!product.isAvailable()) {
+            throw new ProductValidationException(request.productId(), "Product is not available");
+        }
+
+        if (!productWithStock.hasStockInfo()) {
+            throw new ProductValidationException(request.productId(), "Cannot retrieve stock information");
+        }
+        ProductStockDto stock = productWithStock.stock();
+        if (!stock.hasAvailableStock(request.quantity())) {
+            throw new ProductValidationException(
+                    request.productId(),
+                    String.format("Insufficient stock. Available: %d, Requested: %d",
+                            stock.availableQuantity(), request.quantity()));
+        }
+
+        // Build OrderItem with product snapshot
+        return new OrderItem(
+                product.id(),
+                product.name(),
+                product.price(),
+                request.quantity());
+    }
+
+    /**
+     * Run all tasks concurrently and rethrow the lowest-ranked failure, if any.
+     *
+     * @return task results in task order
+     */
+    private List<Object> runAll(List<Callable<Object>> tasks) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Object>> futures = new ArrayList<>(tasks.size());
+        for (Callable<Object> task : tasks) {
+            futures.add(completion.submit(task));
+        }
+
+        RuntimeException failure = null;
+        int failureRank = futures.size();
+        try {
+            while (hasOutstanding(futures, failureRank)) {
+                long remainingNanos = deadline - System.nanoTime();
+                Future<Object> completed = remainingNanos > 0
+                        ? completion.poll(remainingNanos, TimeUnit.NANOSECONDS)
+                        : null;
+                if (completed == null) {
+                    cancelFrom(futures, 0);
+                    throw new ExternalServiceException(STAGE_NAME,
+                            "Order validation did not complete within " + timeout.toMillis() + "ms");
+                }
+                if (completed.isCancelled()) {
+                    continue;
+                }
+                int rank = futures.indexOf(completed);
+                try {
+                    completed.get();
+                } catch (ExecutionException e) {
+                    if (rank < failureRank) {
+                        failure = unwrap(e.getCause());
+                        failureRank = rank;
+                        cancelFrom(futures, rank + 1);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelFrom(futures, 0);
+            throw new ExternalServiceException(STAGE_NAME, "Order validation was interrupted", e);
+        }
+
+        // Tasks may complete before the loop takes them from the queue, e.g. when a saturated
+        // executor runs them inline during submit(): check every completed task in rank order
+        for (int rank = 0; rank < failureRank; rank++) {
+            Throwable cause = failureOf(futures.get(rank));
+            if (cause != null) {
+                failure = unwrap(cause);
+                failureRank = rank;
+                cancelFrom(futures, rank + 1);
+                break;
+            }
+        }
+
+        if (failure != null) {
+            log.debug("Order validation failed at task rank={}: {}", failureRank, failure.getMessage());
+            throw failure;
+        }
+
+        List<Object> results = new ArrayList<>(futures.size());
+        for (Future<Object> future : futures) {
+            results.add(resultOf(future));
+        }
+        return results;
+    }
+
+    private static Object resultOf(Future<Object> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            // Only called once every future is known to have completed successfully
+            throw new IllegalStateException("Validation task result is not available", e);
+        }
+    }
+
+    /**
+     * The failure of a completed task, or null if it succeeded or was cancelled.
+     */
+    private static Throwable failureOf(Future<Object> future) {
+        if (future.isCancelled()) {
+            return null;
+        }
+        try {
+            future.get();
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (InterruptedException e) {
+            // Only called on completed futures, which never block
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(STAGE_NAME, "Order validation was interrupted", e);
+        }
+    }
+
+    private static boolean hasOutstanding(List<Future<Object>> futures, int upToExclusive) {
+        for (int i = 0; i < upToExclusive; i++) {
+            if (!futures.get(i).isDone()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void cancelFrom(List<Future<Object>> futures, int fromInclusive) {
+        for (int i = fromInclusive; i < futures.size(); i++) {
+            futures.get(i).cancel(true);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new ExternalServiceException(STAGE_NAME, "Order validation failed: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,156 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.PaymentResponseDto;
+import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.application.port.out.PaymentClientPort;
+import com.sotatek.order.domain.model.Order;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Use case: Settle PENDING orders once Payment Service has completed or failed their payment.
+ * <p>
+ * An order still PENDING without a paymentId {@code unpaidTimeout} after it was created
+ * never got an answer from Payment Service (crash, or the payment call failed or timed
+ * out). Payment Service has no lookup by order and the payment may have been taken, so
+ * such orders are not failed: they stay PENDING, are no longer checked, and are flagged
+ * for manual review. {@code unpaidTimeout} must exceed the longest possible payment call,
+ * so an order whose payment call is still in flight is never flagged.
+ * <p>
+ * Works in batches: claim the orders whose check is due (which also postpones their
+ * next check by {@code recheckInterval}, so nodes running concurrently never check the
+ * same order), poll their payments concurrently on a bounded executor, then save all
+ * settled orders at once. Payments still pending or not answered are checked again
+ * after {@code recheckInterval}.
+ */
+@Service
+public class PaymentReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentReconciliationService.class);
+
+    private final OrderRepositoryPort orderRepository;
+    private final PaymentClientPort paymentClient;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final Duration recheckInterval;
+    private final int maxBatchesPerRun;
+    private final Duration unpaidTimeout;
+
+    public PaymentReconciliationService(
+            OrderRepositoryPort orderRepository,
+            PaymentClientPort paymentClient,
+            @Qualifier("paymentReconciliationExecutor") ExecutorService executor,
+            @Value("${order.payment-reconciliation.batch-size:200}") int batchSize,
+            @Value("${order.payment-reconciliation.recheck-interval:PT1M}") Duration recheckInterval,
+            @Value("${order.payment-reconciliation.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${order.payment-reconciliation.unpaid-timeout:PT10M}") Duration unpaidTimeout) {
+        this.orderRepository = orderRepository;
+        this.paymentClient = paymentClient;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.recheckInterval = recheckInterval;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.unpaidTimeout = unpaidTimeout;
+    }
+
+    /**
+     * @return number of orders confirmed, failed or flagged for review
+     */
+    public int reconcile() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Order> claimed = orderRepository.claimDuePaymentChecks(now, now.plus(recheckInterval), batchSize);
+            if (claimed.isEmpty()) {
+                break;
+            }
+            total += reconcileBatch(claimed);
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Settled {} pending orders", total);
+        }
+        return total;
+    }
+
+    private int reconcileBatch(List<Order> orders) {
+        int flagged = flagAbandoned(orders);
+        List<CompletableFuture<Order>> checks = orders.stream()
+                .filter(order -> order.getPaymentId() != null)
+                .map(order -> CompletableFuture.supplyAsync(() -> settle(order), executor))
+                .toList();
+        List<Order> settled = checks.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+        if (settled.isEmpty()) {
+            return flagged;
+        }
+        return flagged + orderRepository.saveAll(settled).size();
+    }
+
+    /**
+     * Flag for review the orders that never got a payment within {@code unpaidTimeout}.
+     * Younger ones may still have their payment call in flight and are checked again later.
+     */
+    private int flagAbandoned(List<Order> orders) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(unpaidTimeout);
+        List<Order> abandoned = orders.stream()
+                .filter(order -> order.getPaymentId() == null)
+                .filter(order -> !order.getCreatedAt().isAfter(cutoff))
+                .toList();
+        if (abandoned.isEmpty()) {
+            return 0;
+        }
+        int flagged = orderRepository.flagForPaymentReview(abandoned);
+        log.error("Flagged {} of {} PENDING orders for manual review: no payment {} after creation, ids={}",
+                flagged, abandoned.size(), unpaidTimeout, abandoned.stream().map(Order::getId).toList());
+        return flagged;
+    }
+
+    /**
+     * Apply the payment outcome to the order.
+     *
+     * @return the changed order, or null if it stays PENDING
+     */
+    private Order settle(Order order) {
+        Optional<PaymentResponseDto> payment;
+        try {
+            payment = paymentClient.getPayment(order.getPaymentId());
+        } catch (RuntimeException e) {
+            log.warn("Checking payment id={} of order id={} failed, will retry: {}",
+                    order.getPaymentId(), order.getId(), e.getMessage());
+            return null;
+        }
+
+        if (payment.isEmpty()) {
+            log.warn("Payment id={} of order id={} not found", order.getPaymentId(), order.getId());
+            return null;
+        }
+        if (payment.get().isCompleted()) {
+            order.markAsConfirmed(order.getPaymentId());
+            log.info("Order id={} confirmed, paymentId={}", order.getId(), order.getPaymentId());
+            return order;
+        }
+        if (payment.get().isFailed()) {
+            order.markAsFailed();
+            log.warn("Order id={} payment failed", order.getId());
+            return order;
+        }
+        return null;
+    }
+}
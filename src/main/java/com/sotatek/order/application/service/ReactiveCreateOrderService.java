@@ -0,0 +1,192 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.*;
+import com.sotatek.order.application.exception.*;
+import com.sotatek.order.application.port.out.*;
+import com.sotatek.order.domain.model.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Use case: Create Order, as a non-blocking pipeline.
+ * Active when {@code order.create.mode=reactive}; the blocking {@link CreateOrderService}
+ * is the default.
+ * <p>
+ * Same flow, rules and crash-recovery semantics as the blocking use case. Downstream
+ * calls run on the reactive clients' event loop and do not hold a thread while
+ * waiting. Only the short JPA saves still block; they run on a bounded scheduler
+ * sized to the connection pool.
+ * <p>
+ * Backpressure: at most {@code max-in-flight} orders are in the pipeline, and the
+ * database scheduler queues a bounded number of saves; beyond either bound the order
+ * fails at once with 503 instead of queueing. Validation and payment each have a
+ * deadline.
+ */
+@Service
+@ConditionalOnProperty(name = "order.create.mode", havingValue = "reactive")
+public class ReactiveCreateOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveCreateOrderService.class);
+
+    private static final String PIPELINE_NAME = "CreateOrderPipeline";
+    private static final String VALIDATION_STAGE_NAME = "OrderValidation";
+    private static final String PAYMENT_SERVICE_NAME = "PaymentService";
+
+    private final ReactiveMemberClientPort memberClient;
+    private final ReactiveProductClientPort productClient;
+    private final ReactivePaymentClientPort paymentClient;
+    private final OrderRepositoryPort orderRepository;
+    private final Scheduler databaseScheduler;
+    private final Duration validationTimeout;
+    private final Duration paymentTimeout;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ReactiveCreateOrderService(
+            ReactiveMemberClientPort memberClient,
+            ReactiveProductClientPort productClient,
+            ReactivePaymentClientPort paymentClient,
+            OrderRepositoryPort orderRepository,
+            @Qualifier("orderDatabaseScheduler") Scheduler databaseScheduler,
+            @Value("${order.validation.timeout:3000}") long validationTimeoutMillis,
+            @Value("${order.create.reactive.payment-timeout:10s}") Duration paymentTimeout,
+            @Value("${order.create.reactive.max-in-flight:5000}") int maxInFlight) {
+        this.memberClient = memberClient;
+        this.productClient = productClient;
+        this.paymentClient = paymentClient;
+        this.orderRepository = orderRepository;
+        this.databaseScheduler = databaseScheduler;
+        this.validationTimeout = Duration.ofMillis(validationTimeoutMillis);
+        this.paymentTimeout = paymentTimeout;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Create a new order.
+     *
+     * @param memberId      the member ID
+     * @param itemRequests  list of items (productId, quantity)
+     * @param paymentMethod the payment method
+     * @return the created order, or the same errors as {@link CreateOrderService#execute}
+     */
+    public Mono<Order> execute(Long memberId, List<CreateOrderService.OrderItemRequest> itemRequests,
+            PaymentMethod paymentMethod) {
+        return Mono.defer(() -> {
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                return Mono.error(new ExternalServiceException(PIPELINE_NAME,
+                        "More than " + maxInFlight + " orders in progress"));
+            }
+            // Deferred, so an exception thrown while building the pipeline still frees the slot
+            return Mono.defer(() -> create(memberId, itemRequests, paymentMethod))
+                    .doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+    private Mono<Order> create(Long memberId, List<CreateOrderService.OrderItemRequest> itemRequests,
+            PaymentMethod paymentMethod) {
+        log.info("Creating order for memberId={}, items={}", memberId, itemRequests.size());
+        return validate(memberId, itemRequests)
+                // Committed as PENDING before any payment is attempted
+                .flatMap(orderItems -> save(Order.create(memberId, orderItems, paymentMethod)))
+                .doOnNext(order -> log.info("Order created with id={}, status={}", order.getId(),
+                        order.getStatus()))
+                .flatMap(order -> pay(order, paymentMethod));
+    }
+
+    /**
+     * Number of orders currently in the pipeline.
+     */
+    int inFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Member and product lookups side by side. A member failure wins over a product
+     * failure, as in {@link OrderValidationService}: the member check fails the stage
+     * (and cancels the product lookup) at once, while a product failure waits for the
+     * member outcome.
+     */
+    private Mono<List<OrderItem>> validate(Long memberId, List<CreateOrderService.OrderItemRequest> itemRequests) {
+        List<Long> productIds = itemRequests.stream()
+                .map(CreateOrderService.OrderItemRequest::productId)
+                .distinct()
+                .toList();
+
+        Mono<Boolean> member = memberClient.getMember(memberId)
+                .switchIfEmpty(Mono.error(() -> new MemberValidationException(memberId, "Member does not exist")))
+                .doOnNext(found -> OrderValidationService.checkMember(memberId, found))
+                .thenReturn(true);
+        Mono<Signal<Map<Long, ProductWithStockDto>>> products = productClient.getProductsWithStock(productIds)
+                .defaultIfEmpty(Map.of())
+                .materialize();
+
+        return Mono.zip(member, products)
+                .timeout(validationTimeout, Mono.error(() -> new ExternalServiceException(VALIDATION_STAGE_NAME,
+                        "Order validation did not complete within " + validationTimeout.toMillis() + "ms")))
+                .flatMap(results -> {
+                    Signal<Map<Long, ProductWithStockDto>> productSignal = results.getT2();
+                    if (productSignal.hasError()) {
+                        return Mono.error(productSignal.getThrowable());
+                    }
+                    Map<Long, ProductWithStockDto> found = productSignal.get();
+                    List<OrderItem> orderItems = new ArrayList<>(itemRequests.size());
+                    for (CreateOrderService.OrderItemRequest request : itemRequests) {
+                        orderItems.add(OrderValidationService.validateAndBuildOrderItem(request,
+                                found.get(request.productId())));
+                    }
+                    return Mono.just(orderItems);
+                });
+    }
+
+    private Mono<Order> pay(Order order, PaymentMethod paymentMethod) {
+        PaymentRequestDto paymentRequest = new PaymentRequestDto(
+                order.getId(),
+                order.getTotalAmount(),
+                paymentMethod.name());
+        return paymentClient.createPayment(paymentRequest)
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException(PAYMENT_SERVICE_NAME,
+                        "Payment Service returned no payment")))
+                .timeout(paymentTimeout, Mono.error(() -> new ExternalServiceException(PAYMENT_SERVICE_NAME,
+                        "Payment did not complete within " + paymentTimeout.toMillis() + "ms")))
+                .flatMap(paymentResponse -> {
+                    CreateOrderService.applyPaymentResult(order, paymentResponse);
+                    return save(order);
+                })
+                .onErrorResume(PaymentFailedException.class, e -> {
+                    log.error("Payment failed for order id={}: {}", order.getId(), e.getMessage());
+                    order.markAsFailed();
+                    return save(order).then(Mono.error(e));
+                })
+                .doOnError(ExternalServiceException.class, e ->
+                        // Payment may or may not have been taken; left PENDING until reconciliation flags it for review
+                        log.warn("Payment outcome unknown for order id={}, left PENDING: {}", order.getId(),
+                                e.getMessage()));
+    }
+
+    /**
+     * Save on the database scheduler; fails with 503 when its queue is full.
+     */
+    private Mono<Order> save(Order order) {
+        return Mono.fromCallable(() -> orderRepository.save(order))
+                .subscribeOn(databaseScheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> new ExternalServiceException(PIPELINE_NAME,
+                        "Too many order saves queued", e));
+    }
+}
@@ -0,0 +1,56 @@
+package com.sotatek.order.config;
+
+import com.sotatek.order.application.port.out.MemberClientPort;
+import com.sotatek.order.application.port.out.ProductClientPort;
+import com.sotatek.order.infrastructure.client.cache.CachingMemberClientAdapter;
+import com.sotatek.order.infrastructure.client.cache.CachingProductClientAdapter;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Configuration for caching decorators around client ports.
+ * Each decorator is the primary bean of its port and wraps the active adapter
+ * (HTTP or mock), so use cases are unaware of caching.
+ */
+@Configuration
+public class ClientCacheConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "external-services.member.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CachingMemberClientAdapter cachingMemberClient(
+            MemberClientPort memberClient,
+            @Qualifier("clientExecutor") ExecutorService clientExecutor,
+            @Value("${external-services.member.cache.max-size:10000}") long maximumSize,
+            @Value("${external-services.member.cache.ttl:5m}") Duration ttl,
+            @Value("${external-services.member.cache.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${external-services.member.cache.refresh-after:4m}") Duration refreshAfter) {
+        return new CachingMemberClientAdapter(
+                memberClient, maximumSize, ttl, negativeTtl, refreshAfter, clientExecutor, Ticker.systemTicker());
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "external-services.product.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CachingProductClientAdapter cachingProductClient(
+            ProductClientPort productClient,
+            @Qualifier("clientExecutor") ExecutorService clientExecutor,
+            @Value("${external-services.product.cache.max-size:10000}") long maximumSize,
+            @Value("${external-services.product.cache.ttl:1m}") Duration ttl,
+            @Value("${external-services.product.cache.stale-while-revalidate:5m}") Duration staleWhileRevalidate,
+            @Value("${external-services.product.cache.stale-if-error:30m}") Duration staleIfError) {
+        return new CachingProductClientAdapter(
+                productClient, maximumSize, ttl, staleWhileRevalidate, staleIfError, clientExecutor,
+                Ticker.systemTicker());
+    }
+}
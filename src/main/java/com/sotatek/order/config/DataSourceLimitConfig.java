@@ -0,0 +1,53 @@
+package com.sotatek.order.config;
+
+import com.sotatek.order.infrastructure.persistence.ConnectionLimitingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Wraps the Hikari pool in a {@link ConnectionLimitingDataSource} sized to its
+ * {@code maximum-pool-size}. Enabled by {@code order.connection-limit.enabled},
+ * which defaults to the virtual-thread mode: on platform threads the Tomcat pool
+ * already bounds how many requests can wait for a connection.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.connection-limit.enabled", havingValue = "true")
+public class DataSourceLimitConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceLimitConfig.class);
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                Binder binder = Binder.get(environment);
+                int maxWaiting = binder.bind("order.connection-limit.max-waiting", Integer.class).orElse(1000);
+                Duration maxWait = binder.bind("order.connection-limit.max-wait", Duration.class)
+                        .orElse(Duration.ofMillis(hikari.getConnectionTimeout()));
+                log.info("Limiting connection borrowers of {} to pool size {} (max waiting {}, max wait {})",
+                        beanName, hikari.getMaximumPoolSize(), maxWaiting, maxWait);
+                return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(),
+                        maxWaiting, maxWait, meterRegistry.getObject());
+            }
+        };
+    }
+}
@@ -0,0 +1,112 @@
+package com.sotatek.order.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuration for executors used to fan out blocking downstream calls.
+ * Pools are bounded so a slow downstream cannot grow threads without limit;
+ * when the queue is full the caller runs the task itself (degrades to sequential),
+ * except for the hedging executor, which rejects it.
+ * <p>
+ * With {@code spring.threads.virtual.enabled=true} the fan-out executors start one
+ * virtual thread per task instead; downstream concurrency is then capped by the
+ * per-service bulkheads only.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService validationExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${order.validation.pool-size:64}") int poolSize,
+            @Value("${order.validation.queue-capacity:1000}") int queueCapacity) {
+        return fanOutExecutor("order-validation-", virtualThreads, poolSize, queueCapacity);
+    }
+
+    /**
+     * Executor used by client adapters to issue concurrent single calls.
+     * Kept separate from the validation executor: validation tasks block on these
+     * calls, so sharing one pool could starve it.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService clientExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${external-services.executor.pool-size:64}") int poolSize,
+            @Value("${external-services.executor.queue-capacity:1000}") int queueCapacity) {
+        return fanOutExecutor("external-client-", virtualThreads, poolSize, queueCapacity);
+    }
+
+    /**
+     * Executor running hedged downstream reads (the original call and its hedge).
+     * Separate from the client executor, whose tasks may themselves be hedged reads.
+     * Rejects when full instead of running on the caller, so a saturated pool skips
+     * hedges rather than running calls inline while waiting for a hedge.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService hedgingExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${external-services.hedging.pool-size:64}") int poolSize,
+            @Value("${external-services.hedging.queue-capacity:1000}") int queueCapacity) {
+        if (virtualThreads) {
+            return fanOutExecutor("hedged-call-", true, poolSize, queueCapacity);
+        }
+        return boundedExecutor("hedged-call-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Executor polling Payment Service for PENDING orders; its pool size caps how many
+     * status checks run at once, so reconciliation cannot flood Payment Service.
+     * Stays on platform threads in either mode, since the cap is its purpose.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService paymentReconciliationExecutor(
+            @Value("${order.payment-reconciliation.parallelism:16}") int parallelism,
+            @Value("${order.payment-reconciliation.batch-size:200}") int batchSize) {
+        return boundedExecutor("payment-reconciliation-", parallelism, batchSize);
+    }
+
+    static ExecutorService fanOutExecutor(String threadNamePrefix, boolean virtualThreads, int poolSize,
+            int queueCapacity) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+        }
+        return boundedExecutor(threadNamePrefix, poolSize, queueCapacity);
+    }
+
+    static ExecutorService boundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        return boundedExecutor(threadNamePrefix, poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    static ExecutorService boundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity,
+            RejectedExecutionHandler whenFull) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedDaemonThreads(threadNamePrefix),
+                whenFull);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
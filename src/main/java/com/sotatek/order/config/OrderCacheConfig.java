@@ -0,0 +1,51 @@
+package com.sotatek.order.config;
+
+import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.infrastructure.persistence.cache.CachingOrderRepositoryAdapter;
+import com.sotatek.order.infrastructure.persistence.cache.InMemoryOrderCacheInvalidationBus;
+import com.sotatek.order.infrastructure.persistence.cache.OrderCacheInvalidationBus;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the order read cache.
+ * The caching decorator is the primary OrderRepositoryPort and wraps the JPA adapter,
+ * so use cases are unaware of caching. Invalidations go through the in-memory bus
+ * unless another {@link OrderCacheInvalidationBus} bean is defined.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.read-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderCacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OrderCacheInvalidationBus orderCacheInvalidationBus() {
+        return new InMemoryOrderCacheInvalidationBus();
+    }
+
+    @Bean
+    @Primary
+    public CachingOrderRepositoryAdapter cachingOrderRepository(
+            OrderRepositoryPort orderRepository,
+            OrderCacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${order.read-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${order.read-cache.ttl:10s}") Duration ttl,
+            @Value("${order.read-cache.terminal-ttl:1h}") Duration terminalTtl,
+            @Value("${order.read-cache.tombstone-ttl:30s}") Duration tombstoneTtl) {
+        return new CachingOrderRepositoryAdapter(orderRepository, invalidationBus, maxSize.toBytes(), ttl,
+                terminalTtl, tombstoneTtl, Ticker.systemTicker(), meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.sotatek.order.config;
+
+import com.sotatek.order.application.port.out.MemberClientPort;
+import com.sotatek.order.application.port.out.PaymentClientPort;
+import com.sotatek.order.application.port.out.ProductClientPort;
+import com.sotatek.order.infrastructure.client.reactive.BlockingClientBridge;
+import com.sotatek.order.infrastructure.client.reactive.ReactiveHttpClients;
+import com.sotatek.order.infrastructure.client.reactive.WebClientMemberClientAdapter;
+import com.sotatek.order.infrastructure.client.reactive.WebClientPaymentClientAdapter;
+import com.sotatek.order.infrastructure.client.reactive.WebClientProductClientAdapter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Configuration of the reactive Create Order pipeline, active when
+ * {@code order.create.mode=reactive}.
+ * <p>
+ * With real downstreams ({@code external-services.mock=false}) the reactive ports are
+ * WebClient adapters on a small shared event loop; with mocks they bridge to the
+ * blocking mock adapters.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.create.mode", havingValue = "reactive")
+public class ReactiveCreateOrderConfig {
+
+    /**
+     * Scheduler running the blocking JPA saves of the pipeline. As many threads as
+     * the connection pool has connections; saves beyond {@code database-queue-capacity} are
+     * rejected rather than queued.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler orderDatabaseScheduler(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${order.create.reactive.database-queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(poolSize, queueCapacity, "order-db");
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "external-services.mock", havingValue = "false")
+    static class WebClientAdapters {
+
+        @Bean
+        public ReactiveHttpClients reactiveHttpClients(
+                Environment environment,
+                WebClient.Builder webClientBuilder,
+                @Value("${order.create.reactive.event-loop-threads:4}") int eventLoopThreads,
+                @Value("${order.create.reactive.max-connections:500}") int maxConnections) {
+            return new ReactiveHttpClients(environment, webClientBuilder, eventLoopThreads, maxConnections);
+        }
+
+        @Bean
+        public WebClientMemberClientAdapter webClientMemberClient(ReactiveHttpClients httpClients) {
+            return new WebClientMemberClientAdapter(httpClients.webClient("member"));
+        }
+
+        @Bean
+        public WebClientProductClientAdapter webClientProductClient(
+                ReactiveHttpClients httpClients,
+                @Value("${external-services.product.batch.max-size:50}") int maxBatchSize,
+                @Value("${external-services.product.batch.bulk-endpoint-enabled:true}") boolean bulkEndpointEnabled,
+                @Value("${order.create.reactive.lookup-concurrency:8}") int lookupConcurrency) {
+            return new WebClientProductClientAdapter(httpClients.webClient("product"), maxBatchSize,
+                    bulkEndpointEnabled, lookupConcurrency);
+        }
+
+        @Bean
+        public WebClientPaymentClientAdapter webClientPaymentClient(ReactiveHttpClients httpClients) {
+            return new WebClientPaymentClientAdapter(httpClients.webClient("payment"));
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "external-services.mock", havingValue = "true")
+    static class MockBridge {
+
+        @Bean
+        public BlockingClientBridge blockingClientBridge(
+                MemberClientPort memberClient,
+                ProductClientPort productClient,
+                PaymentClientPort paymentClient) {
+            return new BlockingClientBridge(memberClient, productClient, paymentClient,
+                    Schedulers.boundedElastic());
+        }
+    }
+}
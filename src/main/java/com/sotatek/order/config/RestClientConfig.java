@@ -1,25 +1,26 @@
 package com.sotatek.order.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.client.RestClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
-import java.time.Duration;
-
 /**
  * Configuration for RestClient.
- * Sets default timeouts for resilience.
+ * Client adapters clone this builder and set the request factory of their downstream
+ * service (timeouts, connection pool), see DownstreamHttpClients.
+ * <p>
+ * Boot's customizers are applied, so every downstream call is timed as
+ * {@code http.client.requests} (tagged with client.name, uri template, status and outcome).
  */
 @Configuration
 public class RestClientConfig {
 
     @Bean
-    public RestClient.Builder restClientBuilder() {
-        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory();
-        factory.setReadTimeout(Duration.ofSeconds(5));
-
-        return RestClient.builder()
-                .requestFactory(factory);
+    public RestClient.Builder restClientBuilder(ObjectProvider<RestClientCustomizer> customizers) {
+        RestClient.Builder builder = RestClient.builder();
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
     }
 }
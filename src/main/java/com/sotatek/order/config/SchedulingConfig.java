@@ -0,0 +1,12 @@
+package com.sotatek.order.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (see infrastructure.scheduler).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,25 @@
+package com.sotatek.order.domain.exception;
+
+/**
+ * Thrown when an order was changed concurrently since it was read
+ * (optimistic locking on the order version).
+ */
+public class OrderVersionConflictException extends DomainException {
+
+    private final Long orderId;
+    private final Long expectedVersion;
+
+    public OrderVersionConflictException(Long orderId, Long expectedVersion) {
+        super("Order " + orderId + " was modified concurrently (expected version " + expectedVersion + ")");
+        this.orderId = orderId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
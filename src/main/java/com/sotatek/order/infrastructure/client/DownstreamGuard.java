@@ -0,0 +1,91 @@
+package com.sotatek.order.infrastructure.client;
+
+import com.sotatek.order.application.exception.DownstreamRejectedException;
+import com.sotatek.order.application.exception.ExternalServiceException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker and bulkhead around the outbound calls to one downstream service.
+ * <p>
+ * The bulkhead caps the calls in flight, so a slow service can only block that many
+ * threads; the circuit breaker stops calling a service that keeps failing or answering
+ * slowly. Both reject with {@link DownstreamRejectedException} immediately instead of
+ * waiting for the read timeout; the call is then known not to have been sent. Only {@code ExternalServiceException}s count as
+ * failures: "not found" answers and business rejections are normal responses.
+ * <p>
+ * Rejections are counted in {@code external.client.rejections}, tagged by service and
+ * reason (circuit_open, bulkhead_full). Breaker state and bulkhead usage are published
+ * by the Resilience4j Micrometer bindings.
+ */
+public class DownstreamGuard {
+
+    static final String REJECTIONS_METRIC = "external.client.rejections";
+
+    private final String serviceName;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+
+    /**
+     * @param circuitBreaker breaker to apply, or null for none
+     * @param bulkhead       bulkhead to apply, or null for none
+     */
+    public DownstreamGuard(String serviceName, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+            MeterRegistry meterRegistry) {
+        this.serviceName = serviceName;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.circuitOpenRejections = rejections(meterRegistry, serviceName, "circuit_open");
+        this.bulkheadFullRejections = rejections(meterRegistry, serviceName, "bulkhead_full");
+    }
+
+    /**
+     * Run one outbound call under the bulkhead and circuit breaker.
+     *
+     * @throws DownstreamRejectedException if the call is rejected without being sent
+     * @throws ExternalServiceException    if the call fails
+     */
+    public <T> T execute(Supplier<T> call) {
+        Supplier<T> guarded = call;
+        if (bulkhead != null) {
+            guarded = Bulkhead.decorateSupplier(bulkhead, guarded);
+        }
+        // Outermost: an open circuit fails before taking a bulkhead slot
+        if (circuitBreaker != null) {
+            guarded = CircuitBreaker.decorateSupplier(circuitBreaker, guarded);
+        }
+
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException e) {
+            circuitOpenRejections.increment();
+            throw new DownstreamRejectedException(serviceName,
+                    serviceName + " is unavailable (circuit breaker open)", e);
+        } catch (BulkheadFullException e) {
+            bulkheadFullRejections.increment();
+            throw new DownstreamRejectedException(serviceName,
+                    serviceName + " is overloaded (too many calls in flight)", e);
+        }
+    }
+
+    public String serviceName() {
+        return serviceName;
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String serviceName, String reason) {
+        return Counter.builder(REJECTIONS_METRIC)
+                .description("Downstream calls rejected without being sent")
+                .tag("service", serviceName)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
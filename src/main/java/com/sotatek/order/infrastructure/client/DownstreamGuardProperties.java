@@ -0,0 +1,141 @@
+package com.sotatek.order.infrastructure.client;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker and bulkhead settings of one downstream service, bound from
+ * {@code external-services.<name>.circuit-breaker.*} and {@code external-services.<name>.bulkhead.*}.
+ * Unset values keep the defaults below.
+ */
+public class DownstreamGuardProperties {
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Bulkhead bulkhead = new Bulkhead();
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;
+        // Percentage of failed calls in the window that opens the circuit
+        private float failureRateThreshold = 50;
+        // Percentage of calls slower than slowCallDurationThreshold that opens the circuit
+        private float slowCallRateThreshold = 50;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        private int permittedCallsInHalfOpenState = 3;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public float getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(float failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public float getSlowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        public Duration getSlowCallDurationThreshold() {
+            return slowCallDurationThreshold;
+        }
+
+        public void setSlowCallDurationThreshold(Duration slowCallDurationThreshold) {
+            this.slowCallDurationThreshold = slowCallDurationThreshold;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumNumberOfCalls() {
+            return minimumNumberOfCalls;
+        }
+
+        public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+        }
+
+        public Duration getWaitDurationInOpenState() {
+            return waitDurationInOpenState;
+        }
+
+        public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = waitDurationInOpenState;
+        }
+
+        public int getPermittedCallsInHalfOpenState() {
+            return permittedCallsInHalfOpenState;
+        }
+
+        public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        }
+    }
+
+    public static class Bulkhead {
+
+        private boolean enabled = true;
+        // Max outbound calls in flight to this service
+        private int maxConcurrentCalls = 25;
+        // How long a call may wait for a free slot before it is rejected
+        private Duration maxWaitDuration = Duration.ZERO;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getMaxWaitDuration() {
+            return maxWaitDuration;
+        }
+
+        public void setMaxWaitDuration(Duration maxWaitDuration) {
+            this.maxWaitDuration = maxWaitDuration;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.sotatek.order.infrastructure.client;
+
+import com.sotatek.order.application.exception.ExternalServiceException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the {@link DownstreamGuard} of each downstream service from
+ * {@code external-services.<name>.circuit-breaker.*} / {@code .bulkhead.*}.
+ * <p>
+ * Breakers and bulkheads live in shared registries bound to Micrometer, which publish
+ * {@code resilience4j.circuitbreaker.state}, {@code resilience4j.circuitbreaker.calls},
+ * {@code resilience4j.bulkhead.available.concurrent.calls} and related meters.
+ */
+@Component
+public class DownstreamGuards {
+
+    private final Binder binder;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+
+    public DownstreamGuards(Environment environment, MeterRegistry meterRegistry) {
+        this.binder = Binder.get(environment);
+        this.meterRegistry = meterRegistry;
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+    }
+
+    /**
+     * @param configKey   key under {@code external-services}, e.g. "product"
+     * @param serviceName name used in errors and metrics, e.g. "ProductService"
+     */
+    public DownstreamGuard forService(String configKey, String serviceName) {
+        DownstreamGuardProperties properties = binder
+                .bind("external-services." + configKey, DownstreamGuardProperties.class)
+                .orElseGet(DownstreamGuardProperties::new);
+        return new DownstreamGuard(
+                serviceName,
+                circuitBreaker(serviceName, properties.getCircuitBreaker()),
+                bulkhead(serviceName, properties.getBulkhead()),
+                meterRegistry);
+    }
+
+    private CircuitBreaker circuitBreaker(String serviceName, DownstreamGuardProperties.CircuitBreaker settings) {
+        if (!settings.isEnabled()) {
+            return null;
+        }
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // A call interrupted because its hedge won says nothing about the service either
+                .recordException(e -> e instanceof ExternalServiceException
+                        && !Thread.currentThread().isInterrupted())
+                // Calls rejected by our own bulkhead say nothing about the service
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+        return circuitBreakers.circuitBreaker(serviceName, config);
+    }
+
+    private Bulkhead bulkhead(String serviceName, DownstreamGuardProperties.Bulkhead settings) {
+        if (!settings.isEnabled()) {
+            return null;
+        }
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                .maxWaitDuration(settings.getMaxWaitDuration())
+                .build();
+        return bulkheads.bulkhead(serviceName, config);
+    }
+}
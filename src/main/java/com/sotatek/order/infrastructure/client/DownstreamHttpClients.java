@@ -0,0 +1,105 @@
+package com.sotatek.order.infrastructure.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One JDK {@link HttpClient} per downstream service, configured from
+ * {@code external-services.<name>.timeout} and {@code external-services.<name>.http.*}.
+ * <p>
+ * Each client keeps its own pool of keep-alive connections, shared by every adapter
+ * call to that service, so a slow or failing service cannot exhaust the connections
+ * of another. How long idle connections are kept is not a per-client setting of the JDK
+ * client: it is the process-wide {@code -Djdk.httpclient.keepalive.timeout} (seconds),
+ * set on the java command line (see the Dockerfile).
+ * <p>
+ * With {@code spring.threads.virtual.enabled=true}, clients without dedicated
+ * {@code executor-threads} run their I/O and response handling on virtual threads.
+ */
+@Component
+public class DownstreamHttpClients implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DownstreamHttpClients.class);
+
+    private final Binder binder;
+    private final boolean virtualThreads;
+    private final Map<String, ClientHttpRequestFactory> requestFactories = new ConcurrentHashMap<>();
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+    public DownstreamHttpClients(Environment environment) {
+        this.binder = Binder.get(environment);
+        this.virtualThreads = binder.bind("spring.threads.virtual.enabled", Boolean.class).orElse(false);
+    }
+
+    /**
+     * Request factory of the given downstream service; built once, then shared.
+     *
+     * @param configKey key under {@code external-services}, e.g. "product"
+     */
+    public ClientHttpRequestFactory requestFactory(String configKey) {
+        return requestFactories.computeIfAbsent(configKey, this::createRequestFactory);
+    }
+
+    private ClientHttpRequestFactory createRequestFactory(String configKey) {
+        DownstreamHttpProperties properties = binder
+                .bind("external-services." + configKey + ".http", DownstreamHttpProperties.class)
+                .orElseGet(DownstreamHttpProperties::new);
+        Duration readTimeout = Duration.ofMillis(binder
+                .bind("external-services." + configKey + ".timeout", Integer.class)
+                .orElse(5000));
+
+        HttpClient.Builder client = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .version(properties.getVersion())
+                .followRedirects(HttpClient.Redirect.NEVER);
+        if (properties.getExecutorThreads() > 0) {
+            ExecutorService executor = Executors.newFixedThreadPool(properties.getExecutorThreads(),
+                    namedDaemonThreads("http-" + configKey + "-"));
+            executors.add(executor);
+            client.executor(executor);
+        } else if (virtualThreads) {
+            ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("http-" + configKey + "-", 1).factory());
+            executors.add(executor);
+            client.executor(executor);
+        }
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(client.build());
+        requestFactory.setReadTimeout(readTimeout);
+        log.info("HTTP client for {}: connectTimeout={}, readTimeout={}, version={}, virtualThreads={}", configKey,
+                properties.getConnectTimeout(), readTimeout, properties.getVersion(),
+                properties.getExecutorThreads() == 0 && virtualThreads);
+        return requestFactory;
+    }
+
+    @Override
+    public void destroy() {
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.sotatek.order.infrastructure.client;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * HTTP client settings of one downstream service, bound from
+ * {@code external-services.<name>.http.*}. The read timeout is the service's
+ * {@code timeout} (milliseconds). Unset values keep the defaults below.
+ */
+public class DownstreamHttpProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    // HTTP_2 is negotiated with ALPN over TLS, or by upgrade over plain HTTP;
+    // servers that do not support it are spoken to in HTTP/1.1
+    private HttpClient.Version version = HttpClient.Version.HTTP_1_1;
+    // Threads of a dedicated executor for the client's I/O and response handling;
+    // 0 uses the JDK client's default cached pool, or virtual threads in virtual-thread mode
+    private int executorThreads = 0;
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public HttpClient.Version getVersion() {
+        return version;
+    }
+
+    public void setVersion(HttpClient.Version version) {
+        this.version = version;
+    }
+
+    public int getExecutorThreads() {
+        return executorThreads;
+    }
+
+    public void setExecutorThreads(int executorThreads) {
+        this.executorThreads = executorThreads;
+    }
+}
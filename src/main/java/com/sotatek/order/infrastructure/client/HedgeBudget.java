@@ -0,0 +1,50 @@
+package com.sotatek.order.infrastructure.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket capping hedged requests to a fraction of all requests.
+ * <p>
+ * Every request earns {@code ratio} of a token, up to {@code maxTokens}; a hedge costs
+ * one token. Over time at most {@code ratio} extra requests per request are sent, and a
+ * sudden slowdown can only burst {@code maxTokens} hedges before the cap applies.
+ */
+public class HedgeBudget {
+
+    // Fixed point: 1 token = SCALE units
+    private static final long SCALE = 1_000_000;
+
+    private final long earnedPerRequest;
+    private final long maxUnits;
+    private final AtomicLong units = new AtomicLong();
+
+    public HedgeBudget(double ratio, int maxTokens) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Hedge budget ratio must be between 0 and 1");
+        }
+        this.earnedPerRequest = Math.round(ratio * SCALE);
+        this.maxUnits = maxTokens * SCALE;
+    }
+
+    /**
+     * Record one request.
+     */
+    public void onRequest() {
+        units.accumulateAndGet(earnedPerRequest, (current, earned) -> Math.min(maxUnits, current + earned));
+    }
+
+    /**
+     * Take one token for a hedge, if available.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long current = units.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (units.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+}
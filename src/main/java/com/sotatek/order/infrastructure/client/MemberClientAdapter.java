@@ -4,6 +4,8 @@ import com.sotatek.order.application.dto.MemberDto;
 import com.sotatek.order.application.exception.ExternalServiceException;
 import com.sotatek.order.application.port.out.MemberClientPort;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,6 +20,10 @@ import java.util.Optional;
 /**
  * HTTP Client adapter for Member Service.
  * Activated when: external-services.mock=false
+ * <p>
+ * Concurrent lookups of the same member share one outbound call, see {@link RequestCoalescer}.
+ * Outbound calls run under the Member Service bulkhead and circuit breaker, see {@link DownstreamGuard},
+ * and may be hedged, see {@link RequestHedger}.
  */
 @Component
 @ConditionalOnProperty(name = "external-services.mock", havingValue = "false")
@@ -25,19 +31,36 @@ public class MemberClientAdapter implements MemberClientPort {
 
     private static final Logger log = LoggerFactory.getLogger(MemberClientAdapter.class);
 
+    private static final String SERVICE_NAME = "MemberService";
+
     private final RestClient restClient;
+    private final RequestCoalescer<Long, Optional<MemberDto>> memberLookups;
+    private final DownstreamGuard guard;
+    private final RequestHedger hedger;
 
     public MemberClientAdapter(
             RestClient.Builder restClientBuilder,
-            @Value("${external-services.member.base-url}") String baseUrl,
-            @Value("${external-services.member.timeout:5000}") int timeout) {
-        this.restClient = restClientBuilder
+            MeterRegistry meterRegistry,
+            DownstreamGuards downstreamGuards,
+            DownstreamHttpClients httpClients,
+            RequestHedgers hedgers,
+            @Value("${external-services.member.base-url}") String baseUrl) {
+        this.restClient = restClientBuilder.clone()
+                .requestFactory(httpClients.requestFactory("member"))
                 .baseUrl(baseUrl)
                 .build();
+        this.memberLookups = new RequestCoalescer<>(SERVICE_NAME, "getMember", meterRegistry);
+        this.guard = downstreamGuards.forService("member", SERVICE_NAME);
+        this.hedger = hedgers.forOperation("member", SERVICE_NAME, "getMember");
     }
 
     @Override
     public Optional<MemberDto> getMember(Long memberId) {
+        return memberLookups.execute(memberId,
+                () -> hedger.execute(() -> guard.execute(() -> fetchMember(memberId))));
+    }
+
+    private Optional<MemberDto> fetchMember(Long memberId) {
         log.debug("Calling Member Service to get member id={}", memberId);
         try {
             MemberDto member = restClient.get()
@@ -58,7 +81,7 @@ public class MemberClientAdapter implements MemberClientPort {
             return Optional.empty();
         } catch (Exception e) {
             log.error("Error calling Member Service: {}", e.getMessage());
-            throw new ExternalServiceException("MemberService", "Failed to get member: " + e.getMessage(), e);
+            throw new ExternalServiceException(SERVICE_NAME, "Failed to get member: " + e.getMessage(), e);
         }
     }
 
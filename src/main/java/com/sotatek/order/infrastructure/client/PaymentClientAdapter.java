@@ -15,8 +15,13 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.Optional;
+
 /**
  * HTTP Client adapter for Payment Service.
+ * <p>
+ * Calls run under the Payment Service bulkhead and circuit breaker, see {@link DownstreamGuard}.
+ * A rejected payment is a normal answer and does not count as a failure.
  */
 @Component
 @ConditionalOnProperty(name = "external-services.mock", havingValue = "false")
@@ -24,19 +29,34 @@ public class PaymentClientAdapter implements PaymentClientPort {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentClientAdapter.class);
 
+    private static final String SERVICE_NAME = "PaymentService";
+
     private final RestClient restClient;
+    private final DownstreamGuard guard;
 
     public PaymentClientAdapter(
             RestClient.Builder restClientBuilder,
-            @Value("${external-services.payment.base-url}") String baseUrl,
-            @Value("${external-services.payment.timeout:5000}") int timeout) {
-        this.restClient = restClientBuilder
+            DownstreamGuards downstreamGuards,
+            DownstreamHttpClients httpClients,
+            @Value("${external-services.payment.base-url}") String baseUrl) {
+        this.restClient = restClientBuilder.clone()
+                .requestFactory(httpClients.requestFactory("payment"))
                 .baseUrl(baseUrl)
                 .build();
+        this.guard = downstreamGuards.forService("payment", SERVICE_NAME);
     }
 
     @Override
     public PaymentResponseDto createPayment(PaymentRequestDto request) {
+        return guard.execute(() -> sendPayment(request));
+    }
+
+    @Override
+    public Optional<PaymentResponseDto> getPayment(Long paymentId) {
+        return guard.execute(() -> fetchPayment(paymentId));
+    }
+
+    private PaymentResponseDto sendPayment(PaymentRequestDto request) {
         log.info("Calling Payment Service for orderId={}, amount={}", request.orderId(), request.amount());
         try {
             PaymentResponseDto response = restClient.post()
@@ -62,11 +82,34 @@ public class PaymentClientAdapter implements PaymentClientPort {
             throw new PaymentFailedException(request.orderId(), e.getMessage());
         } catch (Exception e) {
             log.error("Error calling Payment Service: {}", e.getMessage());
-            throw new ExternalServiceException("PaymentService", "Failed to process payment: " + e.getMessage(), e);
+            throw new ExternalServiceException(SERVICE_NAME, "Failed to process payment: " + e.getMessage(), e);
+        }
+    }
+
+    private Optional<PaymentResponseDto> fetchPayment(Long paymentId) {
+        log.debug("Calling Payment Service for paymentId={}", paymentId);
+        try {
+            PaymentResponseDto response = restClient.get()
+                    .uri("/api/payments/{paymentId}", paymentId)
+                    .retrieve()
+                    .onStatus(status -> status.value() == 404, (req, res) -> {
+                        throw new PaymentNotFoundException();
+                    })
+                    .body(PaymentResponseDto.class);
+            return Optional.ofNullable(response);
+
+        } catch (PaymentNotFoundException e) {
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Error calling Payment Service for paymentId={}: {}", paymentId, e.getMessage());
+            throw new ExternalServiceException(SERVICE_NAME, "Failed to get payment: " + e.getMessage(), e);
         }
     }
 
-    // Internal exception for flow control
+    // Internal exceptions for flow control
+    private static class PaymentNotFoundException extends RuntimeException {
+    }
+
     private static class PaymentRejectedException extends RuntimeException {
         PaymentRejectedException(String message) {
             super(message);
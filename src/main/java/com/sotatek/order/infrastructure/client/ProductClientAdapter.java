@@ -2,22 +2,50 @@ package com.sotatek.order.infrastructure.client;
 
 import com.sotatek.order.application.dto.ProductDto;
 import com.sotatek.order.application.dto.ProductStockDto;
+import com.sotatek.order.application.dto.ProductWithStockDto;
 import com.sotatek.order.application.exception.ExternalServiceException;
 import com.sotatek.order.application.port.out.ProductClientPort;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * HTTP Client adapter for Product Service.
  * Activated when: external-services.mock=false
+ * <p>
+ * Batch lookups use the bulk endpoints ({@code GET /api/products?ids=...} and
+ * {@code GET /api/products/stocks?ids=...}) in chunks of at most {@code max-size} IDs.
+ * If Product Service does not expose them, the adapter switches permanently to
+ * concurrent single calls.
+ * <p>
+ * Identical lookups that overlap in time (same product, or same set of IDs for bulk
+ * calls) share one outbound call, see {@link RequestCoalescer}. Outbound calls run
+ * under the Product Service bulkhead and circuit breaker, see {@link DownstreamGuard}.
+ * Single product and stock reads may be hedged, see {@link RequestHedger}.
  */
 @Component
 @ConditionalOnProperty(name = "external-services.mock", havingValue = "false")
@@ -25,19 +53,73 @@ public class ProductClientAdapter implements ProductClientPort {
 
     private static final Logger log = LoggerFactory.getLogger(ProductClientAdapter.class);
 
+    private static final String SERVICE_NAME = "ProductService";
+
+    // Statuses meaning the bulk endpoint does not exist; not 400, which a bad request to an
+    // existing endpoint also gets and would otherwise disable bulk calls for good
+    private static final Set<Integer> BULK_UNSUPPORTED_STATUSES = Set.of(404, 405, 501);
+
+    private static final ParameterizedTypeReference<List<ProductDto>> PRODUCT_LIST_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<List<ProductStockDto>> STOCK_LIST_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
     private final RestClient restClient;
+    private final ExecutorService lookupExecutor;
+    private final int maxBatchSize;
+    private final AtomicBoolean bulkEndpointAvailable;
+    private final RequestCoalescer<Long, Optional<ProductDto>> productLookups;
+    private final RequestCoalescer<Long, Optional<ProductStockDto>> stockLookups;
+    private final RequestCoalescer<List<Long>, Map<Long, ProductDto>> productBatches;
+    private final RequestCoalescer<List<Long>, Map<Long, ProductStockDto>> stockBatches;
+    private final DownstreamGuard guard;
+    private final RequestHedger productHedger;
+    private final RequestHedger stockHedger;
 
     public ProductClientAdapter(
             RestClient.Builder restClientBuilder,
+            @Qualifier("clientExecutor") ExecutorService lookupExecutor,
+            MeterRegistry meterRegistry,
+            DownstreamGuards downstreamGuards,
+            DownstreamHttpClients httpClients,
+            RequestHedgers hedgers,
             @Value("${external-services.product.base-url}") String baseUrl,
-            @Value("${external-services.product.timeout:5000}") int timeout) {
-        this.restClient = restClientBuilder
+            @Value("${external-services.product.batch.max-size:50}") int maxBatchSize,
+            @Value("${external-services.product.batch.bulk-endpoint-enabled:true}") boolean bulkEndpointEnabled) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("external-services.product.batch.max-size must be positive");
+        }
+        this.restClient = restClientBuilder.clone()
+                .requestFactory(httpClients.requestFactory("product"))
                 .baseUrl(baseUrl)
                 .build();
+        this.lookupExecutor = lookupExecutor;
+        this.maxBatchSize = maxBatchSize;
+        this.bulkEndpointAvailable = new AtomicBoolean(bulkEndpointEnabled);
+        this.productLookups = new RequestCoalescer<>(SERVICE_NAME, "getProduct", meterRegistry);
+        this.stockLookups = new RequestCoalescer<>(SERVICE_NAME, "getStock", meterRegistry);
+        this.productBatches = new RequestCoalescer<>(SERVICE_NAME, "getProducts", meterRegistry);
+        this.stockBatches = new RequestCoalescer<>(SERVICE_NAME, "getStocks", meterRegistry);
+        this.guard = downstreamGuards.forService("product", SERVICE_NAME);
+        this.productHedger = hedgers.forOperation("product", SERVICE_NAME, "getProduct");
+        this.stockHedger = hedgers.forOperation("product", SERVICE_NAME, "getStock");
     }
 
     @Override
     public Optional<ProductDto> getProduct(Long productId) {
+        return productLookups.execute(productId,
+                () -> productHedger.execute(() -> guard.execute(() -> fetchProduct(productId))));
+    }
+
+    @Override
+    public Optional<ProductStockDto> getStock(Long productId) {
+        return stockLookups.execute(productId,
+                () -> stockHedger.execute(() -> guard.execute(() -> fetchStock(productId))));
+    }
+
+    private Optional<ProductDto> fetchProduct(Long productId) {
         log.debug("Calling Product Service to get product id={}", productId);
         try {
             ProductDto product = restClient.get()
@@ -57,12 +139,11 @@ public class ProductClientAdapter implements ProductClientPort {
             return Optional.empty();
         } catch (Exception e) {
             log.error("Error calling Product Service: {}", e.getMessage());
-            throw new ExternalServiceException("ProductService", "Failed to get product: " + e.getMessage(), e);
+            throw new ExternalServiceException(SERVICE_NAME, "Failed to get product: " + e.getMessage(), e);
         }
     }
 
-    @Override
-    public Optional<ProductStockDto> getStock(Long productId) {
+    private Optional<ProductStockDto> fetchStock(Long productId) {
         log.debug("Calling Product Service to get stock for product id={}", productId);
         try {
             ProductStockDto stock = restClient.get()
@@ -82,11 +163,183 @@ public class ProductClientAdapter implements ProductClientPort {
             return Optional.empty();
         } catch (Exception e) {
             log.error("Error calling Product Service for stock: {}", e.getMessage());
-            throw new ExternalServiceException("ProductService", "Failed to get stock: " + e.getMessage(), e);
+            throw new ExternalServiceException(SERVICE_NAME, "Failed to get stock: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<Long, ProductDto> getProducts(Collection<Long> productIds) {
+        List<Long> ids = distinct(productIds);
+        return withBulkFallback(() -> merge(awaitAll(submitAll(productCalls(ids)))));
+    }
+
+    @Override
+    public Map<Long, ProductStockDto> getStocks(Collection<Long> productIds) {
+        List<Long> ids = distinct(productIds);
+        return withBulkFallback(() -> merge(awaitAll(submitAll(stockCalls(ids)))));
+    }
+
+    @Override
+    public Map<Long, ProductWithStockDto> getProductsWithStock(Collection<Long> productIds) {
+        List<Long> ids = distinct(productIds);
+        return withBulkFallback(() -> {
+            // Submit product and stock lookups together so they run side by side
+            List<Future<Map<Long, ProductDto>>> productFutures = submitAll(productCalls(ids));
+            List<Future<Map<Long, ProductStockDto>>> stockFutures = submitAll(stockCalls(ids));
+            try {
+                Map<Long, ProductDto> products = merge(awaitAll(productFutures));
+                Map<Long, ProductStockDto> stocks = merge(awaitAll(stockFutures));
+
+                Map<Long, ProductWithStockDto> result = new LinkedHashMap<>();
+                products.forEach((id, product) -> result.put(id, new ProductWithStockDto(product, stocks.get(id))));
+                return result;
+            } finally {
+                cancelAll(stockFutures);
+            }
+        });
+    }
+
+    // ==================== Batch helpers ====================
+
+    private List<Callable<Map<Long, ProductDto>>> productCalls(List<Long> ids) {
+        if (bulkEndpointAvailable.get()) {
+            return chunks(ids).stream()
+                    .<Callable<Map<Long, ProductDto>>>map(chunk -> () -> fetchProductBatch(chunk))
+                    .toList();
+        }
+        return ids.stream()
+                .<Callable<Map<Long, ProductDto>>>map(id -> () -> getProduct(id)
+                        .map(product -> Map.of(id, product))
+                        .orElse(Map.of()))
+                .toList();
+    }
+
+    private List<Callable<Map<Long, ProductStockDto>>> stockCalls(List<Long> ids) {
+        if (bulkEndpointAvailable.get()) {
+            return chunks(ids).stream()
+                    .<Callable<Map<Long, ProductStockDto>>>map(chunk -> () -> fetchStockBatch(chunk))
+                    .toList();
+        }
+        return ids.stream()
+                .<Callable<Map<Long, ProductStockDto>>>map(id -> () -> getStock(id)
+                        .map(stock -> Map.of(id, stock))
+                        .orElse(Map.of()))
+                .toList();
+    }
+
+    private Map<Long, ProductDto> fetchProductBatch(List<Long> ids) {
+        return productBatches.execute(batchKey(ids), () -> {
+            log.debug("Calling Product Service bulk endpoint for {} products", ids.size());
+            List<ProductDto> products = guard.execute(
+                    () -> fetchBatch("/api/products", ids, PRODUCT_LIST_TYPE, "products"));
+            return products.stream().collect(Collectors.toMap(ProductDto::id, product -> product, (a, b) -> a));
+        });
+    }
+
+    private Map<Long, ProductStockDto> fetchStockBatch(List<Long> ids) {
+        return stockBatches.execute(batchKey(ids), () -> {
+            log.debug("Calling Product Service bulk endpoint for stock of {} products", ids.size());
+            List<ProductStockDto> stocks = guard.execute(
+                    () -> fetchBatch("/api/products/stocks", ids, STOCK_LIST_TYPE, "stocks"));
+            return stocks.stream().collect(Collectors.toMap(ProductStockDto::productId, stock -> stock, (a, b) -> a));
+        });
+    }
+
+    // The same set of IDs in any order is the same bulk request
+    private static List<Long> batchKey(List<Long> ids) {
+        return ids.stream().sorted().toList();
+    }
+
+    private <T> List<T> fetchBatch(String path, List<Long> ids, ParameterizedTypeReference<List<T>> type,
+            String what) {
+        String joinedIds = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            List<T> body = restClient.get()
+                    // URI template keeps the ids out of the http.client.requests uri tag
+                    .uri(path + "?ids={ids}", joinedIds)
+                    .retrieve()
+                    .onStatus(status -> BULK_UNSUPPORTED_STATUSES.contains(status.value()), (request, response) -> {
+                        throw new BulkEndpointUnsupportedException();
+                    })
+                    .body(type);
+            return body != null ? body : List.of();
+
+        } catch (BulkEndpointUnsupportedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error calling Product Service bulk {}: {}", what, e.getMessage());
+            throw new ExternalServiceException(SERVICE_NAME, "Failed to get " + what + ": " + e.getMessage(), e);
+        }
+    }
+
+    private <T> T withBulkFallback(Supplier<T> lookup) {
+        try {
+            return lookup.get();
+        } catch (BulkEndpointUnsupportedException e) {
+            if (bulkEndpointAvailable.compareAndSet(true, false)) {
+                log.warn("Product Service has no bulk endpoint, falling back to concurrent single calls");
+            }
+            // Call lists are rebuilt from the flag, so this retry issues single calls
+            return lookup.get();
         }
     }
 
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += maxBatchSize) {
+            chunks.add(ids.subList(from, Math.min(from + maxBatchSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private <T> List<Future<T>> submitAll(List<Callable<T>> calls) {
+        List<Future<T>> futures = new ArrayList<>(calls.size());
+        for (Callable<T> call : calls) {
+            futures.add(lookupExecutor.submit(call));
+        }
+        return futures;
+    }
+
+    private <T> List<T> awaitAll(List<Future<T>> futures) {
+        try {
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(SERVICE_NAME, "Interrupted while waiting for Product Service", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ExternalServiceException(SERVICE_NAME, "Failed to call Product Service: " + e.getMessage(), e);
+        } finally {
+            // No-op for completed calls; stops outstanding ones after a failure or interrupt
+            cancelAll(futures);
+        }
+    }
+
+    private static <T> void cancelAll(List<Future<T>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private static <V> Map<Long, V> merge(List<Map<Long, V>> parts) {
+        Map<Long, V> merged = new LinkedHashMap<>();
+        parts.forEach(merged::putAll);
+        return merged;
+    }
+
+    private static List<Long> distinct(Collection<Long> productIds) {
+        return productIds.stream().distinct().toList();
+    }
+
     // Internal exception for flow control
     private static class ProductNotFoundException extends RuntimeException {
     }
+
+    // Internal exception for flow control: bulk endpoint is not exposed by Product Service
+    private static class BulkEndpointUnsupportedException extends RuntimeException {
+    }
 }
@@ -0,0 +1,139 @@
+package com.sotatek.order.infrastructure.client;
+
+import com.sotatek.order.application.exception.ExternalServiceException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for downstream lookups: concurrent calls with the same key share one
+ * outbound call and its result or failure.
+ * <p>
+ * Only calls overlapping in time are merged; the result is not kept once the call
+ * completes, so this is not a cache. Counts executed and collapsed calls in
+ * {@code external.client.calls}, tagged by service, operation and outcome.
+ *
+ * @param <K> key identifying identical requests
+ * @param <V> call result
+ */
+public class RequestCoalescer<K, V> {
+
+    static final String METRIC_NAME = "external.client.calls";
+
+    private final String serviceName;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public RequestCoalescer(String serviceName, String operation, MeterRegistry meterRegistry) {
+        this.serviceName = serviceName;
+        this.executed = counter(meterRegistry, serviceName, operation, "executed");
+        this.coalesced = counter(meterRegistry, serviceName, operation, "coalesced");
+    }
+
+    /**
+     * Run the call, or wait for the identical call already in flight.
+     * <p>
+     * A call that fails because its caller was interrupted (e.g. the caller's future was
+     * cancelled) is not shared: the callers waiting on it start the call again instead.
+     *
+     * @throws ExternalServiceException if interrupted while waiting for another caller's call
+     */
+    public V execute(K key, Supplier<V> call) {
+        while (true) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+            if (running == null) {
+                return run(key, mine, call);
+            }
+            coalesced.increment();
+            try {
+                return await(running);
+            } catch (LeaderInterruptedException e) {
+                // Retry, possibly as the caller running the call
+            }
+        }
+    }
+
+    private V run(K key, CompletableFuture<V> mine, Supplier<V> call) {
+        executed.increment();
+        V result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            // Later callers start a new call instead of reusing this result
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(isInterruption(e) ? new LeaderInterruptedException() : e);
+            throw e;
+        }
+        inFlight.remove(key, mine);
+        mine.complete(result);
+        return result;
+    }
+
+    /**
+     * Number of distinct calls currently in flight.
+     */
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(serviceName, "Interrupted while waiting for " + serviceName, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ExternalServiceException(serviceName, "Failed to call " + serviceName, cause);
+        }
+    }
+
+    private static boolean isInterruption(Throwable failure) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof InterruptedIOException
+                    || cause instanceof ClosedByInterruptException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String serviceName, String operation,
+            String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .description("Downstream lookups, executed or collapsed into an identical in-flight call")
+                .tag("service", serviceName)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Handed to waiting callers when the call failed only because its caller was interrupted.
+     */
+    private static final class LeaderInterruptedException extends RuntimeException {
+
+        private LeaderInterruptedException() {
+            super(null, null, false, false);
+        }
+    }
+}
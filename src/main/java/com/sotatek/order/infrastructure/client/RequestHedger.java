@@ -0,0 +1,161 @@
+package com.sotatek.order.infrastructure.client;
+
+import com.sotatek.order.application.exception.ExternalServiceException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Hedged requests for idempotent downstream reads: if the call has not answered after
+ * {@code delay}, a second identical call is sent and whichever answers first wins; the
+ * other is cancelled (interrupted).
+ * <p>
+ * Hedging only targets latency: a call that fails before the delay is not retried.
+ * Hedges are capped by a {@link HedgeBudget} shared by all operations of the service.
+ * The executor must reject tasks when saturated rather than run them on the caller:
+ * a rejected hedge is skipped, and a rejected call runs on the caller without a hedge.
+ * Counts hedges in {@code external.client.hedges}, tagged by service, operation and
+ * outcome (sent, won, skipped when the budget is exhausted or the executor saturated).
+ *
+ * @see RequestHedgers
+ */
+public class RequestHedger {
+
+    static final String METRIC_NAME = "external.client.hedges";
+
+    private final String serviceName;
+    private final long delayNanos;
+    private final HedgeBudget budget;
+    private final Executor executor;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter skipped;
+
+    private RequestHedger() {
+        this.serviceName = null;
+        this.delayNanos = 0;
+        this.budget = null;
+        this.executor = null;
+        this.sent = null;
+        this.won = null;
+        this.skipped = null;
+    }
+
+    /**
+     * Hedger that runs every call once, on the caller's thread.
+     */
+    public static RequestHedger disabled() {
+        return new RequestHedger();
+    }
+
+    public RequestHedger(String serviceName, String operation, Duration delay, HedgeBudget budget,
+            Executor executor, MeterRegistry meterRegistry) {
+        this.serviceName = serviceName;
+        this.delayNanos = delay.toNanos();
+        this.budget = budget;
+        this.executor = executor;
+        this.sent = counter(meterRegistry, serviceName, operation, "sent");
+        this.won = counter(meterRegistry, serviceName, operation, "won");
+        this.skipped = counter(meterRegistry, serviceName, operation, "skipped");
+    }
+
+    /**
+     * Run the call, hedging it once if it is slow.
+     *
+     * @throws ExternalServiceException if interrupted while waiting
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (budget == null) {
+            return call.get();
+        }
+        budget.onRequest();
+        CompletionService<T> attempts = new ExecutorCompletionService<>(executor);
+        Future<T> primary;
+        try {
+            primary = attempts.submit(call::get);
+        } catch (RejectedExecutionException e) {
+            skipped.increment();
+            return call.get();
+        }
+        Future<T> hedge = null;
+        try {
+            Future<T> first = attempts.poll(delayNanos, TimeUnit.NANOSECONDS);
+            if (first == null) {
+                hedge = submitHedge(attempts, call);
+                first = attempts.take();
+            }
+
+            try {
+                T result = first.get();
+                if (first == hedge) {
+                    won.increment();
+                }
+                return result;
+            } catch (ExecutionException e) {
+                if (hedge == null) {
+                    throw e;
+                }
+                // One attempt failed; the other may still answer
+                Future<T> second = attempts.take();
+                T result = second.get();
+                if (second == hedge) {
+                    won.increment();
+                }
+                return result;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(serviceName, "Interrupted while waiting for " + serviceName, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ExternalServiceException(serviceName, "Failed to call " + serviceName, cause);
+        } finally {
+            // No-op for the winner; interrupts the losing call
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private <T> Future<T> submitHedge(CompletionService<T> attempts, Supplier<T> call) {
+        if (!budget.tryAcquire()) {
+            skipped.increment();
+            return null;
+        }
+        try {
+            Future<T> hedge = attempts.submit(call::get);
+            sent.increment();
+            return hedge;
+        } catch (RejectedExecutionException e) {
+            skipped.increment();
+            return null;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String serviceName, String operation,
+            String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .description("Hedged downstream reads: second calls sent, won, or skipped (budget or executor)")
+                .tag("service", serviceName)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.sotatek.order.infrastructure.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates {@link RequestHedger}s from {@code external-services.<name>.hedging.*}:
+ * {@code enabled} (default false), {@code delay} (default 100ms; set it near the
+ * observed p95 of the call), {@code budget-ratio} (max extra load, default 0.05) and
+ * {@code budget-burst} (hedges allowed in a sudden slowdown, default 10).
+ * All operations of one service share its budget.
+ */
+@Component
+public class RequestHedgers {
+
+    private final Binder binder;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HedgeBudget> budgets = new ConcurrentHashMap<>();
+
+    public RequestHedgers(
+            Environment environment,
+            @Qualifier("hedgingExecutor") ExecutorService executor,
+            MeterRegistry meterRegistry) {
+        this.binder = Binder.get(environment);
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param configKey   key under {@code external-services}, e.g. "product"
+     * @param serviceName name used in errors and metrics, e.g. "ProductService"
+     * @param operation   operation tag, e.g. "getProduct"
+     * @return the hedger; a pass-through one if hedging is disabled for the service
+     */
+    public RequestHedger forOperation(String configKey, String serviceName, String operation) {
+        String prefix = "external-services." + configKey + ".hedging.";
+        if (!binder.bind(prefix + "enabled", Boolean.class).orElse(false)) {
+            return RequestHedger.disabled();
+        }
+        Duration delay = binder.bind(prefix + "delay", Duration.class).orElse(Duration.ofMillis(100));
+        HedgeBudget budget = budgets.computeIfAbsent(configKey, key -> new HedgeBudget(
+                binder.bind(prefix + "budget-ratio", Double.class).orElse(0.05),
+                binder.bind(prefix + "budget-burst", Integer.class).orElse(10)));
+        return new RequestHedger(serviceName, operation, delay, budget, executor, meterRegistry);
+    }
+}
@@ -0,0 +1,124 @@
+package com.sotatek.order.infrastructure.client.cache;
+
+import com.sotatek.order.application.dto.CacheStatsDto;
+import com.sotatek.order.application.dto.MemberDto;
+import com.sotatek.order.application.port.out.CacheControlPort;
+import com.sotatek.order.application.port.out.MemberClientPort;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Caching decorator for MemberClientPort.
+ * <ul>
+ * <li>Bounded size with W-TinyLFU eviction (Caffeine).</li>
+ * <li>Found members live for {@code ttl}; "not found" answers only for the shorter
+ * {@code negativeTtl}, so a newly registered member becomes visible quickly.</li>
+ * <li>Entries older than {@code refreshAfter} are reloaded in the background on
+ * the next read while the current value is still served (refresh-ahead).</li>
+ * <li>Concurrent misses for the same member share one downstream call.</li>
+ * <li>Loads run on {@code refreshExecutor}, never inside the cache's map lock, so a
+ * virtual thread waiting for Member Service does not pin its carrier.</li>
+ * </ul>
+ * Downstream failures are not cached; a failed refresh keeps the current value.
+ */
+public class CachingMemberClientAdapter implements MemberClientPort, CacheControlPort {
+
+    public static final String CACHE_NAME = "members";
+
+    private final LoadingCache<Long, Optional<MemberDto>> cache;
+
+    public CachingMemberClientAdapter(
+            MemberClientPort delegate,
+            long maximumSize,
+            Duration ttl,
+            Duration negativeTtl,
+            Duration refreshAfter,
+            Executor refreshExecutor,
+            Ticker ticker) {
+        if (refreshAfter.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("Member cache refresh-after must be shorter than ttl");
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new MemberExpiry(ttl, negativeTtl))
+                .refreshAfterWrite(refreshAfter)
+                .executor(refreshExecutor)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync(delegate::getMember)
+                .synchronous();
+    }
+
+    @Override
+    public Optional<MemberDto> getMember(Long memberId) {
+        return cache.get(memberId);
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(Long memberId) {
+        cache.invalidate(memberId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(
+                CACHE_NAME,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.loadFailureCount());
+    }
+
+    /**
+     * Expiry depending on whether the member was found.
+     */
+    private static final class MemberExpiry implements Expiry<Long, Optional<MemberDto>> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        private MemberExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long memberId, Optional<MemberDto> member, long currentTime) {
+            return member.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long memberId, Optional<MemberDto> member, long currentTime,
+                long currentDuration) {
+            // A refresh restarts the lifetime of the entry
+            return expireAfterCreate(memberId, member, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long memberId, Optional<MemberDto> member, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.sotatek.order.infrastructure.client.cache;
+
+import com.sotatek.order.application.dto.CacheStatsDto;
+import com.sotatek.order.application.dto.ProductDto;
+import com.sotatek.order.application.dto.ProductStockDto;
+import com.sotatek.order.application.dto.ProductWithStockDto;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.port.out.CacheControlPort;
+import com.sotatek.order.application.port.out.ProductClientPort;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Caching decorator for product info (name, price, status) of ProductClientPort.
+ * <ul>
+ * <li>Entries younger than {@code ttl} are served directly.</li>
+ * <li>Entries within {@code staleWhileRevalidate} after that are served as is while
+ * a background refresh is started (at most one per product).</li>
+ * <li>If Product Service fails, entries within {@code staleIfError} after the TTL are
+ * served instead of the error.</li>
+ * </ul>
+ * Stock is deliberately NOT cached: it drives the available-stock check, so every
+ * {@code getStock}/{@code getStocks} call goes to Product Service. "Product not found"
+ * answers are not cached either.
+ */
+public class CachingProductClientAdapter implements ProductClientPort, CacheControlPort {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingProductClientAdapter.class);
+
+    public static final String CACHE_NAME = "products";
+
+    private final ProductClientPort delegate;
+    // Runs background refreshes and stock lookups alongside product loads
+    private final Executor executor;
+    private final Ticker ticker;
+    private final long ttlNanos;
+    private final long staleWhileRevalidateNanos;
+    private final long staleIfErrorNanos;
+    private final Cache<Long, CachedProduct> cache;
+    // Loads currently running, so concurrent misses and refreshes share one call
+    private final ConcurrentMap<Long, CompletableFuture<ProductDto>> inFlight = new ConcurrentHashMap<>();
+
+    public CachingProductClientAdapter(
+            ProductClientPort delegate,
+            long maximumSize,
+            Duration ttl,
+            Duration staleWhileRevalidate,
+            Duration staleIfError,
+            Executor executor,
+            Ticker ticker) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.ticker = ticker;
+        this.ttlNanos = ttl.toNanos();
+        this.staleWhileRevalidateNanos = staleWhileRevalidate.toNanos();
+        this.staleIfErrorNanos = staleIfError.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                // Keep entries as long as either stale window may still use them
+                .expireAfterWrite(ttl.plus(max(staleWhileRevalidate, staleIfError)))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<ProductDto> getProduct(Long productId) {
+        CachedProduct cached = cache.getIfPresent(productId);
+        long now = ticker.read();
+        if (cached != null && cached.isFresh(now)) {
+            return Optional.of(cached.product());
+        }
+        if (cached != null && cached.isWithinStaleWhileRevalidate(now)) {
+            refreshAsync(productId);
+            return Optional.of(cached.product());
+        }
+
+        try {
+            return Optional.ofNullable(load(productId));
+        } catch (ExternalServiceException e) {
+            if (cached != null && cached.isWithinStaleIfError(now)) {
+                log.warn("Product Service failed, serving stale product id={}: {}", productId, e.getMessage());
+                return Optional.of(cached.product());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Not cached: stock must be current for the available-stock check.
+     */
+    @Override
+    public Optional<ProductStockDto> getStock(Long productId) {
+        return delegate.getStock(productId);
+    }
+
+    @Override
+    public Map<Long, ProductDto> getProducts(Collection<Long> productIds) {
+        Lookup lookup = lookup(productIds);
+        if (lookup.missing().isEmpty()) {
+            return lookup.found();
+        }
+        return loadMissing(lookup);
+    }
+
+    /**
+     * Not cached: stock must be current for the available-stock check.
+     */
+    @Override
+    public Map<Long, ProductStockDto> getStocks(Collection<Long> productIds) {
+        return delegate.getStocks(productIds);
+    }
+
+    /**
+     * Product info comes from the cache where possible. Stock of every product is
+     * fetched side by side with the info of the products missing from the cache.
+     */
+    @Override
+    public Map<Long, ProductWithStockDto> getProductsWithStock(Collection<Long> productIds) {
+        Lookup lookup = lookup(productIds);
+        if (lookup.missing().isEmpty()) {
+            return combine(lookup.ids(), lookup.found(), delegate.getStocks(lookup.ids()));
+        }
+        CompletableFuture<Map<Long, ProductStockDto>> stocks =
+                CompletableFuture.supplyAsync(() -> delegate.getStocks(lookup.ids()), executor);
+        Map<Long, ProductDto> products = loadMissing(lookup);
+        return combine(lookup.ids(), products, join(stocks));
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(Long productId) {
+        cache.invalidate(productId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(
+                CACHE_NAME,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.loadFailureCount());
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * Load a product synchronously, joining a load already in flight for it.
+     */
+    private ProductDto load(Long productId) {
+        CompletableFuture<ProductDto> mine = new CompletableFuture<>();
+        CompletableFuture<ProductDto> running = inFlight.putIfAbsent(productId, mine);
+        if (running != null) {
+            return join(running);
+        }
+        runLoad(productId, mine);
+        return join(mine);
+    }
+
+    /**
+     * Start a background refresh unless one is already running for this product.
+     * Failures keep the current entry.
+     */
+    private void refreshAsync(Long productId) {
+        CompletableFuture<ProductDto> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(productId, mine) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> runLoad(productId, mine));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(productId, mine);
+            log.debug("Refresh of product id={} rejected: {}", productId, e.getMessage());
+        }
+    }
+
+    private void runLoad(Long productId, CompletableFuture<ProductDto> future) {
+        try {
+            ProductDto product = delegate.getProduct(productId).orElse(null);
+            if (product != null) {
+                put(productId, product);
+            } else {
+                cache.invalidate(productId);
+            }
+            future.complete(product);
+        } catch (RuntimeException e) {
+            log.debug("Loading product id={} failed: {}", productId, e.getMessage());
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(productId, future);
+        }
+    }
+
+    private void put(Long productId, ProductDto product) {
+        cache.put(productId, new CachedProduct(product, ticker.read()));
+    }
+
+    /**
+     * Load the products missing from the cache in one call and merge them with the cached
+     * ones, in request order; stale entries stand in if Product Service fails.
+     */
+    private Map<Long, ProductDto> loadMissing(Lookup lookup) {
+        Map<Long, ProductDto> loaded;
+        try {
+            loaded = delegate.getProducts(lookup.missing());
+        } catch (ExternalServiceException e) {
+            return staleOrThrow(lookup, e);
+        }
+        loaded.forEach(this::put);
+
+        Map<Long, ProductDto> result = new LinkedHashMap<>();
+        for (Long id : lookup.ids()) {
+            ProductDto product = lookup.found().containsKey(id) ? lookup.found().get(id) : loaded.get(id);
+            if (product != null) {
+                result.put(id, product);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Split IDs into products usable from cache and products that must be loaded.
+     */
+    private Lookup lookup(Collection<Long> productIds) {
+        List<Long> ids = productIds.stream().distinct().toList();
+        long now = ticker.read();
+        Map<Long, ProductDto> found = new LinkedHashMap<>();
+        Map<Long, CachedProduct> stale = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            CachedProduct cached = cache.getIfPresent(id);
+            if (cached != null && cached.isFresh(now)) {
+                found.put(id, cached.product());
+            } else if (cached != null && cached.isWithinStaleWhileRevalidate(now)) {
+                found.put(id, cached.product());
+                refreshAsync(id);
+            } else {
+                missing.add(id);
+                if (cached != null) {
+                    stale.put(id, cached);
+                }
+            }
+        }
+        return new Lookup(ids, found, missing, stale, now);
+    }
+
+    /**
+     * Serve every missing product from stale entries, or rethrow if any has none.
+     */
+    private Map<Long, ProductDto> staleOrThrow(Lookup lookup, ExternalServiceException e) {
+        Map<Long, ProductDto> result = new LinkedHashMap<>();
+        for (Long id : lookup.ids()) {
+            if (lookup.found().containsKey(id)) {
+                result.put(id, lookup.found().get(id));
+                continue;
+            }
+            CachedProduct cached = lookup.stale().get(id);
+            if (cached == null || !cached.isWithinStaleIfError(lookup.now())) {
+                throw e;
+            }
+            result.put(id, cached.product());
+        }
+        log.warn("Product Service failed, serving {} stale products: {}", lookup.missing().size(), e.getMessage());
+        return result;
+    }
+
+    private static Map<Long, ProductWithStockDto> combine(List<Long> ids, Map<Long, ProductDto> products,
+            Map<Long, ProductStockDto> stocks) {
+        Map<Long, ProductWithStockDto> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            ProductDto product = products.get(id);
+            if (product != null) {
+                result.put(id, new ProductWithStockDto(product, stocks.get(id)));
+            }
+        }
+        return result;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private record Lookup(List<Long> ids, Map<Long, ProductDto> found, List<Long> missing,
+            Map<Long, CachedProduct> stale, long now) {
+    }
+
+    private final class CachedProduct {
+
+        private final ProductDto product;
+        private final long loadedAt;
+
+        private CachedProduct(ProductDto product, long loadedAt) {
+            this.product = product;
+            this.loadedAt = loadedAt;
+        }
+
+        ProductDto product() {
+            return product;
+        }
+
+        boolean isFresh(long now) {
+            return now - loadedAt < ttlNanos;
+        }
+
+        boolean isWithinStaleWhileRevalidate(long now) {
+            return now - loadedAt < ttlNanos + staleWhileRevalidateNanos;
+        }
+
+        boolean isWithinStaleIfError(long now) {
+            return now - loadedAt < ttlNanos + staleIfErrorNanos;
+        }
+    }
+}
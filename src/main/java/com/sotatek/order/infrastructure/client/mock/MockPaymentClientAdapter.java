@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * Mock implementation of PaymentClientPort.
@@ -59,4 +60,19 @@ public class MockPaymentClientAdapter implements PaymentClientPort {
                 "TXN-MOCK-SUCCESS-" + System.currentTimeMillis(),
                 LocalDateTime.now());
     }
+
+    /**
+     * Pending mock payments always settle as COMPLETED.
+     */
+    @Override
+    public Optional<PaymentResponseDto> getPayment(Long paymentId) {
+        log.info("[MOCK] Getting payment id={}", paymentId);
+        return Optional.of(new PaymentResponseDto(
+                paymentId,
+                null,
+                null,
+                "COMPLETED",
+                "TXN-MOCK-SUCCESS-" + paymentId,
+                LocalDateTime.now()));
+    }
 }
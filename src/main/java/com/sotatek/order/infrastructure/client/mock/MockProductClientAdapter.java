@@ -2,6 +2,7 @@ package com.sotatek.order.infrastructure.client.mock;
 
 import com.sotatek.order.application.dto.ProductDto;
 import com.sotatek.order.application.dto.ProductStockDto;
+import com.sotatek.order.application.dto.ProductWithStockDto;
 import com.sotatek.order.application.port.out.ProductClientPort;
 
 import org.slf4j.Logger;
@@ -10,6 +11,10 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -76,4 +81,33 @@ public class MockProductClientAdapter implements ProductClientPort {
             }
         };
     }
+
+    @Override
+    public Map<Long, ProductDto> getProducts(Collection<Long> productIds) {
+        log.info("[MOCK] Getting {} products in batch", productIds.size());
+        Map<Long, ProductDto> products = new LinkedHashMap<>();
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            getProduct(productId).ifPresent(product -> products.put(productId, product));
+        }
+        return products;
+    }
+
+    @Override
+    public Map<Long, ProductStockDto> getStocks(Collection<Long> productIds) {
+        log.info("[MOCK] Getting stock for {} products in batch", productIds.size());
+        Map<Long, ProductStockDto> stocks = new LinkedHashMap<>();
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            getStock(productId).ifPresent(stock -> stocks.put(productId, stock));
+        }
+        return stocks;
+    }
+
+    @Override
+    public Map<Long, ProductWithStockDto> getProductsWithStock(Collection<Long> productIds) {
+        Map<Long, ProductStockDto> stocks = getStocks(productIds);
+        Map<Long, ProductWithStockDto> result = new LinkedHashMap<>();
+        getProducts(productIds).forEach((productId, product) -> result.put(
+                productId, new ProductWithStockDto(product, stocks.get(productId))));
+        return result;
+    }
 }
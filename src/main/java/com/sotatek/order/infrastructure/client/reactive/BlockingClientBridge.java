@@ -0,0 +1,58 @@
+package com.sotatek.order.infrastructure.client.reactive;
+
+import com.sotatek.order.application.dto.MemberDto;
+import com.sotatek.order.application.dto.PaymentRequestDto;
+import com.sotatek.order.application.dto.PaymentResponseDto;
+import com.sotatek.order.application.dto.ProductWithStockDto;
+import com.sotatek.order.application.port.out.MemberClientPort;
+import com.sotatek.order.application.port.out.PaymentClientPort;
+import com.sotatek.order.application.port.out.ProductClientPort;
+import com.sotatek.order.application.port.out.ReactiveMemberClientPort;
+import com.sotatek.order.application.port.out.ReactivePaymentClientPort;
+import com.sotatek.order.application.port.out.ReactiveProductClientPort;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Reactive client ports backed by the blocking ones, each call on {@code scheduler}.
+ * Activated when: order.create.mode=reactive and external-services.mock=true, so the
+ * reactive pipeline runs against the mock adapters.
+ */
+public class BlockingClientBridge
+        implements ReactiveMemberClientPort, ReactiveProductClientPort, ReactivePaymentClientPort {
+
+    private final MemberClientPort memberClient;
+    private final ProductClientPort productClient;
+    private final PaymentClientPort paymentClient;
+    private final Scheduler scheduler;
+
+    public BlockingClientBridge(MemberClientPort memberClient, ProductClientPort productClient,
+            PaymentClientPort paymentClient, Scheduler scheduler) {
+        this.memberClient = memberClient;
+        this.productClient = productClient;
+        this.paymentClient = paymentClient;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<MemberDto> getMember(Long memberId) {
+        return Mono.fromCallable(() -> memberClient.getMember(memberId).orElse(null))
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Map<Long, ProductWithStockDto>> getProductsWithStock(Collection<Long> productIds) {
+        return Mono.fromCallable(() -> productClient.getProductsWithStock(productIds))
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<PaymentResponseDto> createPayment(PaymentRequestDto request) {
+        return Mono.fromCallable(() -> paymentClient.createPayment(request))
+                .subscribeOn(scheduler);
+    }
+}
@@ -0,0 +1,84 @@
+package com.sotatek.order.infrastructure.client.reactive;
+
+import com.sotatek.order.infrastructure.client.DownstreamHttpProperties;
+
+import io.netty.channel.ChannelOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Non-blocking HTTP clients of the reactive Create Order pipeline: one WebClient and
+ * connection pool per downstream service, all on one small shared event loop.
+ * <p>
+ * Settings come from the same keys as the blocking clients
+ * ({@code external-services.<name>.base-url}, {@code timeout} and {@code http.connect-timeout});
+ * each pool holds up to {@code order.create.reactive.max-connections} connections.
+ */
+public class ReactiveHttpClients implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveHttpClients.class);
+
+    private final Binder binder;
+    private final WebClient.Builder webClientBuilder;
+    private final LoopResources eventLoop;
+    private final int maxConnections;
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    public ReactiveHttpClients(Environment environment, WebClient.Builder webClientBuilder, int eventLoopThreads,
+            int maxConnections) {
+        this.binder = Binder.get(environment);
+        this.webClientBuilder = webClientBuilder;
+        this.eventLoop = LoopResources.create("order-event-loop", eventLoopThreads, true);
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * WebClient of the given downstream service.
+     *
+     * @param configKey key under {@code external-services}, e.g. "product"
+     */
+    public WebClient webClient(String configKey) {
+        String prefix = "external-services." + configKey;
+        String baseUrl = binder.bind(prefix + ".base-url", String.class).get();
+        DownstreamHttpProperties properties = binder.bind(prefix + ".http", DownstreamHttpProperties.class)
+                .orElseGet(DownstreamHttpProperties::new);
+        Duration responseTimeout = Duration.ofMillis(binder.bind(prefix + ".timeout", Integer.class).orElse(5000));
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("reactive-" + configKey)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(responseTimeout)
+                .build();
+        connectionProviders.add(connectionProvider);
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .runOn(eventLoop)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(responseTimeout);
+
+        log.info("Reactive HTTP client for {}: connectTimeout={}, responseTimeout={}, maxConnections={}", configKey,
+                properties.getConnectTimeout(), responseTimeout, maxConnections);
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(baseUrl)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+        eventLoop.dispose();
+    }
+}
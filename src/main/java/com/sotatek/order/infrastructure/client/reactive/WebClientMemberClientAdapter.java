@@ -0,0 +1,47 @@
+package com.sotatek.order.infrastructure.client.reactive;
+
+import com.sotatek.order.application.dto.MemberDto;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.port.out.ReactiveMemberClientPort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking HTTP client adapter for Member Service.
+ * Activated when: order.create.mode=reactive and external-services.mock=false
+ */
+public class WebClientMemberClientAdapter implements ReactiveMemberClientPort {
+
+    private static final Logger log = LoggerFactory.getLogger(WebClientMemberClientAdapter.class);
+
+    private static final String SERVICE_NAME = "MemberService";
+
+    private final WebClient webClient;
+
+    public WebClientMemberClientAdapter(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @Override
+    public Mono<MemberDto> getMember(Long memberId) {
+        log.debug("Calling Member Service to get member id={}", memberId);
+        return webClient.get()
+                .uri("/api/members/{memberId}", memberId)
+                .retrieve()
+                .onStatus(status -> status.value() == 404, response -> Mono.error(new MemberNotFoundException()))
+                .bodyToMono(MemberDto.class)
+                .onErrorResume(MemberNotFoundException.class, e -> Mono.empty())
+                .onErrorMap(e -> !(e instanceof ExternalServiceException), e -> {
+                    log.error("Error calling Member Service: {}", e.getMessage());
+                    return new ExternalServiceException(SERVICE_NAME, "Failed to get member: " + e.getMessage(), e);
+                });
+    }
+
+    // Internal exception for flow control
+    private static class MemberNotFoundException extends RuntimeException {
+    }
+}
@@ -0,0 +1,55 @@
+package com.sotatek.order.infrastructure.client.reactive;
+
+import com.sotatek.order.application.dto.PaymentRequestDto;
+import com.sotatek.order.application.dto.PaymentResponseDto;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.exception.PaymentFailedException;
+import com.sotatek.order.application.port.out.ReactivePaymentClientPort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking HTTP client adapter for Payment Service.
+ * Activated when: order.create.mode=reactive and external-services.mock=false
+ */
+public class WebClientPaymentClientAdapter implements ReactivePaymentClientPort {
+
+    private static final Logger log = LoggerFactory.getLogger(WebClientPaymentClientAdapter.class);
+
+    private static final String SERVICE_NAME = "PaymentService";
+
+    private final WebClient webClient;
+
+    public WebClientPaymentClientAdapter(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @Override
+    public Mono<PaymentResponseDto> createPayment(PaymentRequestDto request) {
+        log.info("Calling Payment Service for orderId={}, amount={}", request.orderId(), request.amount());
+        return webClient.post()
+                .uri("/api/payments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.value() == 422,
+                        response -> Mono.error(new PaymentFailedException(request.orderId(),
+                                "Payment rejected by payment service")))
+                .onStatus(status -> status.value() == 400,
+                        response -> Mono.error(new PaymentFailedException(request.orderId(),
+                                "Invalid payment request")))
+                .bodyToMono(PaymentResponseDto.class)
+                .doOnNext(response -> log.info("Payment Service response: status={}, transactionId={}",
+                        response.status(), response.transactionId()))
+                .onErrorMap(e -> !(e instanceof PaymentFailedException || e instanceof ExternalServiceException), e -> {
+                    log.error("Error calling Payment Service: {}", e.getMessage());
+                    return new ExternalServiceException(SERVICE_NAME, "Failed to process payment: " + e.getMessage(),
+                            e);
+                });
+    }
+}
@@ -0,0 +1,160 @@
+package com.sotatek.order.infrastructure.client.reactive;
+
+import com.sotatek.order.application.dto.ProductDto;
+import com.sotatek.order.application.dto.ProductStockDto;
+import com.sotatek.order.application.dto.ProductWithStockDto;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.port.out.ReactiveProductClientPort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking HTTP client adapter for Product Service.
+ * Activated when: order.create.mode=reactive and external-services.mock=false
+ * <p>
+ * Same lookup strategy as the blocking adapter: bulk endpoints in chunks of at most
+ * {@code max-size} IDs, switching permanently to single calls if Product Service does
+ * not expose them. At most {@code concurrency} calls per lookup are in flight.
+ */
+public class WebClientProductClientAdapter implements ReactiveProductClientPort {
+
+    private static final Logger log = LoggerFactory.getLogger(WebClientProductClientAdapter.class);
+
+    private static final String SERVICE_NAME = "ProductService";
+
+    // Statuses meaning the bulk endpoint does not exist (path falls through to /{productId})
+    private static final Set<Integer> BULK_UNSUPPORTED_STATUSES = Set.of(400, 404, 405, 501);
+
+    private static final ParameterizedTypeReference<List<ProductDto>> PRODUCT_LIST_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<List<ProductStockDto>> STOCK_LIST_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final int maxBatchSize;
+    private final int concurrency;
+    private final AtomicBoolean bulkEndpointAvailable;
+
+    public WebClientProductClientAdapter(WebClient webClient, int maxBatchSize, boolean bulkEndpointEnabled,
+            int concurrency) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("external-services.product.batch.max-size must be positive");
+        }
+        this.webClient = webClient;
+        this.maxBatchSize = maxBatchSize;
+        this.concurrency = concurrency;
+        this.bulkEndpointAvailable = new AtomicBoolean(bulkEndpointEnabled);
+    }
+
+    @Override
+    public Mono<Map<Long, ProductWithStockDto>> getProductsWithStock(Collection<Long> productIds) {
+        List<Long> ids = productIds.stream().distinct().toList();
+        return Mono.defer(() -> lookup(ids))
+                .onErrorResume(BulkEndpointUnsupportedException.class, e -> {
+                    if (bulkEndpointAvailable.compareAndSet(true, false)) {
+                        log.warn("Product Service has no bulk endpoint, falling back to concurrent single calls");
+                    }
+                    return lookup(ids);
+                })
+                .onErrorMap(e -> !(e instanceof ExternalServiceException), e -> {
+                    log.error("Error calling Product Service: {}", e.getMessage());
+                    return new ExternalServiceException(SERVICE_NAME, "Failed to get products: " + e.getMessage(), e);
+                });
+    }
+
+    /**
+     * Product and stock lookups side by side, combined per product.
+     */
+    private Mono<Map<Long, ProductWithStockDto>> lookup(List<Long> ids) {
+        boolean bulk = bulkEndpointAvailable.get();
+        Mono<Map<Long, ProductDto>> products = bulk
+                ? merge(chunks(ids), chunk -> fetchBatch("/api/products", chunk, PRODUCT_LIST_TYPE)
+                        .map(list -> toMap(list, ProductDto::id)))
+                : merge(ids, id -> fetchSingle("/api/products/{productId}", id, ProductDto.class)
+                        .map(product -> Map.of(id, product)));
+        Mono<Map<Long, ProductStockDto>> stocks = bulk
+                ? merge(chunks(ids), chunk -> fetchBatch("/api/products/stocks", chunk, STOCK_LIST_TYPE)
+                        .map(list -> toMap(list, ProductStockDto::productId)))
+                : merge(ids, id -> fetchSingle("/api/products/{productId}/stock", id, ProductStockDto.class)
+                        .map(stock -> Map.of(id, stock)));
+
+        return Mono.zip(products, stocks, (productMap, stockMap) -> {
+            Map<Long, ProductWithStockDto> result = new LinkedHashMap<>();
+            for (Long id : ids) {
+                ProductDto product = productMap.get(id);
+                if (product != null) {
+                    result.put(id, new ProductWithStockDto(product, stockMap.get(id)));
+                }
+            }
+            return result;
+        });
+    }
+
+    private <T> Mono<T> fetchSingle(String path, Long productId, Class<T> type) {
+        return webClient.get()
+                .uri(path, productId)
+                .retrieve()
+                .onStatus(status -> status.value() == 404, response -> Mono.error(new ProductNotFoundException()))
+                .bodyToMono(type)
+                .onErrorResume(ProductNotFoundException.class, e -> Mono.empty());
+    }
+
+    private <T> Mono<List<T>> fetchBatch(String path, List<Long> ids, ParameterizedTypeReference<List<T>> type) {
+        String joinedIds = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return webClient.get()
+                // URI template keeps the ids out of the http.client.requests uri tag
+                .uri(path + "?ids={ids}", joinedIds)
+                .retrieve()
+                .onStatus(status -> BULK_UNSUPPORTED_STATUSES.contains(status.value()),
+                        response -> Mono.error(new BulkEndpointUnsupportedException()))
+                .bodyToMono(type)
+                .defaultIfEmpty(List.of());
+    }
+
+    /**
+     * Run one call per key, at most {@code concurrency} at a time, and merge the results.
+     */
+    private <K, V> Mono<Map<Long, V>> merge(List<K> keys, Function<K, Mono<Map<Long, V>>> call) {
+        return Flux.fromIterable(keys)
+                .flatMap(call, concurrency)
+                .<Map<Long, V>>collect(LinkedHashMap::new, Map::putAll);
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += maxBatchSize) {
+            chunks.add(ids.subList(from, Math.min(from + maxBatchSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static <V> Map<Long, V> toMap(List<V> values, Function<V, Long> id) {
+        return values.stream().collect(Collectors.toMap(id, value -> value, (a, b) -> a));
+    }
+
+    // Internal exception for flow control
+    private static class ProductNotFoundException extends RuntimeException {
+    }
+
+    // Internal exception for flow control: bulk endpoint is not exposed by Product Service
+    private static class BulkEndpointUnsupportedException extends RuntimeException {
+    }
+}
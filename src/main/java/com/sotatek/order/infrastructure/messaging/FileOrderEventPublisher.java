@@ -0,0 +1,62 @@
+package com.sotatek.order.infrastructure.messaging;
+
+import com.sotatek.order.application.dto.OrderEvent;
+import com.sotatek.order.application.port.out.OrderEventPublisherPort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File-based implementation of OrderEventPublisherPort for local testing.
+ * Appends each event payload as one JSON line, one write per batch. Writes are
+ * serialized with a lock rather than {@code synchronized}, so a virtual thread
+ * blocked on file I/O does not pin its carrier.
+ * Active when {@code order.outbox.publisher=file}.
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.publisher", havingValue = "file")
+public class FileOrderEventPublisher implements OrderEventPublisherPort {
+
+    private static final Logger log = LoggerFactory.getLogger(FileOrderEventPublisher.class);
+
+    private final Path file;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public FileOrderEventPublisher(@Value("${order.outbox.file.path:build/order-events.jsonl}") Path file) {
+        this.file = file;
+        log.info("Publishing order events to {}", file.toAbsolutePath());
+    }
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        for (OrderEvent event : events) {
+            lines.append(event.payload()).append('\n');
+        }
+        writeLock.lock();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write order events to " + file, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
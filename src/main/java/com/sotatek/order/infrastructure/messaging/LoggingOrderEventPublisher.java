@@ -0,0 +1,39 @@
+package com.sotatek.order.infrastructure.messaging;
+
+import com.sotatek.order.application.dto.OrderEvent;
+import com.sotatek.order.application.port.out.OrderEventPublisherPort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * In-process implementation of OrderEventPublisherPort for local runs and tests.
+ * Logs each event and re-publishes it as a Spring application event, so in-JVM
+ * listeners ({@code @EventListener OrderEvent}) can consume the stream.
+ * Active when {@code order.outbox.publisher=in-process} (default).
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.publisher", havingValue = "in-process", matchIfMissing = true)
+public class LoggingOrderEventPublisher implements OrderEventPublisherPort {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOrderEventPublisher.class);
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public LoggingOrderEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        for (OrderEvent event : events) {
+            log.info("Order event id={} type={} orderId={}", event.id(), event.type(), event.orderId());
+            applicationEventPublisher.publishEvent(event);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.sotatek.order.infrastructure.messaging;
+
+import com.sotatek.order.application.dto.OrderEvent;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.infrastructure.persistence.MemberOrderViewAdapter;
+import com.sotatek.order.infrastructure.persistence.OrderOutboxMapper;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the member order history read model (member_order_view) up to date from
+ * order events: every event carries the full order state, so each one replaces the
+ * row of its order if it is newer.
+ */
+@Component
+@ConditionalOnProperty(name = "order.member-order-view.enabled", havingValue = "true", matchIfMissing = true)
+public class MemberOrderViewProjection implements OrderEventProjection {
+
+    private final MemberOrderViewAdapter memberOrderView;
+
+    public MemberOrderViewProjection(MemberOrderViewAdapter memberOrderView) {
+        this.memberOrderView = memberOrderView;
+    }
+
+    @Override
+    public void apply(List<OrderEvent> events) {
+        // Only the latest state of each order in the batch needs writing
+        Map<Long, Order> latest = new LinkedHashMap<>();
+        for (OrderEvent event : events) {
+            Order order = OrderOutboxMapper.toOrder(event.payload());
+            latest.merge(order.getId(), order, (current, next) ->
+                    next.getVersion() > current.getVersion() ? next : current);
+        }
+        memberOrderView.upsertAll(latest.values());
+    }
+}
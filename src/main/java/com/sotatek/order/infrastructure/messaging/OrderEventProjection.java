@@ -0,0 +1,19 @@
+package com.sotatek.order.infrastructure.messaging;
+
+import com.sotatek.order.application.dto.OrderEvent;
+
+import java.util.List;
+
+/**
+ * Local read model fed from the order outbox. The relay applies each batch in its own
+ * transaction once the batch is published, so a failing projection never blocks
+ * publication; a failed batch is retried event by event, and events that still fail are
+ * only repaired by rebuilding the read model.
+ */
+public interface OrderEventProjection {
+
+    /**
+     * Apply a batch of events, in outbox order. May see an event again after a retry.
+     */
+    void apply(List<OrderEvent> events);
+}
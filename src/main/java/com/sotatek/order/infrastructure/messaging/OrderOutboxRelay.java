@@ -0,0 +1,185 @@
+package com.sotatek.order.infrastructure.messaging;
+
+import com.sotatek.order.application.dto.OrderEvent;
+import com.sotatek.order.application.port.out.OrderEventPublisherPort;
+import com.sotatek.order.infrastructure.persistence.OrderOutboxEntity;
+import com.sotatek.order.infrastructure.persistence.OrderOutboxJpaRepository;
+import com.sotatek.order.infrastructure.persistence.OrderOutboxMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the order outbox to the OrderEventPublisherPort.
+ * <p>
+ * Each batch is one short transaction: lock the oldest rows with
+ * {@code FOR UPDATE SKIP LOCKED} (so relays on several nodes never take the same rows),
+ * publish them, delete them. If publishing fails the transaction rolls back and the rows
+ * are retried on the next run, so delivery is at-least-once.
+ * <p>
+ * Once the batch has left the outbox it is applied to the local
+ * {@link OrderEventProjection}s, each in its own transaction, so a failing projection
+ * never holds back publication. A batch a projection fails on is retried event by event;
+ * events failing again are counted and left to the read model's consistency check and
+ * rebuild.
+ * <p>
+ * Metrics:
+ * <ul>
+ * <li>{@code order.outbox.events.published} / {@code order.outbox.publish.failures} - throughput</li>
+ * <li>{@code order.outbox.relay.batch} - time per batch (lock, publish, delete, project)</li>
+ * <li>{@code order.outbox.projection.failures} - events a projection could not apply</li>
+ * <li>{@code order.outbox.event.lag} - time from commit of the change to publication</li>
+ * <li>{@code order.outbox.oldest.age} - age of the oldest waiting event after the last run</li>
+ * </ul>
+ */
+@Component
+public class OrderOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderOutboxRelay.class);
+
+    private final OrderOutboxJpaRepository outboxRepository;
+    private final OrderEventPublisherPort publisher;
+    private final List<OrderEventProjection> projections;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter published;
+    private final Counter failures;
+    private final Counter projectionFailures;
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+
+    public OrderOutboxRelay(
+            OrderOutboxJpaRepository outboxRepository,
+            OrderEventPublisherPort publisher,
+            ObjectProvider<OrderEventProjection> projections,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${order.outbox.relay.max-batches-per-run:50}") int maxBatchesPerRun) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Outbox relay batch-size must be at least 1");
+        }
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.projections = projections.orderedStream().toList();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.published = Counter.builder("order.outbox.events.published")
+                .description("Order events published from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("order.outbox.publish.failures")
+                .description("Outbox batches that failed to publish and will be retried")
+                .register(meterRegistry);
+        this.projectionFailures = Counter.builder("order.outbox.projection.failures")
+                .description("Published events a local projection failed to apply")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.outbox.relay.batch")
+                .description("Time to lock, publish, delete and project one outbox batch")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("order.outbox.event.lag")
+                .description("Time from an order change to publication of its event")
+                .register(meterRegistry);
+        Gauge.builder("order.outbox.oldest.age", oldestAgeMillis, age -> age.get() / 1000.0)
+                .description("Age of the oldest unpublished event after the last relay run")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publish waiting events, batch by batch, until the outbox is empty, a batch fails
+     * or the per-run cap is reached.
+     *
+     * @return number of published events
+     */
+    public int relayPending() {
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int relayed = relayBatch();
+                total += relayed;
+                if (relayed < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Publishing order events failed, will retry: {}", e.getMessage());
+        }
+        updateOldestAge();
+        if (total > 0) {
+            log.debug("Relayed {} order events", total);
+        }
+        return total;
+    }
+
+    private int relayBatch() {
+        long start = System.nanoTime();
+        List<OrderEvent> events = transactionTemplate.execute(status -> {
+            List<OrderOutboxEntity> rows = outboxRepository.lockNextBatch(batchSize);
+            if (rows.isEmpty()) {
+                return List.<OrderEvent>of();
+            }
+            List<OrderEvent> batch = rows.stream().map(OrderOutboxMapper::toEvent).toList();
+            publisher.publish(batch);
+            outboxRepository.deleteAllInBatch(rows);
+            return batch;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        projections.forEach(projection -> project(projection, events));
+
+        batchTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        published.increment(events.size());
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> lagTimer.record(Duration.between(event.createdAt(), now)));
+        return events.size();
+    }
+
+    /**
+     * Apply published events to a projection. Never throws: the events are already
+     * published, so a failure here only leaves the read model behind.
+     */
+    private void project(OrderEventProjection projection, List<OrderEvent> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> projection.apply(events));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Projecting {} order events failed, retrying one by one: {}", events.size(), e.getMessage());
+        }
+        for (OrderEvent event : events) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> projection.apply(List.of(event)));
+            } catch (RuntimeException e) {
+                projectionFailures.increment();
+                log.error("Projecting order event id={} of order id={} failed, left to the rebuild: {}",
+                        event.id(), event.orderId(), e.getMessage());
+            }
+        }
+    }
+
+    private void updateOldestAge() {
+        long age = outboxRepository.findOldestCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+                .orElse(0L);
+        oldestAgeMillis.set(Math.max(age, 0));
+    }
+}
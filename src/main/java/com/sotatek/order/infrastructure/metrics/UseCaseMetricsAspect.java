@@ -0,0 +1,138 @@
+package com.sotatek.order.infrastructure.metrics;
+
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.exception.IdempotencyKeyInProgressException;
+import com.sotatek.order.application.exception.IdempotencyKeyMismatchException;
+import com.sotatek.order.application.exception.MemberValidationException;
+import com.sotatek.order.application.exception.PaymentFailedException;
+import com.sotatek.order.application.exception.ProductValidationException;
+import com.sotatek.order.application.service.IdempotentCreateOrderService;
+import com.sotatek.order.domain.exception.InvalidStateTransitionException;
+import com.sotatek.order.domain.exception.OrderNotFoundException;
+import com.sotatek.order.domain.exception.OrderVersionConflictException;
+import com.sotatek.order.domain.model.Order;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Times every use case ({@code execute*} methods of the application services).
+ * <p>
+ * {@code order.usecase} timer, tagged with:
+ * <ul>
+ * <li>{@code usecase}: service name without the "Service" suffix, e.g. CreateOrder</li>
+ * <li>{@code method}: the {@code execute*} method</li>
+ * <li>{@code outcome}: status of the returned order (confirmed, pending, failed, cancelled),
+ * replayed for an idempotent replay, success for other results, or the error category
+ * (validation_error, payment_failed, not_found, conflict, downstream_error, error)</li>
+ * </ul>
+ * Create Order also records the number of lines per order in {@code order.create.items}.
+ * Percentiles and histograms are configured under {@code management.metrics.distribution}.
+ */
+@Aspect
+@Component
+public class UseCaseMetricsAspect {
+
+    static final String TIMER_NAME = "order.usecase";
+    static final String ITEMS_SUMMARY_NAME = "order.create.items";
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary itemCount;
+
+    public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.itemCount = DistributionSummary.builder(ITEMS_SUMMARY_NAME)
+                .description("Order lines per Create Order request")
+                .baseUnit("items")
+                .register(meterRegistry);
+    }
+
+    @Around("execution(public * com.sotatek.order.application.service.*Service.execute*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = joinPoint.getSignature().getDeclaringType().getSimpleName().replaceFirst("Service$", "");
+        String method = joinPoint.getSignature().getName();
+        if (useCase.endsWith("CreateOrder") && !useCase.startsWith("Idempotent")) {
+            recordItemCount(joinPoint.getArgs());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, useCase, method, outcomeOf(e));
+            throw e;
+        }
+        if (result instanceof Mono<?> mono) {
+            // Time the pipeline from subscription to its outcome
+            return Mono.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return mono
+                        .doOnSuccess(value -> stop(subscribed, useCase, method, outcomeOf(value)))
+                        .doOnError(e -> stop(subscribed, useCase, method, outcomeOf(e)));
+            });
+        }
+        stop(sample, useCase, method, outcomeOf(result));
+        return result;
+    }
+
+    private void recordItemCount(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof List<?> items) {
+                itemCount.record(items.size());
+                return;
+            }
+        }
+    }
+
+    private void stop(Timer.Sample sample, String useCase, String method, String outcome) {
+        sample.stop(Timer.builder(TIMER_NAME)
+                .description("Use case latency by outcome")
+                .tag("usecase", useCase)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    static String outcomeOf(Object result) {
+        if (result instanceof Order order) {
+            return order.getStatus().name().toLowerCase(Locale.ROOT);
+        }
+        if (result instanceof IdempotentCreateOrderService.Result idempotent) {
+            return idempotent.replayed() ? "replayed" : outcomeOf(idempotent.order());
+        }
+        return "success";
+    }
+
+    static String outcomeOf(Throwable e) {
+        if (e instanceof MemberValidationException || e instanceof ProductValidationException
+                || e instanceof IdempotencyKeyMismatchException || e instanceof IllegalArgumentException) {
+            return "validation_error";
+        }
+        if (e instanceof PaymentFailedException) {
+            return "payment_failed";
+        }
+        if (e instanceof OrderNotFoundException) {
+            return "not_found";
+        }
+        if (e instanceof InvalidStateTransitionException || e instanceof OrderVersionConflictException
+                || e instanceof IdempotencyKeyInProgressException) {
+            return "conflict";
+        }
+        if (e instanceof ExternalServiceException) {
+            return "downstream_error";
+        }
+        return "error";
+    }
+}
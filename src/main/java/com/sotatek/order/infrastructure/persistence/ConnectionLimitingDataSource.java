@@ -0,0 +1,162 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource wrapper admitting at most {@code poolSize} borrowers at a time.
+ * <p>
+ * With virtual threads the request count is no longer capped by the Tomcat pool,
+ * so thousands of requests can reach the connection pool at once. Borrowers beyond
+ * the pool size wait here in FIFO order, for at most {@code maxWait}; once
+ * {@code maxWaiting} borrowers are queued, further ones fail at once with
+ * {@link SQLTransientConnectionException} instead of piling up behind the pool.
+ * <p>
+ * Closing it closes the wrapped pool, so the pool still shuts down with the context
+ * when this wrapper replaces it as the DataSource bean.
+ * <p>
+ * Metrics: {@code db.connection.limit.rejected} and {@code db.connection.limit.waiting}.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final long maxWaitNanos;
+    private final Counter rejected;
+
+    public ConnectionLimitingDataSource(DataSource target, int poolSize, int maxWaiting, Duration maxWait,
+            MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(poolSize, true);
+        this.maxWaiting = maxWaiting;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejected = Counter.builder("db.connection.limit.rejected")
+                .description("Connection requests rejected because too many were already waiting")
+                .register(meterRegistry);
+        Gauge.builder("db.connection.limit.waiting", permits, Semaphore::getQueueLength)
+                .description("Connection requests waiting for a free pool slot")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guard(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guard(() -> super.getConnection(username, password));
+    }
+
+    /**
+     * Throws no checked exception (a {@code close() throws Exception} trips {@code -Xlint:try}).
+     */
+    @Override
+    public void close() {
+        if (getTargetDataSource() instanceof AutoCloseable target) {
+            try {
+                target.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while closing the connection pool", e);
+            } catch (Exception e) {
+                throw new IllegalStateException("Closing the connection pool failed", e);
+            }
+        }
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.getQueueLength() >= maxWaiting) {
+            rejected.increment();
+            throw new SQLTransientConnectionException(
+                    "Connection pool saturated: " + maxWaiting + " requests already waiting");
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException(
+                        "No pool slot available within " + Duration.ofNanos(maxWaitNanos).toMillis() + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    /**
+     * Return the connection wrapped so closing it frees the slot, or free it now on failure.
+     */
+    private Connection guard(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ReleasingHandler(connection));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * Frees the slot on the first {@code close()}; everything else goes to the pooled connection.
+     */
+    private final class ReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode") && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.equals("close") && method.getParameterCount() == 0) {
+                try {
+                    target.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.IdempotencyFailure;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for an Idempotency-Key of a create-order request.
+ * The key is the primary key, so concurrent claims of the same key are resolved by
+ * the unique constraint.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at")
+})
+public class IdempotencyKeyEntity implements Persistable<String> {
+
+    public enum State {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private State state;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // When the current owner claimed the key; used to take over abandoned claims
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    // Error the first request ended with after creating its order, replayed to retries
+    @Enumerated(EnumType.STRING)
+    @Column(name = "failure_type", length = 32)
+    private IdempotencyFailure.Type failureType;
+
+    @Column(name = "failure_service", length = 64)
+    private String failureService;
+
+    @Column(name = "failure_message", length = 1000)
+    private String failureMessage;
+
+    // Always inserted with a plain INSERT (no merge/select), see isNew()
+    @Transient
+    private boolean isNew = true;
+
+    // JPA requires default constructor
+    protected IdempotencyKeyEntity() {
+    }
+
+    public IdempotencyKeyEntity(String key, String requestHash, LocalDateTime now) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.state = State.IN_PROGRESS;
+        this.createdAt = now;
+        this.lockedAt = now;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getters
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getLockedAt() {
+        return lockedAt;
+    }
+
+    public IdempotencyFailure getFailure() {
+        return failureType != null
+                ? new IdempotencyFailure(failureType, failureService, failureMessage)
+                : null;
+    }
+}
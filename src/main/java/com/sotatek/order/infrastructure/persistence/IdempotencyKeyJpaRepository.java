@@ -0,0 +1,54 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.IdempotencyFailure;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository for Idempotency-Keys.
+ */
+@Repository
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    @Modifying
+    @Query("update IdempotencyKeyEntity k set k.orderId = :orderId where k.key = :key")
+    int attachOrder(@Param("key") String key, @Param("orderId") Long orderId);
+
+    @Modifying
+    @Query("update IdempotencyKeyEntity k set k.state = :state where k.key = :key")
+    int updateState(@Param("key") String key, @Param("state") IdempotencyKeyEntity.State state);
+
+    @Modifying
+    @Query("update IdempotencyKeyEntity k set k.state = :state, k.failureType = :type, "
+            + "k.failureService = :service, k.failureMessage = :message where k.key = :key")
+    int completeWithFailure(@Param("key") String key, @Param("state") IdempotencyKeyEntity.State state,
+            @Param("type") IdempotencyFailure.Type type, @Param("service") String service,
+            @Param("message") String message);
+
+    /**
+     * Delete a claim that has no order yet.
+     */
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity k where k.key = :key and k.state = :inProgress and k.orderId is null")
+    int deleteUnbound(@Param("key") String key, @Param("inProgress") IdempotencyKeyEntity.State inProgress);
+
+    /**
+     * Take over a claim abandoned before any order was created (e.g. the instance
+     * crashed). Only one concurrent caller can succeed.
+     */
+    @Modifying
+    @Query("update IdempotencyKeyEntity k set k.lockedAt = :now where k.key = :key "
+            + "and k.state = :inProgress and k.orderId is null and k.lockedAt < :staleBefore")
+    int takeOver(@Param("key") String key, @Param("inProgress") IdempotencyKeyEntity.State inProgress,
+            @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Query("select k.key from IdempotencyKeyEntity k where k.createdAt < :cutoff order by k.createdAt")
+    List<String> findKeysCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
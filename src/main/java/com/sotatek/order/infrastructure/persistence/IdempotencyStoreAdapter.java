@@ -0,0 +1,156 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.IdempotencyClaim;
+import com.sotatek.order.application.dto.IdempotencyFailure;
+import com.sotatek.order.application.port.out.IdempotencyStorePort;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adapter implementing IdempotencyStorePort with a table keyed by the Idempotency-Key.
+ * <p>
+ * Claims are a plain INSERT: the primary key lets exactly one concurrent request win.
+ * Completed keys never change, so they are also kept (with the failure to replay, if
+ * any) in an in-memory front cache and replays skip the database. A claim whose lease
+ * expired is taken over if it has no order yet, and completed (replaying its order)
+ * otherwise.
+ */
+@Component
+public class IdempotencyStoreAdapter implements IdempotencyStorePort {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStoreAdapter.class);
+
+    private static final int MAX_FAILURE_MESSAGE_LENGTH = 1000;
+
+    private final IdempotencyKeyJpaRepository repository;
+    private final TransactionTemplate newTransaction;
+    private final Duration lease;
+    private final Cache<String, CompletedKey> completedKeys;
+
+    public IdempotencyStoreAdapter(
+            IdempotencyKeyJpaRepository repository,
+            PlatformTransactionManager transactionManager,
+            @Value("${order.idempotency.lease:30s}") Duration lease,
+            @Value("${order.idempotency.ttl:24h}") Duration ttl,
+            @Value("${order.idempotency.front-cache.max-size:10000}") long frontCacheSize) {
+        this.repository = repository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lease = lease;
+        this.completedKeys = Caffeine.newBuilder()
+                .maximumSize(frontCacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public IdempotencyClaim claim(String key, String requestHash) {
+        CompletedKey completed = completedKeys.getIfPresent(key);
+        if (completed != null) {
+            return completed.requestHash().equals(requestHash)
+                    ? new IdempotencyClaim(IdempotencyClaim.Status.COMPLETED, completed.orderId(), completed.failure())
+                    : IdempotencyClaim.of(IdempotencyClaim.Status.MISMATCH);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            // Own transaction: a failed insert must not poison the caller's session
+            newTransaction.executeWithoutResult(
+                    status -> repository.saveAndFlush(new IdempotencyKeyEntity(key, requestHash, now)));
+            return IdempotencyClaim.of(IdempotencyClaim.Status.ACQUIRED);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Idempotency-Key={} already claimed", key);
+        }
+        return newTransaction.execute(status -> existingClaim(key, requestHash, now));
+    }
+
+    @Override
+    @Transactional
+    public void attachOrder(String key, Long orderId) {
+        repository.attachOrder(key, orderId);
+    }
+
+    @Override
+    @Transactional
+    public void complete(String key) {
+        repository.updateState(key, IdempotencyKeyEntity.State.COMPLETED);
+    }
+
+    @Override
+    @Transactional
+    public void completeWithFailure(String key, IdempotencyFailure failure) {
+        String message = failure.message();
+        if (message != null && message.length() > MAX_FAILURE_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_FAILURE_MESSAGE_LENGTH);
+        }
+        repository.completeWithFailure(key, IdempotencyKeyEntity.State.COMPLETED, failure.type(),
+                failure.service(), message);
+    }
+
+    @Override
+    @Transactional
+    public void release(String key) {
+        repository.deleteUnbound(key, IdempotencyKeyEntity.State.IN_PROGRESS);
+    }
+
+    @Override
+    @Transactional
+    public int purgeCreatedBefore(LocalDateTime cutoff, int batchSize) {
+        List<String> keys = repository.findKeysCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        repository.deleteAllByIdInBatch(keys);
+        completedKeys.invalidateAll(keys);
+        return keys.size();
+    }
+
+    private IdempotencyClaim existingClaim(String key, String requestHash, LocalDateTime now) {
+        IdempotencyKeyEntity existing = repository.findById(key).orElse(null);
+        if (existing == null) {
+            // Released between our insert and this read; the client may simply retry
+            return IdempotencyClaim.of(IdempotencyClaim.Status.IN_PROGRESS);
+        }
+        if (!existing.getRequestHash().equals(requestHash)) {
+            return IdempotencyClaim.of(IdempotencyClaim.Status.MISMATCH);
+        }
+        if (existing.getState() == IdempotencyKeyEntity.State.COMPLETED) {
+            completedKeys.put(key, new CompletedKey(requestHash, existing.getOrderId(), existing.getFailure()));
+            return new IdempotencyClaim(IdempotencyClaim.Status.COMPLETED, existing.getOrderId(),
+                    existing.getFailure());
+        }
+        if (existing.getOrderId() != null && existing.getLockedAt().isBefore(now.minus(lease))) {
+            // The first request stopped after creating its order (e.g. crashed before completing
+            // the key); the order records the outcome, so replay it instead of paying again
+            log.warn("Completing abandoned Idempotency-Key={} of order id={}", key, existing.getOrderId());
+            repository.updateState(key, IdempotencyKeyEntity.State.COMPLETED);
+            completedKeys.put(key, new CompletedKey(requestHash, existing.getOrderId(), null));
+            return new IdempotencyClaim(IdempotencyClaim.Status.COMPLETED, existing.getOrderId());
+        }
+        if (existing.getOrderId() == null
+                && repository.takeOver(key, IdempotencyKeyEntity.State.IN_PROGRESS, now, now.minus(lease)) == 1) {
+            log.warn("Taking over abandoned Idempotency-Key={} claimed at {}", key, existing.getLockedAt());
+            return IdempotencyClaim.of(IdempotencyClaim.Status.ACQUIRED);
+        }
+        return new IdempotencyClaim(IdempotencyClaim.Status.IN_PROGRESS, existing.getOrderId());
+    }
+
+    private record CompletedKey(String requestHash, Long orderId, IdempotencyFailure failure) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.OrderListVersion;
+import com.sotatek.order.application.port.out.MemberOrderViewPort;
+import com.sotatek.order.domain.model.Order;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing MemberOrderViewPort on the member_order_view table, and writing
+ * it for the event projection and the rebuild.
+ * <p>
+ * Writes are guarded by the order version, so events relayed twice or out of order and
+ * a rebuild running next to the relay cannot move a row back in time: events only
+ * replace a row by a newer version, the rebuild also overwrites a row at the same
+ * version whose content differs from the order.
+ */
+@Component
+@Transactional(readOnly = true)
+public class MemberOrderViewAdapter implements MemberOrderViewPort {
+
+    // Columns of the read model; anything else (e.g. totalAmount) lives in the document
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "createdAt", "updatedAt");
+
+    private final MemberOrderViewJpaRepository repository;
+
+    public MemberOrderViewAdapter(MemberOrderViewJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public boolean supports(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()));
+    }
+
+    @Override
+    public Page<Order> findByMemberId(Long memberId, Pageable pageable) {
+        if (!supports(pageable.getSort())) {
+            throw new IllegalArgumentException("Unsupported sort for member order view: " + pageable.getSort());
+        }
+        return repository.findByMemberId(memberId, pageable).map(MemberOrderViewMapper::toDomain);
+    }
+
+    @Override
+    public OrderListVersion findListVersionByMemberId(Long memberId) {
+        return repository.findListVersionByMemberId(memberId);
+    }
+
+    /**
+     * Insert or replace the rows of the given orders from their events, keeping rows at
+     * the same or a newer version.
+     *
+     * @return number of rows written
+     */
+    @Transactional
+    public int upsertAll(Iterable<Order> orders) {
+        int written = 0;
+        for (Order order : orders) {
+            if (upsert(order)) {
+                written++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Insert or overwrite the rows of the given orders read from the order tables, keeping
+     * newer rows and rows that already match.
+     *
+     * @return number of rows written
+     */
+    @Transactional
+    public int rebuildAll(List<Order> orders) {
+        Map<Long, MemberOrderViewEntity> rows = repository.findAllById(
+                        orders.stream().map(Order::getId).toList()).stream()
+                .collect(Collectors.toMap(MemberOrderViewEntity::getId, Function.identity()));
+        int written = 0;
+        for (Order order : orders) {
+            MemberOrderViewEntity row = rows.get(order.getId());
+            String document = MemberOrderViewMapper.toDocument(order);
+            if (row == null) {
+                written += upsert(order) ? 1 : 0;
+            } else if (!matches(row, order, document) && repository.replaceIfNotNewer(order.getId(),
+                    order.getMemberId(), order.getCreatedAt(), order.getUpdatedAt(), order.getVersion(),
+                    document) > 0) {
+                written++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Whether the row holds exactly the given order.
+     */
+    static boolean matches(MemberOrderViewEntity row, Order order, String document) {
+        return row.getVersion().equals(order.getVersion())
+                && row.getMemberId().equals(order.getMemberId())
+                && row.getCreatedAt().equals(order.getCreatedAt())
+                && row.getUpdatedAt().equals(order.getUpdatedAt())
+                && row.getDocument().equals(document);
+    }
+
+    private boolean upsert(Order order) {
+        String document = MemberOrderViewMapper.toDocument(order);
+        if (repository.updateIfNewer(order.getId(), order.getUpdatedAt(), order.getVersion(), document) > 0) {
+            return true;
+        }
+        if (repository.existsById(order.getId())) {
+            return false;
+        }
+        // A concurrent insert of the same order fails this transaction only; the relay then
+        // retries event by event, and the retry finds the row and updates it if newer
+        repository.save(new MemberOrderViewEntity(order.getId(), order.getMemberId(), order.getCreatedAt(),
+                order.getUpdatedAt(), order.getVersion(), document));
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for one order in the member order history read model.
+ * Keyed by the order ID; status, amounts and items are kept as a compact JSON
+ * document (see MemberOrderViewMapper), so a history page is read from this table
+ * alone, without touching orders or order_items.
+ */
+@Entity
+@Table(name = "member_order_view", indexes = {
+        @Index(name = "idx_member_order_view_member_created_id", columnList = "member_id, created_at, order_id")
+})
+public class MemberOrderViewEntity implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Version of the order this row reflects; older versions never overwrite newer ones
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String document;
+
+    // Always inserted with a plain INSERT (no merge/select), see isNew()
+    @Transient
+    private boolean isNew = true;
+
+    // JPA requires default constructor
+    protected MemberOrderViewEntity() {
+    }
+
+    public MemberOrderViewEntity(Long id, Long memberId, LocalDateTime createdAt, LocalDateTime updatedAt,
+            Long version, String document) {
+        this.id = id;
+        this.memberId = memberId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+        this.document = document;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getters
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getDocument() {
+        return document;
+    }
+}
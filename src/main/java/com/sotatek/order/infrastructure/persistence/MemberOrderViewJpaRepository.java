@@ -0,0 +1,68 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.OrderListVersion;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository for the member order history read model.
+ */
+@Repository
+public interface MemberOrderViewJpaRepository extends JpaRepository<MemberOrderViewEntity, Long> {
+
+    Page<MemberOrderViewEntity> findByMemberId(Long memberId, Pageable pageable);
+
+    /**
+     * Count, latest update and version sum of a member's rows (conditional list GET).
+     */
+    @Query("select new com.sotatek.order.application.dto.OrderListVersion("
+            + "count(v), max(v.updatedAt), coalesce(sum(v.version), 0L)) "
+            + "from MemberOrderViewEntity v where v.memberId = :memberId")
+    OrderListVersion findListVersionByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * Replace the row of an order by a newer version. Only the mutable state changes;
+     * member and creation time of an order never do.
+     *
+     * @return number of updated rows; 0 if the row is missing or already at this version or newer
+     */
+    @Modifying
+    @Query("update MemberOrderViewEntity v set v.updatedAt = :updatedAt, v.version = :version, "
+            + "v.document = :document where v.id = :id and v.version < :version")
+    int updateIfNewer(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("version") Long version, @Param("document") String document);
+
+    /**
+     * Overwrite the row of an order with this version or a newer one (rebuild): repairs a
+     * row at the same version whose content drifted, but never moves a row back in time.
+     *
+     * @return number of updated rows; 0 if the row is missing or already at a newer version
+     */
+    @Modifying
+    @Query("update MemberOrderViewEntity v set v.memberId = :memberId, v.createdAt = :createdAt, "
+            + "v.updatedAt = :updatedAt, v.version = :version, v.document = :document "
+            + "where v.id = :id and v.version <= :version")
+    int replaceIfNotNewer(@Param("id") Long id, @Param("memberId") Long memberId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("version") Long version, @Param("document") String document);
+
+    /**
+     * Rows whose order no longer exists.
+     */
+    @Query("select v.id from MemberOrderViewEntity v "
+            + "where not exists (select o.id from OrderEntity o where o.id = v.id) order by v.id")
+    List<Long> findOrphanIds(Pageable pageable);
+
+    @Query("select count(v) from MemberOrderViewEntity v "
+            + "where not exists (select o.id from OrderEntity o where o.id = v.id)")
+    long countOrphans();
+}
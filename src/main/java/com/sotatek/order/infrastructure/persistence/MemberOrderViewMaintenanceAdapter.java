@@ -0,0 +1,207 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.MemberOrderViewDrift;
+import com.sotatek.order.application.dto.MemberOrderViewRebuild;
+import com.sotatek.order.application.port.out.MemberOrderViewMaintenancePort;
+import com.sotatek.order.domain.model.Order;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing MemberOrderViewMaintenancePort.
+ * <p>
+ * Both operations walk the orders table in primary key order, {@code chunk-size} orders
+ * at a time, each chunk in its own short transaction: the tables are never locked or
+ * read in one long transaction, and memory stays bounded by one chunk.
+ * <p>
+ * Metrics: {@code order.member_view.drift} (tag {@code kind}) - drift found by the last check.
+ */
+@Component
+public class MemberOrderViewMaintenanceAdapter implements MemberOrderViewMaintenancePort {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberOrderViewMaintenanceAdapter.class);
+
+    private static final int MAX_SAMPLE_IDS = 20;
+
+    private final OrderJpaRepository orderRepository;
+    private final MemberOrderViewJpaRepository viewRepository;
+    private final MemberOrderViewAdapter memberOrderView;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+    private final Duration grace;
+    private final Map<String, AtomicLong> lastDrift = Map.of(
+            "missing", new AtomicLong(),
+            "stale", new AtomicLong(),
+            "mismatched", new AtomicLong(),
+            "orphaned", new AtomicLong());
+
+    public MemberOrderViewMaintenanceAdapter(
+            OrderJpaRepository orderRepository,
+            MemberOrderViewJpaRepository viewRepository,
+            MemberOrderViewAdapter memberOrderView,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.member-order-view.chunk-size:500}") int chunkSize,
+            @Value("${order.member-order-view.check.grace:PT1M}") Duration grace) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Member order view chunk-size must be at least 1");
+        }
+        this.orderRepository = orderRepository;
+        this.viewRepository = viewRepository;
+        this.memberOrderView = memberOrderView;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.grace = grace;
+        lastDrift.forEach((kind, count) -> Gauge.builder("order.member_view.drift", count, AtomicLong::get)
+                .description("Rows of the member order view that differed from the orders at the last check")
+                .tag("kind", kind)
+                .register(meterRegistry));
+    }
+
+    @Override
+    public MemberOrderViewRebuild rebuild() {
+        long start = System.nanoTime();
+        long scanned = 0;
+        long written = 0;
+        Long lastId = 0L;
+        while (true) {
+            Long afterId = lastId;
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<Order> orders = nextChunk(afterId);
+                return new Chunk(orders, memberOrderView.rebuildAll(orders));
+            });
+            if (chunk == null || chunk.orders().isEmpty()) {
+                break;
+            }
+            scanned += chunk.orders().size();
+            written += chunk.written();
+            lastId = chunk.orders().get(chunk.orders().size() - 1).getId();
+            log.debug("Member order view rebuild at order {}: {} scanned, {} written", lastId, scanned, written);
+        }
+        long durationMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        log.info("Member order view rebuilt: {} orders scanned, {} rows written in {} ms",
+                scanned, written, durationMillis);
+        return new MemberOrderViewRebuild(scanned, written, durationMillis);
+    }
+
+    @Override
+    public MemberOrderViewDrift checkConsistency() {
+        LocalDateTime checkedAt = LocalDateTime.now();
+        LocalDateTime changedAfter = checkedAt.minus(grace);
+        DriftCounter drift = new DriftCounter();
+        Long lastId = 0L;
+        while (true) {
+            Long afterId = lastId;
+            List<Order> orders = readOnlyTransactionTemplate.execute(status -> {
+                List<Order> chunk = nextChunk(afterId);
+                compare(chunk, changedAfter, drift);
+                return chunk;
+            });
+            if (orders == null || orders.isEmpty()) {
+                break;
+            }
+            lastId = orders.get(orders.size() - 1).getId();
+        }
+        drift.orphaned = viewRepository.countOrphans();
+        if (drift.orphaned > 0) {
+            drift.sample(viewRepository.findOrphanIds(PageRequest.of(0, MAX_SAMPLE_IDS)));
+        }
+
+        MemberOrderViewDrift result = new MemberOrderViewDrift(drift.checked, drift.missing, drift.stale,
+                drift.mismatched, drift.orphaned, List.copyOf(drift.sample), checkedAt);
+        lastDrift.get("missing").set(result.missing());
+        lastDrift.get("stale").set(result.stale());
+        lastDrift.get("mismatched").set(result.mismatched());
+        lastDrift.get("orphaned").set(result.orphaned());
+        if (result.hasDrift()) {
+            log.warn("Member order view drift: {} orders checked, {} missing, {} stale, {} mismatched, "
+                            + "{} orphaned, e.g. orders {}", result.checkedOrders(), result.missing(), result.stale(),
+                    result.mismatched(), result.orphaned(), result.sampleOrderIds());
+        } else {
+            log.info("Member order view consistent: {} orders checked", result.checkedOrders());
+        }
+        return result;
+    }
+
+    /**
+     * The next chunk of orders after {@code afterId}, with their items.
+     */
+    private List<Order> nextChunk(Long afterId) {
+        List<Long> ids = orderRepository.findIdsAfterId(afterId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, OrderEntity> withItems = orderRepository.findWithItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(withItems::get)
+                .map(OrderMapper::toDomain)
+                .toList();
+    }
+
+    private void compare(List<Order> orders, LocalDateTime changedAfter, DriftCounter drift) {
+        Map<Long, MemberOrderViewEntity> rows = viewRepository.findAllById(
+                        orders.stream().map(Order::getId).toList()).stream()
+                .collect(Collectors.toMap(MemberOrderViewEntity::getId, Function.identity()));
+        for (Order order : orders) {
+            // Its event may not have been relayed yet
+            if (order.getUpdatedAt().isAfter(changedAfter)) {
+                continue;
+            }
+            drift.checked++;
+            MemberOrderViewEntity row = rows.get(order.getId());
+            if (row == null) {
+                drift.missing++;
+            } else if (row.getVersion() < order.getVersion()) {
+                drift.stale++;
+            } else if (!MemberOrderViewAdapter.matches(row, order, MemberOrderViewMapper.toDocument(order))) {
+                drift.mismatched++;
+            } else {
+                continue;
+            }
+            drift.sample(List.of(order.getId()));
+        }
+    }
+
+    private record Chunk(List<Order> orders, int written) {
+    }
+
+    private static final class DriftCounter {
+
+        private long checked;
+        private long missing;
+        private long stale;
+        private long mismatched;
+        private long orphaned;
+        private final List<Long> sample = new ArrayList<>();
+
+        private void sample(List<Long> orderIds) {
+            for (Long orderId : orderIds) {
+                if (sample.size() < MAX_SAMPLE_IDS) {
+                    sample.add(orderId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderItem;
+import com.sotatek.order.domain.model.OrderStatus;
+import com.sotatek.order.domain.model.PaymentMethod;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Mapper between Domain Order and MemberOrderViewEntity.
+ * <p>
+ * Columns hold what the history is filtered, sorted and versioned by; everything
+ * else is one JSON document per order, e.g.
+ * {@code {"status":"CONFIRMED","totalAmount":20.00,"paymentMethod":"CREDIT_CARD","paymentId":7,
+ * "items":[{"productId":101,"productName":"A","unitPrice":10.00,"quantity":2}]}}.
+ */
+public class MemberOrderViewMapper {
+
+    // Scale of the amount columns of orders and order_items, so documents built from an
+    // event and from the source tables are identical
+    private static final int AMOUNT_SCALE = 2;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private MemberOrderViewMapper() {
+        // Utility class
+    }
+
+    public static Order toDomain(MemberOrderViewEntity entity) {
+        Document document;
+        try {
+            document = OBJECT_MAPPER.readValue(entity.getDocument(), Document.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read member order view of order " + entity.getId(), e);
+        }
+        List<OrderItem> items = document.items().stream()
+                .map(item -> new OrderItem(item.productId(), item.productName(), item.unitPrice(), item.quantity()))
+                .toList();
+        return Order.reconstitute(
+                entity.getId(),
+                entity.getMemberId(),
+                items,
+                document.totalAmount(),
+                document.paymentMethod(),
+                document.status(),
+                document.paymentId(),
+                entity.getVersion(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+
+    public static String toDocument(Order order) {
+        List<Item> items = order.getItems().stream()
+                .map(item -> new Item(item.productId(), item.productName(), amount(item.unitPrice()), item.quantity()))
+                .toList();
+        Document document = new Document(
+                order.getStatus(),
+                amount(order.getTotalAmount()),
+                order.getPaymentMethod(),
+                order.getPaymentId(),
+                items);
+        try {
+            return OBJECT_MAPPER.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize member order view of order " + order.getId(), e);
+        }
+    }
+
+    private static BigDecimal amount(BigDecimal value) {
+        return value.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private record Document(
+            OrderStatus status,
+            BigDecimal totalAmount,
+            PaymentMethod paymentMethod,
+            Long paymentId,
+            List<Item> items) {
+    }
+
+    private record Item(Long productId, String productName, BigDecimal unitPrice, int quantity) {
+    }
+}
@@ -11,19 +11,31 @@ import java.util.List;
 
 /**
  * JPA Entity for Order.
+ * The schema is created by the migrations in db/migration; indexes are declared here too
+ * so the mapping documents them.
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // Keyset listing (see OrderKeysetQueries)
+        @Index(name = "idx_orders_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_orders_member_created_at_id", columnList = "member_id, created_at, id"),
+        @Index(name = "idx_orders_status_created_at_id", columnList = "status, created_at, id"),
+        // Payment reconciliation: only PENDING orders have a due time
+        @Index(name = "idx_orders_payment_check_due_at", columnList = "payment_check_due_at")
+})
 public class OrderEntity {
 
+    // Pooled sequence: IDs are reserved 50 at a time, so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "member_id", nullable = false)
     private Long memberId;
 
-    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    // Lazy: loaded explicitly (fetch join / entity graph) by the paths that need items
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<OrderItemEntity> items = new ArrayList<>();
 
     @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
@@ -40,6 +52,10 @@ public class OrderEntity {
     @Column(name = "payment_id")
     private Long paymentId;
 
+    // Next payment status check; set only while PENDING, null otherwise
+    @Column(name = "payment_check_due_at")
+    private LocalDateTime paymentCheckDueAt;
+
     @Version
     private Long version;
 
@@ -59,9 +75,13 @@ public class OrderEntity {
         updatedAt = LocalDateTime.now();
     }
 
+    // State changes are stamped by the domain; keeping that time makes the row agree with
+    // the outbox event of the change (and so with the member order view built from it)
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        if (updatedAt == null) {
+            updatedAt = LocalDateTime.now();
+        }
     }
 
     // Getters and Setters
@@ -127,6 +147,14 @@ public class OrderEntity {
         this.paymentId = paymentId;
     }
 
+    public LocalDateTime getPaymentCheckDueAt() {
+        return paymentCheckDueAt;
+    }
+
+    public void setPaymentCheckDueAt(LocalDateTime paymentCheckDueAt) {
+        this.paymentCheckDueAt = paymentCheckDueAt;
+    }
+
     public Long getVersion() {
         return version;
     }
@@ -7,11 +7,15 @@ import java.math.BigDecimal;
  * JPA Entity for OrderItem.
  */
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        // Items of an order: fetch joins, batched item loads and item counts
+        @Index(name = "idx_order_items_order_id", columnList = "order_id")
+})
 public class OrderItemEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,15 +1,139 @@
 package com.sotatek.order.infrastructure.persistence;
 
+import com.sotatek.order.application.dto.OrderItemSummary;
+import com.sotatek.order.application.dto.OrderListVersion;
+import com.sotatek.order.application.dto.OrderSummary;
+import com.sotatek.order.domain.model.OrderStatus;
+
+import jakarta.persistence.LockModeType;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Spring Data JPA Repository for Order.
  */
 @Repository
-public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
+public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long>, OrderKeysetQueries {
 
     Page<OrderEntity> findByMemberId(Long memberId, Pageable pageable);
+
+    /**
+     * Load one order together with its items in a single query.
+     */
+    @EntityGraph(attributePaths = "items")
+    Optional<OrderEntity> findWithItemsById(Long id);
+
+    /**
+     * Version of one order, read from the orders row only (conditional GET).
+     */
+    @Query("select o.version from OrderEntity o where o.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Count, latest update and version sum of a member's orders (conditional list GET).
+     * Reached through idx_orders_member_created_at_id; items are not read.
+     */
+    @Query("select new com.sotatek.order.application.dto.OrderListVersion("
+            + "count(o), max(o.updatedAt), coalesce(sum(o.version), 0L)) "
+            + "from OrderEntity o where o.memberId = :memberId")
+    OrderListVersion findListVersionByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * Page of order summaries projected from the orders rows; the item count is a
+     * correlated count on idx_order_items_order_id, items themselves are not read.
+     */
+    @Query(value = "select new com.sotatek.order.application.dto.OrderSummary(o.id, o.memberId, o.status, "
+            + "o.totalAmount, o.paymentMethod, size(o.items), o.createdAt, o.updatedAt) from OrderEntity o",
+            countQuery = "select count(o) from OrderEntity o")
+    Page<OrderSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Page of a member's order summaries, see {@link #findSummaries(Pageable)}.
+     */
+    @Query(value = "select new com.sotatek.order.application.dto.OrderSummary(o.id, o.memberId, o.status, "
+            + "o.totalAmount, o.paymentMethod, size(o.items), o.createdAt, o.updatedAt) from OrderEntity o "
+            + "where o.memberId = :memberId",
+            countQuery = "select count(o) from OrderEntity o where o.memberId = :memberId")
+    Page<OrderSummary> findSummariesByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * Lines of several orders projected from the order_items rows, in insertion order.
+     */
+    @Query("select new com.sotatek.order.application.dto.OrderItemSummary(i.order.id, i.productId, "
+            + "i.productName, i.unitPrice, i.quantity) from OrderItemEntity i where i.order.id in :orderIds "
+            + "order by i.id")
+    List<OrderItemSummary> findItemSummariesByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Load orders together with their items in a single query (second phase of paging).
+     */
+    @Query("select distinct o from OrderEntity o left join fetch o.items where o.id in :ids")
+    List<OrderEntity> findWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Next IDs in primary key order, to walk the whole table in chunks (read model rebuild).
+     */
+    @Query("select o.id from OrderEntity o where o.id > :afterId order by o.id")
+    List<Long> findIdsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Versioned update of the mutable order state, touching only the orders row.
+     *
+     * @return number of updated rows; 0 if the version no longer matches
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderEntity o set o.status = :status, o.paymentId = :paymentId, o.updatedAt = :updatedAt, "
+            + "o.paymentCheckDueAt = :paymentCheckDueAt, o.version = o.version + 1 "
+            + "where o.id = :id and o.version = :version")
+    int updateState(
+            @Param("id") Long id,
+            @Param("version") Long version,
+            @Param("status") OrderStatus status,
+            @Param("paymentId") Long paymentId,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("paymentCheckDueAt") LocalDateTime paymentCheckDueAt);
+
+    /**
+     * Lock the IDs of PENDING orders whose payment check is due, oldest due first.
+     * Range scan on idx_orders_payment_check_due_at; rows locked by another node are skipped.
+     */
+    @Query(value = "select id from orders where payment_check_due_at <= :dueBefore and status = 'PENDING' "
+            + "order by payment_check_due_at limit :limit for update skip locked", nativeQuery = true)
+    List<Long> lockDuePaymentChecks(@Param("dueBefore") LocalDateTime dueBefore, @Param("limit") int limit);
+
+    /**
+     * Postpone the next payment check of the given orders.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderEntity o set o.paymentCheckDueAt = :nextCheckAt where o.id in :ids")
+    int postponePaymentChecks(@Param("ids") Collection<Long> ids, @Param("nextCheckAt") LocalDateTime nextCheckAt);
+
+    /**
+     * Stop the payment checks of an order still in the given status and without a payment.
+     * Does not change the version.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderEntity o set o.paymentCheckDueAt = null "
+            + "where o.id = :id and o.status = :status and o.paymentId is null and o.paymentCheckDueAt is not null")
+    int stopPaymentCheck(@Param("id") Long id, @Param("status") OrderStatus status);
+
+    /**
+     * Load orders (without items) locked for update, for bulk state changes.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from OrderEntity o where o.id in :ids")
+    List<OrderEntity> findForUpdateByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,22 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.domain.model.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keyset (seek) queries on orders, added to OrderJpaRepository as a custom fragment.
+ */
+public interface OrderKeysetQueries {
+
+    /**
+     * IDs of orders sorted by (createdAt desc, id desc) that come after the given
+     * position. Only non-null filters are applied.
+     *
+     * @param afterCreatedAt createdAt of the last row already returned, or null for the first page
+     * @param afterId        id of the last row already returned, or null for the first page
+     */
+    List<Long> findIdsAfter(LocalDateTime afterCreatedAt, Long afterId, Long memberId, OrderStatus status,
+            int limit);
+}
@@ -0,0 +1,58 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.domain.model.OrderStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria-based implementation of OrderKeysetQueries.
+ * Only the filters actually given end up in the SQL, so each combination can use its
+ * index ({@code idx_orders_created_at_id}, {@code idx_orders_member_created_at_id},
+ * {@code idx_orders_status_created_at_id}).
+ */
+public class OrderKeysetQueriesImpl implements OrderKeysetQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIdsAfter(LocalDateTime afterCreatedAt, Long afterId, Long memberId, OrderStatus status,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<OrderEntity> order = query.from(OrderEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (memberId != null) {
+            predicates.add(cb.equal(order.get("memberId"), memberId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(order.get("status"), status));
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            // (created_at, id) < (:afterCreatedAt, :afterId)
+            predicates.add(cb.or(
+                    cb.lessThan(order.get("createdAt"), afterCreatedAt),
+                    cb.and(
+                            cb.equal(order.get("createdAt"), afterCreatedAt),
+                            cb.lessThan(order.get("id"), afterId))));
+        }
+
+        query.select(order.get("id"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(order.get("createdAt")), cb.desc(order.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
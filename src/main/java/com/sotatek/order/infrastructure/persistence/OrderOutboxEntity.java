@@ -0,0 +1,67 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.OrderEventType;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for an order event waiting in the transactional outbox.
+ * Rows are written in the same transaction as the order change and deleted once
+ * the relay has published them.
+ */
+@Entity
+@Table(name = "order_outbox")
+public class OrderOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq")
+    @SequenceGenerator(name = "order_outbox_seq", sequenceName = "order_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private OrderEventType eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // JPA requires default constructor
+    protected OrderOutboxEntity() {
+    }
+
+    public OrderOutboxEntity(Long orderId, OrderEventType eventType, String payload, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public OrderEventType getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA Repository for the order outbox.
+ */
+@Repository
+public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntity, Long> {
+
+    /**
+     * Lock the oldest events not locked by another relay. Rows locked by a concurrent
+     * relay are skipped instead of waited for, so several nodes drain in parallel.
+     */
+    @Query(value = "select * from order_outbox order by id limit :limit for update skip locked",
+            nativeQuery = true)
+    List<OrderOutboxEntity> lockNextBatch(@Param("limit") int limit);
+
+    /**
+     * Creation time of the oldest event still waiting (primary key lookup).
+     */
+    @Query(value = "select created_at from order_outbox order by id limit 1", nativeQuery = true)
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
@@ -0,0 +1,114 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.OrderEvent;
+import com.sotatek.order.application.dto.OrderEventType;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderItem;
+import com.sotatek.order.domain.model.OrderStatus;
+import com.sotatek.order.domain.model.PaymentMethod;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Mapper between Order changes, OrderOutboxEntity and OrderEvent.
+ */
+public class OrderOutboxMapper {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private OrderOutboxMapper() {
+        // Utility class
+    }
+
+    public static OrderOutboxEntity toEntity(Order order, OrderEventType eventType) {
+        return new OrderOutboxEntity(order.getId(), eventType, toPayload(order, eventType), LocalDateTime.now());
+    }
+
+    public static OrderEvent toEvent(OrderOutboxEntity entity) {
+        return new OrderEvent(
+                entity.getId(),
+                entity.getOrderId(),
+                entity.getEventType(),
+                entity.getPayload(),
+                entity.getCreatedAt());
+    }
+
+    /**
+     * Order state carried by an event payload.
+     *
+     * @throws IllegalStateException if the payload is not an order event
+     */
+    public static Order toOrder(String payload) {
+        Payload parsed;
+        try {
+            parsed = OBJECT_MAPPER.readValue(payload, Payload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read order event payload", e);
+        }
+        List<OrderItem> items = parsed.items().stream()
+                .map(item -> new OrderItem(item.productId(), item.productName(), item.unitPrice(), item.quantity()))
+                .toList();
+        return Order.reconstitute(
+                parsed.orderId(),
+                parsed.memberId(),
+                items,
+                parsed.totalAmount(),
+                PaymentMethod.valueOf(parsed.paymentMethod()),
+                OrderStatus.valueOf(parsed.status()),
+                parsed.paymentId(),
+                parsed.version(),
+                // Events written before createdAt was part of the payload
+                parsed.createdAt() != null ? parsed.createdAt() : parsed.occurredAt(),
+                parsed.occurredAt());
+    }
+
+    private static String toPayload(Order order, OrderEventType eventType) {
+        List<Item> items = order.getItems().stream()
+                .map(item -> new Item(item.productId(), item.productName(), item.unitPrice(), item.quantity()))
+                .toList();
+        Payload payload = new Payload(
+                eventType.name(),
+                order.getId(),
+                order.getMemberId(),
+                order.getStatus().name(),
+                order.getTotalAmount(),
+                order.getPaymentMethod().name(),
+                order.getPaymentId(),
+                order.getVersion(),
+                items,
+                order.getUpdatedAt(),
+                order.getCreatedAt());
+        try {
+            return OBJECT_MAPPER.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event for order " + order.getId(), e);
+        }
+    }
+
+    // Published contract: consumers order events of one order by version; fields are only added
+    private record Payload(
+            String eventType,
+            Long orderId,
+            Long memberId,
+            String status,
+            BigDecimal totalAmount,
+            String paymentMethod,
+            Long paymentId,
+            Long version,
+            List<Item> items,
+            LocalDateTime occurredAt,
+            LocalDateTime createdAt) {
+    }
+
+    private record Item(Long productId, String productName, BigDecimal unitPrice, int quantity) {
+    }
+}
@@ -1,48 +1,233 @@
 package com.sotatek.order.infrastructure.persistence;
 
+import com.sotatek.order.application.dto.OrderCursor;
+import com.sotatek.order.application.dto.OrderEventType;
+import com.sotatek.order.application.dto.OrderListVersion;
 import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.domain.exception.OrderVersionConflictException;
 import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderStatus;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Adapter implementing OrderRepositoryPort using JPA.
+ * <p>
+ * List paths load in two phases so the number of queries does not depend on the page
+ * size: the page of orders (plus the count query), then all their items with one
+ * fetch-join query.
+ * <p>
+ * Every save also writes the matching lifecycle event to the order outbox in the
+ * same transaction, so an event exists if and only if the change was committed.
  */
 @Component
+@Transactional(readOnly = true)
 public class OrderRepositoryAdapter implements OrderRepositoryPort {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderRepositoryAdapter.class);
+
     private final OrderJpaRepository jpaRepository;
+    private final OrderOutboxJpaRepository outboxRepository;
 
-    public OrderRepositoryAdapter(OrderJpaRepository jpaRepository) {
+    public OrderRepositoryAdapter(OrderJpaRepository jpaRepository, OrderOutboxJpaRepository outboxRepository) {
         this.jpaRepository = jpaRepository;
+        this.outboxRepository = outboxRepository;
     }
 
+    /**
+     * Each save is its own transaction unless the caller already has one open.
+     * <p>
+     * New orders are inserted with their items. Existing orders only change status,
+     * paymentId and updatedAt (items are immutable), so they get a single versioned
+     * UPDATE of the orders row instead of a merge that reloads and rewrites items.
+     *
+     * @throws OrderVersionConflictException if the order was modified since it was read
+     */
     @Override
+    @Transactional
     public Order save(Order order) {
-        OrderEntity entity = OrderMapper.toEntity(order);
-        OrderEntity savedEntity = jpaRepository.save(entity);
-        return OrderMapper.toDomain(savedEntity);
+        if (order.getId() == null) {
+            OrderEntity entity = OrderMapper.toEntity(order);
+            entity.setPaymentCheckDueAt(paymentCheckDueAt(order));
+            OrderEntity savedEntity = jpaRepository.save(entity);
+            Order saved = OrderMapper.toDomain(savedEntity);
+            outboxRepository.save(OrderOutboxMapper.toEntity(saved, OrderEventType.ORDER_CREATED));
+            return saved;
+        }
+
+        int updated = jpaRepository.updateState(
+                order.getId(),
+                order.getVersion(),
+                order.getStatus(),
+                order.getPaymentId(),
+                order.getUpdatedAt(),
+                paymentCheckDueAt(order));
+        if (updated == 0) {
+            throw new OrderVersionConflictException(order.getId(), order.getVersion());
+        }
+        Order saved = withNextVersion(order);
+        outboxRepository.save(OrderOutboxMapper.toEntity(saved, OrderEventType.forStatusChange(saved.getStatus())));
+        return saved;
+    }
+
+    /**
+     * Rows are locked while they are changed; Hibernate then writes them as one JDBC
+     * batch of versioned UPDATEs, and the outbox events as one batch of INSERTs.
+     */
+    @Override
+    @Transactional
+    public List<Order> saveAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, OrderEntity> entities = jpaRepository
+                .findForUpdateByIdIn(orders.stream().map(Order::getId).toList()).stream()
+                .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+
+        List<Order> saved = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            OrderEntity entity = entities.get(order.getId());
+            if (entity == null || !entity.getVersion().equals(order.getVersion())) {
+                log.debug("Skipping order id={}: modified since version {}", order.getId(), order.getVersion());
+                continue;
+            }
+            entity.setStatus(order.getStatus());
+            entity.setPaymentId(order.getPaymentId());
+            entity.setUpdatedAt(order.getUpdatedAt());
+            entity.setPaymentCheckDueAt(paymentCheckDueAt(order));
+            Order savedOrder = withNextVersion(order);
+            outboxRepository.save(
+                    OrderOutboxMapper.toEntity(savedOrder, OrderEventType.forStatusChange(savedOrder.getStatus())));
+            saved.add(savedOrder);
+        }
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<Order> claimDuePaymentChecks(LocalDateTime dueBefore, LocalDateTime nextCheckAt, int limit) {
+        List<Long> ids = jpaRepository.lockDuePaymentChecks(dueBefore, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        jpaRepository.postponePaymentChecks(ids, nextCheckAt);
+        return loadWithItems(ids);
+    }
+
+    @Override
+    @Transactional
+    public int flagForPaymentReview(List<Order> orders) {
+        int flagged = 0;
+        for (Order order : orders) {
+            if (jpaRepository.stopPaymentCheck(order.getId(), OrderStatus.PENDING) == 0) {
+                log.debug("Not flagging order id={}: paid or settled meanwhile", order.getId());
+                continue;
+            }
+            outboxRepository.save(OrderOutboxMapper.toEntity(order, OrderEventType.ORDER_PAYMENT_REVIEW_REQUIRED));
+            flagged++;
+        }
+        return flagged;
     }
 
     @Override
     public Optional<Order> findById(Long id) {
-        return jpaRepository.findById(id)
+        return jpaRepository.findWithItemsById(id)
                 .map(OrderMapper::toDomain);
     }
 
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public OrderListVersion findListVersionByMemberId(Long memberId) {
+        return jpaRepository.findListVersionByMemberId(memberId);
+    }
+
     @Override
     public Page<Order> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable)
-                .map(OrderMapper::toDomain);
+        return withItems(jpaRepository.findAll(pageable));
     }
 
     @Override
     public Page<Order> findByMemberId(Long memberId, Pageable pageable) {
-        return jpaRepository.findByMemberId(memberId, pageable)
-                .map(OrderMapper::toDomain);
+        return withItems(jpaRepository.findByMemberId(memberId, pageable));
+    }
+
+    @Override
+    public List<Order> findPageAfter(OrderCursor after, Long memberId, OrderStatus status, int limit) {
+        List<Long> ids = jpaRepository.findIdsAfter(
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                memberId,
+                status,
+                limit);
+        return loadWithItems(ids);
+    }
+
+    /**
+     * Second phase of paging: fetch items of all orders on the page at once,
+     * keeping the page order.
+     */
+    private Page<Order> withItems(Page<OrderEntity> page) {
+        if (page.isEmpty()) {
+            return page.map(OrderMapper::toDomain);
+        }
+        List<Long> ids = page.getContent().stream().map(OrderEntity::getId).toList();
+        return new PageImpl<>(loadWithItems(ids), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * A PENDING order needs its payment status checked, starting now; without a payment,
+     * reconciliation flags it for review once it is too old to still get one.
+     */
+    private static LocalDateTime paymentCheckDueAt(Order order) {
+        return order.getStatus() == OrderStatus.PENDING
+                ? order.getUpdatedAt()
+                : null;
+    }
+
+    private static Order withNextVersion(Order order) {
+        return Order.reconstitute(
+                order.getId(),
+                order.getMemberId(),
+                order.getItems(),
+                order.getTotalAmount(),
+                order.getPaymentMethod(),
+                order.getStatus(),
+                order.getPaymentId(),
+                order.getVersion() + 1,
+                order.getCreatedAt(),
+                order.getUpdatedAt());
+    }
+
+    /**
+     * Load orders with their items in one query, in the order of the given IDs.
+     */
+    private List<Order> loadWithItems(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, OrderEntity> withItems = jpaRepository.findWithItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(withItems::get)
+                .map(OrderMapper::toDomain)
+                .toList();
     }
 }
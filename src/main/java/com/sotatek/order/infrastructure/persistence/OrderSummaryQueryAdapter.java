@@ -0,0 +1,47 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.OrderItemSummary;
+import com.sotatek.order.application.dto.OrderSummary;
+import com.sotatek.order.application.port.out.OrderSummaryQueryPort;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing OrderSummaryQueryPort with JPQL constructor projections:
+ * no entities are managed, and no domain objects are rebuilt.
+ */
+@Component
+@Transactional(readOnly = true)
+public class OrderSummaryQueryAdapter implements OrderSummaryQueryPort {
+
+    private final OrderJpaRepository jpaRepository;
+
+    public OrderSummaryQueryAdapter(OrderJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Page<OrderSummary> findSummaries(Long memberId, Pageable pageable) {
+        return memberId != null
+                ? jpaRepository.findSummariesByMemberId(memberId, pageable)
+                : jpaRepository.findSummaries(pageable);
+    }
+
+    @Override
+    public Map<Long, List<OrderItemSummary>> findItems(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.findItemSummariesByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItemSummary::orderId, LinkedHashMap::new, Collectors.toList()));
+    }
+}
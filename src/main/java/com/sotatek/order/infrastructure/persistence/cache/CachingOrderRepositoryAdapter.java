@@ -0,0 +1,289 @@
+package com.sotatek.order.infrastructure.persistence.cache;
+
+import com.sotatek.order.application.dto.CacheStatsDto;
+import com.sotatek.order.application.dto.OrderCursor;
+import com.sotatek.order.application.dto.OrderListVersion;
+import com.sotatek.order.application.port.out.CacheControlPort;
+import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderStatus;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Caching decorator for OrderRepositoryPort, serving repeated reads of the same
+ * order by ID (e.g. the storefront polling an order after checkout) from memory.
+ * <ul>
+ * <li>Bounded by the estimated memory footprint of the cached orders ({@code maxWeightBytes}).</li>
+ * <li>CONFIRMED and CANCELLED orders no longer change and live for {@code terminalTtl};
+ * PENDING and FAILED orders only for the shorter {@code ttl}.</li>
+ * <li>Every save replaces the entry by a tombstone carrying the new version, locally and
+ * through the {@link OrderCacheInvalidationBus}. A read that loaded an older version
+ * (it raced with the save) is not cached; the next read loads the new version.
+ * Tombstones expire after {@code tombstoneTtl}, so a rolled back save cannot block
+ * caching for long.</li>
+ * <li>Each read returns its own copy, so callers may change it without affecting the cache.</li>
+ * </ul>
+ * Only {@link #findById} is cached, and {@link #findVersionById} answers from a cached
+ * copy when there is one; listings, claims and saves go to the delegate.
+ * Metrics: {@code cache.*} with {@code cache=orders}, and {@code order.cache.weight}.
+ */
+public class CachingOrderRepositoryAdapter implements OrderRepositoryPort, CacheControlPort {
+
+    public static final String CACHE_NAME = "orders";
+
+    // Rough heap footprint used for the weight bound
+    private static final int ORDER_BYTES = 512;
+    private static final int ITEM_BYTES = 192;
+    private static final int TOMBSTONE_BYTES = 64;
+
+    private final OrderRepositoryPort delegate;
+    private final OrderCacheInvalidationBus invalidationBus;
+    private final ConcurrentStatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final Cache<Long, Entry> cache;
+
+    public CachingOrderRepositoryAdapter(
+            OrderRepositoryPort delegate,
+            OrderCacheInvalidationBus invalidationBus,
+            long maxWeightBytes,
+            Duration ttl,
+            Duration terminalTtl,
+            Duration tombstoneTtl,
+            Ticker ticker,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.invalidationBus = invalidationBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long id, Entry entry) -> entry.weight())
+                .expireAfter(new EntryExpiry(ttl, terminalTtl, tombstoneTtl))
+                .ticker(ticker)
+                .recordStats(() -> statsCounter)
+                .build();
+        invalidationBus.subscribe(this::evictBefore);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("order.cache.weight", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Estimated heap footprint of the order read cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        // Read through the map view: a tombstone is a miss, so stats are recorded here
+        if (cache.asMap().get(id) instanceof Snapshot snapshot) {
+            statsCounter.recordHits(1);
+            return Optional.of(copy(snapshot.order()));
+        }
+        statsCounter.recordMisses(1);
+        Optional<Order> loaded = delegate.findById(id);
+        loaded.ifPresent(this::offer);
+        return loaded;
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        if (cache.asMap().get(id) instanceof Snapshot snapshot) {
+            return Optional.of(snapshot.version());
+        }
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public OrderListVersion findListVersionByMemberId(Long memberId) {
+        return delegate.findListVersionByMemberId(memberId);
+    }
+
+    @Override
+    public Order save(Order order) {
+        boolean isNew = order.getId() == null;
+        Order saved = delegate.save(order);
+        if (!isNew) {
+            invalidate(saved);
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        List<Order> saved = delegate.saveAll(orders);
+        saved.forEach(this::invalidate);
+        return saved;
+    }
+
+    @Override
+    public int flagForPaymentReview(List<Order> orders) {
+        return delegate.flagForPaymentReview(orders);
+    }
+
+    @Override
+    public Page<Order> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public Page<Order> findByMemberId(Long memberId, Pageable pageable) {
+        return delegate.findByMemberId(memberId, pageable);
+    }
+
+    @Override
+    public List<Order> findPageAfter(OrderCursor after, Long memberId, OrderStatus status, int limit) {
+        return delegate.findPageAfter(after, memberId, status, limit);
+    }
+
+    @Override
+    public List<Order> claimDuePaymentChecks(LocalDateTime dueBefore, LocalDateTime nextCheckAt, int limit) {
+        return delegate.claimDuePaymentChecks(dueBefore, nextCheckAt, limit);
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(Long orderId) {
+        cache.invalidate(orderId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(
+                CACHE_NAME,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.loadFailureCount());
+    }
+
+    private void invalidate(Order saved) {
+        evictBefore(saved.getId(), saved.getVersion());
+        invalidationBus.publish(saved.getId(), saved.getVersion());
+    }
+
+    /**
+     * Replace any copy older than {@code version} by a tombstone of that version.
+     */
+    private void evictBefore(Long orderId, long version) {
+        cache.asMap().compute(orderId, (id, current) ->
+                current != null && current.version() >= version ? current : new Tombstone(version));
+    }
+
+    /**
+     * Cache a loaded order unless a newer version is already known.
+     */
+    private void offer(Order order) {
+        if (order.getVersion() == null) {
+            return;
+        }
+        cache.asMap().compute(order.getId(), (id, current) ->
+                current != null && current.version() > order.getVersion() ? current : new Snapshot(copy(order)));
+    }
+
+    private static Order copy(Order order) {
+        return Order.reconstitute(
+                order.getId(),
+                order.getMemberId(),
+                order.getItems(),
+                order.getTotalAmount(),
+                order.getPaymentMethod(),
+                order.getStatus(),
+                order.getPaymentId(),
+                order.getVersion(),
+                order.getCreatedAt(),
+                order.getUpdatedAt());
+    }
+
+    private sealed interface Entry permits Snapshot, Tombstone {
+
+        long version();
+
+        int weight();
+    }
+
+    private record Snapshot(Order order) implements Entry {
+
+        @Override
+        public long version() {
+            return order.getVersion();
+        }
+
+        @Override
+        public int weight() {
+            return ORDER_BYTES + ITEM_BYTES * order.getItems().size();
+        }
+
+        boolean isTerminal() {
+            return order.getStatus() == OrderStatus.CONFIRMED || order.getStatus() == OrderStatus.CANCELLED;
+        }
+    }
+
+    private record Tombstone(long version) implements Entry {
+
+        @Override
+        public int weight() {
+            return TOMBSTONE_BYTES;
+        }
+    }
+
+    /**
+     * Expiry depending on the entry kind and order status.
+     */
+    private static final class EntryExpiry implements Expiry<Long, Entry> {
+
+        private final long ttlNanos;
+        private final long terminalTtlNanos;
+        private final long tombstoneTtlNanos;
+
+        private EntryExpiry(Duration ttl, Duration terminalTtl, Duration tombstoneTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.terminalTtlNanos = terminalTtl.toNanos();
+            this.tombstoneTtlNanos = tombstoneTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long id, Entry entry, long currentTime) {
+            if (entry instanceof Snapshot snapshot) {
+                return snapshot.isTerminal() ? terminalTtlNanos : ttlNanos;
+            }
+            return tombstoneTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long id, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long id, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
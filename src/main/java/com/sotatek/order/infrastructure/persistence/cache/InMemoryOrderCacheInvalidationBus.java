@@ -0,0 +1,35 @@
+package com.sotatek.order.infrastructure.persistence.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Single-node stand-in for the cross-node invalidation channel: invalidations are
+ * delivered synchronously to the listeners of this JVM only.
+ * Replace with a broker-backed bus (e.g. Redis pub/sub, Kafka) when running several nodes.
+ */
+public class InMemoryOrderCacheInvalidationBus implements OrderCacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryOrderCacheInvalidationBus.class);
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Long orderId, long version) {
+        for (Listener listener : listeners) {
+            try {
+                listener.onInvalidated(orderId, version);
+            } catch (RuntimeException e) {
+                log.error("Order cache invalidation of id={} failed: {}", orderId, e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+}
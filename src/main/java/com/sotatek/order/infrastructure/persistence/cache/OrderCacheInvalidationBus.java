@@ -0,0 +1,21 @@
+package com.sotatek.order.infrastructure.persistence.cache;
+
+/**
+ * Channel carrying order cache invalidations between nodes.
+ * <p>
+ * A node publishes the new version of every order it saves; every subscriber
+ * (including the publishing node) then drops cached copies older than that version.
+ * Delivery may be late or duplicated, so listeners must be idempotent.
+ */
+public interface OrderCacheInvalidationBus {
+
+    void publish(Long orderId, long version);
+
+    void subscribe(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+
+        void onInvalidated(Long orderId, long version);
+    }
+}
@@ -0,0 +1,27 @@
+package com.sotatek.order.infrastructure.scheduler;
+
+import com.sotatek.order.application.service.IdempotencyKeyCleanupService;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically deletes expired Idempotency-Keys.
+ */
+@Component
+@ConditionalOnProperty(name = "order.idempotency.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyKeyCleanupJob {
+
+    private final IdempotencyKeyCleanupService cleanupService;
+
+    public IdempotencyKeyCleanupJob(IdempotencyKeyCleanupService cleanupService) {
+        this.cleanupService = cleanupService;
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.cleanup.interval:PT10M}",
+            initialDelayString = "${order.idempotency.cleanup.interval:PT10M}")
+    public void purgeExpiredKeys() {
+        cleanupService.purgeExpired();
+    }
+}
@@ -0,0 +1,28 @@
+package com.sotatek.order.infrastructure.scheduler;
+
+import com.sotatek.order.application.service.MemberOrderViewAdminService;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically compares the member order history read model with the orders; drift is
+ * logged and exported as {@code order.member_view.drift}.
+ */
+@Component
+@ConditionalOnProperty(name = "order.member-order-view.check.enabled", havingValue = "true", matchIfMissing = true)
+public class MemberOrderViewCheckJob {
+
+    private final MemberOrderViewAdminService memberOrderViewAdminService;
+
+    public MemberOrderViewCheckJob(MemberOrderViewAdminService memberOrderViewAdminService) {
+        this.memberOrderViewAdminService = memberOrderViewAdminService;
+    }
+
+    @Scheduled(fixedDelayString = "${order.member-order-view.check.interval:PT6H}",
+            initialDelayString = "${order.member-order-view.check.interval:PT6H}")
+    public void checkConsistency() {
+        memberOrderViewAdminService.checkConsistency();
+    }
+}
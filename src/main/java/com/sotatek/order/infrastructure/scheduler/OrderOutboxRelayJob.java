@@ -0,0 +1,27 @@
+package com.sotatek.order.infrastructure.scheduler;
+
+import com.sotatek.order.infrastructure.messaging.OrderOutboxRelay;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically publishes order events waiting in the outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderOutboxRelayJob {
+
+    private final OrderOutboxRelay relay;
+
+    public OrderOutboxRelayJob(OrderOutboxRelay relay) {
+        this.relay = relay;
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay.poll-interval:PT1S}",
+            initialDelayString = "${order.outbox.relay.poll-interval:PT1S}")
+    public void relayPendingEvents() {
+        relay.relayPending();
+    }
+}
@@ -0,0 +1,27 @@
+package com.sotatek.order.infrastructure.scheduler;
+
+import com.sotatek.order.application.service.PaymentReconciliationService;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically settles PENDING orders whose payment has completed or failed.
+ */
+@Component
+@ConditionalOnProperty(name = "order.payment-reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentReconciliationJob {
+
+    private final PaymentReconciliationService reconciliationService;
+
+    public PaymentReconciliationJob(PaymentReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    @Scheduled(fixedDelayString = "${order.payment-reconciliation.interval:PT30S}",
+            initialDelayString = "${order.payment-reconciliation.interval:PT30S}")
+    public void reconcilePendingPayments() {
+        reconciliationService.reconcile();
+    }
+}
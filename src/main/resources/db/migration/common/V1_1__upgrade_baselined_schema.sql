@@ -0,0 +1,45 @@
+-- Brings databases baselined at V1 up to the V1 schema. They were created by Hibernate
+-- schema generation before migrations existed and only have the orders and order_items
+-- tables. Every statement is a no-op on databases created by V1.
+
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS order_items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS order_outbox_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS payment_check_due_at TIMESTAMP(6);
+
+-- PENDING orders that already have a payment get their first payment status check
+UPDATE orders
+SET payment_check_due_at = updated_at
+WHERE status = 'PENDING'
+  AND payment_id IS NOT NULL
+  AND payment_check_due_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS order_outbox (
+    id         BIGINT       NOT NULL,
+    order_id   BIGINT       NOT NULL,
+    event_type VARCHAR(40)  NOT NULL,
+    payload    TEXT         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_order_outbox PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    state           VARCHAR(20)  NOT NULL,
+    order_id        BIGINT,
+    created_at      TIMESTAMP(6) NOT NULL,
+    locked_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (idempotency_key)
+);
+
+CREATE TABLE IF NOT EXISTS member_order_view (
+    order_id   BIGINT       NOT NULL,
+    member_id  BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version    BIGINT       NOT NULL,
+    document   TEXT         NOT NULL,
+    CONSTRAINT pk_member_order_view PRIMARY KEY (order_id)
+);
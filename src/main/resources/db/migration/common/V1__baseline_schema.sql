@@ -0,0 +1,66 @@
+-- Baseline: tables, keys and ID sequences as mapped by the JPA entities.
+-- Secondary indexes are in V2. Databases created by Hibernate schema generation
+-- before migrations existed are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and brought up to it by V1.1 and {vendor}/V1.2.
+
+-- Pooled sequences: IDs are reserved 50 at a time (allocationSize = 50), so inserts can be batched
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE order_items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE order_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE orders (
+    id                   BIGINT         NOT NULL,
+    member_id            BIGINT         NOT NULL,
+    total_amount         NUMERIC(19, 2) NOT NULL,
+    payment_method       VARCHAR(32)    NOT NULL,
+    status               VARCHAR(32)    NOT NULL,
+    payment_id           BIGINT,
+    -- Next payment status check; set only while PENDING with a payment
+    payment_check_due_at TIMESTAMP(6),
+    version              BIGINT         NOT NULL,
+    created_at           TIMESTAMP(6)   NOT NULL,
+    updated_at           TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_orders PRIMARY KEY (id)
+);
+
+CREATE TABLE order_items (
+    id           BIGINT         NOT NULL,
+    order_id     BIGINT         NOT NULL,
+    product_id   BIGINT         NOT NULL,
+    product_name VARCHAR(255)   NOT NULL,
+    unit_price   NUMERIC(19, 2) NOT NULL,
+    quantity     INTEGER        NOT NULL,
+    CONSTRAINT pk_order_items PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+-- Transactional outbox: rows live until the relay has published them
+CREATE TABLE order_outbox (
+    id         BIGINT       NOT NULL,
+    order_id   BIGINT       NOT NULL,
+    event_type VARCHAR(40)  NOT NULL,
+    payload    TEXT         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_order_outbox PRIMARY KEY (id)
+);
+
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    state           VARCHAR(20)  NOT NULL,
+    order_id        BIGINT,
+    created_at      TIMESTAMP(6) NOT NULL,
+    locked_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (idempotency_key)
+);
+
+-- Member order history read model, one row per order
+CREATE TABLE member_order_view (
+    order_id   BIGINT       NOT NULL,
+    member_id  BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version    BIGINT       NOT NULL,
+    document   TEXT         NOT NULL,
+    CONSTRAINT pk_member_order_view PRIMARY KEY (order_id)
+);
@@ -0,0 +1,5 @@
+-- Error the first request with an Idempotency-Key ended with after its order was created,
+-- so that retries replay it instead of the order.
+ALTER TABLE idempotency_keys ADD COLUMN failure_type VARCHAR(32);
+ALTER TABLE idempotency_keys ADD COLUMN failure_service VARCHAR(64);
+ALTER TABLE idempotency_keys ADD COLUMN failure_message VARCHAR(1000);
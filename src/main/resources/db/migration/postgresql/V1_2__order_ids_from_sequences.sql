@@ -0,0 +1,17 @@
+-- Switches databases baselined at V1 from IDENTITY columns to the pooled sequences used
+-- by OrderEntity / OrderItemEntity (allocationSize = 50). A no-op on databases created by V1.
+
+LOCK TABLE orders, order_items IN EXCLUSIVE MODE;
+
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE order_items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- Hibernate hands out the 50 IDs up to each value it reads from the sequence, so the
+-- next value must be at least 50 past the highest existing ID. Never moves a sequence back.
+SELECT setval('orders_seq', MAX(id) + 50, false)
+FROM orders
+HAVING MAX(id) + 50 > (SELECT last_value FROM orders_seq);
+
+SELECT setval('order_items_seq', MAX(id) + 50, false)
+FROM order_items
+HAVING MAX(id) + 50 > (SELECT last_value FROM order_items_seq);
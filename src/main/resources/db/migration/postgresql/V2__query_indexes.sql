@@ -0,0 +1,22 @@
+-- Secondary indexes of the listing, reconciliation and cancellation queries.
+-- Built CONCURRENTLY, so writes continue while they are built on large existing tables;
+-- Flyway runs this migration outside a transaction. IF NOT EXISTS skips indexes that
+-- Hibernate schema generation already created on baselined databases.
+
+-- Listing newest first: all orders, by member, by status (keyset on created_at, id)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_created_at_id ON orders (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_member_created_at_id ON orders (member_id, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_status_created_at_id ON orders (status, created_at, id);
+
+-- Payment reconciliation: only PENDING orders with a payment have a due time
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_payment_check_due_at ON orders (payment_check_due_at);
+
+-- Items of an order: loading an order (e.g. to cancel it), page item fetches and item counts
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_order_id ON order_items (order_id);
+
+-- Idempotency-Key cleanup
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_idempotency_keys_created_at ON idempotency_keys (created_at);
+
+-- Member order history read from the view
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_order_view_member_created_id
+    ON member_order_view (member_id, created_at, order_id);
@@ -0,0 +1,143 @@
+package com.sotatek.order.api.controller;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput of Create Order with 2,000 concurrent requests and a 500ms Payment
+ * Service, in platform-thread, virtual-thread and reactive mode. On platform threads
+ * each request holds a Tomcat thread while waiting, so throughput is capped near
+ * {@code threads.max / payment latency}. Shedding, bulkheads and pools are opened up
+ * so only the execution mode differs. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+abstract class AbstractSlowPaymentThroughputBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractSlowPaymentThroughputBenchmark.class);
+
+    protected static final int TOMCAT_THREADS = 200;
+    protected static final int PAYMENT_DELAY_MS = 500;
+    private static final int CONCURRENT_REQUESTS = 2000;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final String ORDER_JSON =
+            "{\"memberId\": 1, \"items\": [{\"productId\": 101, \"quantity\": 1}], \"paymentMethod\": \"CREDIT_CARD\"}";
+
+    @LocalServerPort
+    private int port;
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        // Delayed responses are scheduled, not slept, so WireMock is not the bottleneck
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort()
+                .containerThreads(500)
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(50));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/api/members/1"))
+                .willReturn(okJson(
+                        "{\"id\": 1, \"name\": \"User\", \"email\": \"u@e.com\", \"status\": \"ACTIVE\", \"grade\": \"GOLD\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/api/products/101"))
+                .willReturn(okJson("{\"id\": 101, \"name\": \"Product\", \"price\": 50.00, \"status\": \"AVAILABLE\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/api/products/101/stock"))
+                .willReturn(okJson(
+                        "{\"productId\": 101, \"quantity\": 1000000, \"reservedQuantity\": 0, \"availableQuantity\": 1000000}")));
+        wireMockServer.stubFor(post(urlEqualTo("/api/payments"))
+                .willReturn(okJson(
+                        "{\"id\": 999, \"orderId\": 1, \"amount\": 50.00, \"status\": \"COMPLETED\", \"transactionId\": \"TXN-1\"}")
+                        .withFixedDelay(PAYMENT_DELAY_MS)));
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("external-services.member.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.product.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.payment.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.mock", () -> "false");
+        for (String service : List.of("member", "product", "payment")) {
+            registry.add("external-services." + service + ".bulkhead.max-concurrent-calls", () -> 10 * CONCURRENT_REQUESTS);
+        }
+        registry.add("order.create-limit.enabled", () -> "false");
+        // The whole burst reaches the pool at once; let it queue rather than fail fast
+        registry.add("order.connection-limit.max-waiting", () -> CONCURRENT_REQUESTS);
+        registry.add("order.connection-limit.max-wait", () -> "30s");
+        registry.add("spring.datasource.hikari.connection-timeout", () -> 30000);
+        registry.add("order.create.reactive.max-connections", () -> CONCURRENT_REQUESTS);
+        registry.add("order.create.reactive.database-queue-capacity", () -> CONCURRENT_REQUESTS);
+        registry.add("server.tomcat.threads.max", () -> TOMCAT_THREADS);
+        registry.add("logging.level.com.sotatek.order", () -> "WARN");
+    }
+
+    @Test
+    @DisplayName("Throughput at 2,000 concurrent slow-payment requests")
+    void createOrder_SlowPayment_Throughput() throws Exception {
+        run(WARMUP_REQUESTS);
+        double ordersPerSecond = run(CONCURRENT_REQUESTS);
+
+        double platformCeiling = TOMCAT_THREADS * 1000.0 / PAYMENT_DELAY_MS;
+        log.info("[{}] {} concurrent requests: {} orders/s (platform-thread ceiling {} orders/s)", modeName(),
+                CONCURRENT_REQUESTS, ordersPerSecond, platformCeiling);
+        verifyThroughput(ordersPerSecond, platformCeiling);
+    }
+
+    protected abstract String modeName();
+
+    protected abstract void verifyThroughput(double ordersPerSecond, double platformCeiling);
+
+    /**
+     * Send all requests at once and wait for every response.
+     *
+     * @return orders created per second
+     */
+    private double run(int requests) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(ORDER_JSON))
+                .build();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient httpClient = HttpClient.newBuilder().executor(clients).build()) {
+            long start = System.nanoTime();
+            List<Future<HttpResponse<Void>>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                responses.add(clients.submit(() -> httpClient.send(request, HttpResponse.BodyHandlers.discarding())));
+            }
+            for (Future<HttpResponse<Void>> response : responses) {
+                assertEquals(201, response.get(90, TimeUnit.SECONDS).statusCode());
+            }
+            return requests / ((System.nanoTime() - start) / 1e9);
+        }
+    }
+}
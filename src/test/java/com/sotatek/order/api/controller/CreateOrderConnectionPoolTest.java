@@ -0,0 +1,134 @@
+package com.sotatek.order.api.controller;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.sotatek.order.api.dto.CreateOrderRequest;
+import com.sotatek.order.api.dto.OrderItemRequest;
+import com.sotatek.order.api.dto.OrderResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test: Create Order must not hold a database connection while waiting for
+ * Payment Service. Runs more concurrent orders than the pool has connections, with a
+ * payment latency far above the pool's connection timeout.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CreateOrderConnectionPoolTest {
+
+    private static final int POOL_SIZE = 2;
+    private static final int CONCURRENT_ORDERS = 8;
+    private static final long CONNECTION_TIMEOUT_MS = 250;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("external-services.member.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.product.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.payment.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.mock", () -> "false");
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:pooltest");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL_SIZE);
+        registry.add("spring.datasource.hikari.connection-timeout", () -> CONNECTION_TIMEOUT_MS);
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(get(urlEqualTo("/api/members/1"))
+                .willReturn(okJson(
+                        "{\"id\": 1, \"name\": \"User\", \"email\": \"u@e.com\", \"status\": \"ACTIVE\", \"grade\": \"GOLD\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/api/products/101"))
+                .willReturn(okJson("{\"id\": 101, \"name\": \"Product\", \"price\": 50.00, \"status\": \"AVAILABLE\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/api/products/101/stock"))
+                .willReturn(okJson(
+                        "{\"productId\": 101, \"quantity\": 1000, \"reservedQuantity\": 0, \"availableQuantity\": 1000}")));
+    }
+
+    @Test
+    @DisplayName("Connection wait should stay flat as payment latency rises")
+    void createOrder_SlowPayment_ShouldNotHoldConnections() throws Exception {
+        double fastPaymentWaitMs = runConcurrentOrders(50);
+        double slowPaymentWaitMs = runConcurrentOrders(1000);
+
+        // Holding a connection across a 1s payment would make most requests time out at 250ms
+        assertTrue(fastPaymentWaitMs < CONNECTION_TIMEOUT_MS / 2.0,
+                "Mean connection wait with fast payment: " + fastPaymentWaitMs + "ms");
+        assertTrue(slowPaymentWaitMs < CONNECTION_TIMEOUT_MS / 2.0,
+                "Mean connection wait with slow payment: " + slowPaymentWaitMs + "ms");
+    }
+
+    /**
+     * @return mean connection acquire time (ms) during this run
+     */
+    private double runConcurrentOrders(int paymentDelayMs) throws Exception {
+        wireMockServer.stubFor(post(urlEqualTo("/api/payments"))
+                .willReturn(okJson(
+                        "{\"id\": 999, \"orderId\": 1, \"amount\": 50.00, \"status\": \"COMPLETED\", \"transactionId\": \"TXN-1\", \"timestamp\": \"2023-10-01T10:00:00\"}")
+                        .withFixedDelay(paymentDelayMs)));
+
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        long countBefore = acquire.count();
+        double totalBeforeMs = acquire.totalTime(TimeUnit.MILLISECONDS);
+
+        CreateOrderRequest request = new CreateOrderRequest(1L, List.of(new OrderItemRequest(101L, 1)), "CREDIT_CARD");
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_ORDERS);
+        try {
+            List<Future<ResponseEntity<OrderResponse>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+                responses.add(clients.submit(
+                        () -> restTemplate.postForEntity("/api/orders", request, OrderResponse.class)));
+            }
+            for (Future<ResponseEntity<OrderResponse>> response : responses) {
+                assertEquals(HttpStatus.CREATED, response.get(30, TimeUnit.SECONDS).getStatusCode());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        long acquisitions = acquire.count() - countBefore;
+        assertTrue(acquisitions > 0);
+        return (acquire.totalTime(TimeUnit.MILLISECONDS) - totalBeforeMs) / acquisitions;
+    }
+}
@@ -0,0 +1,152 @@
+package com.sotatek.order.api.controller;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Overload test of Create Order: closed-loop clients that give up after a deadline,
+ * first at about the service's capacity, then at 3x. Goodput counts orders created
+ * within the deadline. Without load shedding, 3x clients queue in Tomcat past their
+ * deadline and goodput collapses; with it, excess requests are rejected at once and
+ * goodput stays flat. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CreateOrderOverloadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CreateOrderOverloadBenchmarkTest.class);
+
+    private static final int TOMCAT_THREADS = 20;
+    private static final int RESERVED_THREADS = 5;
+    private static final int PAYMENT_DELAY_MS = 200;
+    private static final Duration CLIENT_DEADLINE = Duration.ofMillis(500);
+    private static final Duration PHASE = Duration.ofSeconds(10);
+    private static final String ORDER_JSON =
+            "{\"memberId\": 1, \"items\": [{\"productId\": 101, \"quantity\": 1}], \"paymentMethod\": \"CREDIT_CARD\"}";
+
+    @LocalServerPort
+    private int port;
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/api/members/1"))
+                .willReturn(okJson(
+                        "{\"id\": 1, \"name\": \"User\", \"email\": \"u@e.com\", \"status\": \"ACTIVE\", \"grade\": \"GOLD\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/api/products/101"))
+                .willReturn(okJson("{\"id\": 101, \"name\": \"Product\", \"price\": 50.00, \"status\": \"AVAILABLE\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/api/products/101/stock"))
+                .willReturn(okJson(
+                        "{\"productId\": 101, \"quantity\": 1000000, \"reservedQuantity\": 0, \"availableQuantity\": 1000000}")));
+        wireMockServer.stubFor(post(urlEqualTo("/api/payments"))
+                .willReturn(okJson(
+                        "{\"id\": 999, \"orderId\": 1, \"amount\": 50.00, \"status\": \"COMPLETED\", \"transactionId\": \"TXN-1\"}")
+                        .withFixedDelay(PAYMENT_DELAY_MS)));
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("external-services.member.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.product.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.payment.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.mock", () -> "false");
+        registry.add("server.tomcat.threads.max", () -> TOMCAT_THREADS);
+        registry.add("order.create-limit.reserved-threads", () -> RESERVED_THREADS);
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:overloadtest");
+        registry.add("logging.level.com.sotatek.order", () -> "WARN");
+    }
+
+    @Test
+    @DisplayName("Goodput at 3x overload should stay close to goodput at capacity")
+    void createOrder_Overload_GoodputStaysFlat() throws Exception {
+        int capacityClients = TOMCAT_THREADS - RESERVED_THREADS;
+
+        run(capacityClients, Duration.ofSeconds(3));
+        double atCapacity = run(capacityClients, PHASE);
+        double atOverload = run(3 * capacityClients, PHASE);
+
+        log.info("Goodput at capacity ({} clients): {} orders/s", capacityClients, atCapacity);
+        log.info("Goodput at 3x overload ({} clients): {} orders/s", 3 * capacityClients, atOverload);
+        assertTrue(atOverload >= 0.8 * atCapacity,
+                "Goodput fell from " + atCapacity + " to " + atOverload + " orders/s");
+    }
+
+    /**
+     * @return orders created within the client deadline, per second
+     */
+    private double run(int clients, Duration duration) throws Exception {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .timeout(CLIENT_DEADLINE)
+                .POST(HttpRequest.BodyPublishers.ofString(ORDER_JSON))
+                .build();
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        AtomicInteger timedOut = new AtomicInteger();
+        long end = System.nanoTime() + duration.toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            pool.submit(() -> {
+                while (System.nanoTime() < end) {
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 201) {
+                            created.incrementAndGet();
+                        } else if (response.statusCode() == 503) {
+                            shed.incrementAndGet();
+                            Thread.sleep(50);
+                        }
+                    } catch (HttpTimeoutException e) {
+                        timedOut.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        timedOut.incrementAndGet();
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(duration.toSeconds() + 30, TimeUnit.SECONDS));
+
+        log.info("{} clients: created={}, shed={}, timed out={}", clients, created.get(), shed.get(), timedOut.get());
+        return created.get() / (double) duration.toSeconds();
+    }
+}
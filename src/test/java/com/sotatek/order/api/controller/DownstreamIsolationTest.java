@@ -0,0 +1,132 @@
+package com.sotatek.order.api.controller;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.sotatek.order.api.dto.CreateOrderRequest;
+import com.sotatek.order.api.dto.OrderItemRequest;
+import com.sotatek.order.api.dto.OrderResponse;
+import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderItem;
+import com.sotatek.order.domain.model.PaymentMethod;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Failure injection: Product Service hangs for longer than any request should take.
+ * With few Tomcat threads, Create Order requests waiting on it would take every
+ * thread and stall Get Order too, which needs no downstream. The Product Service
+ * bulkhead lets only a couple of calls wait; the rest fail fast with 503.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class DownstreamIsolationTest {
+
+    private static final int TOMCAT_THREADS = 8;
+    private static final int CONCURRENT_ORDERS = 24;
+    private static final int PRODUCT_DELAY_MS = 3000;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private OrderRepositoryPort orderRepository;
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("external-services.member.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.product.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.payment.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.mock", () -> "false");
+        registry.add("external-services.product.bulkhead.max-concurrent-calls", () -> 2);
+        registry.add("order.validation.timeout", () -> 10000);
+        registry.add("server.tomcat.threads.max", () -> TOMCAT_THREADS);
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:isolationtest");
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(get(urlPathMatching("/api/members/.*"))
+                .willReturn(okJson(
+                        "{\"id\": 1, \"name\": \"User\", \"email\": \"u@e.com\", \"status\": \"ACTIVE\", \"grade\": \"GOLD\"}")));
+        // Product Service is down: every call hangs
+        wireMockServer.stubFor(get(urlPathMatching("/api/products.*"))
+                .willReturn(aResponse().withStatus(503).withFixedDelay(PRODUCT_DELAY_MS)));
+    }
+
+    @Test
+    @DisplayName("Get Order should keep its latency while Product Service hangs")
+    void getOrder_ProductServiceDown_ShouldStayFast() throws Exception {
+        Long orderId = orderRepository.save(Order.create(1L,
+                List.of(new OrderItem(101L, "Product", new BigDecimal("10.00"), 1)),
+                PaymentMethod.CREDIT_CARD)).getId();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_ORDERS);
+        try {
+            List<Future<ResponseEntity<String>>> orders = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+                // Distinct products, so the calls are not coalesced into one
+                CreateOrderRequest request = new CreateOrderRequest(1L,
+                        List.of(new OrderItemRequest(1000L + i, 1)), "CREDIT_CARD");
+                orders.add(clients.submit(() -> restTemplate.postForEntity("/api/orders", request, String.class)));
+            }
+            Thread.sleep(300);
+
+            long slowestMs = 0;
+            for (int i = 0; i < 10; i++) {
+                long start = System.nanoTime();
+                ResponseEntity<OrderResponse> response = restTemplate.getForEntity("/api/orders/" + orderId,
+                        OrderResponse.class);
+                slowestMs = Math.max(slowestMs, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                assertEquals(HttpStatus.OK, response.getStatusCode());
+            }
+            assertTrue(slowestMs < PRODUCT_DELAY_MS / 3,
+                    "Slowest Get Order while Product Service hangs: " + slowestMs + "ms");
+
+            int rejected = 0;
+            for (Future<ResponseEntity<String>> order : orders) {
+                if (order.get(30, TimeUnit.SECONDS).getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE) {
+                    rejected++;
+                }
+            }
+            assertEquals(CONCURRENT_ORDERS, rejected);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+}
@@ -14,6 +14,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -53,6 +55,9 @@ class OrderApiIntegrationTest {
         registry.add("external-services.product.base-url", wireMockServer::baseUrl);
         registry.add("external-services.payment.base-url", wireMockServer::baseUrl);
         registry.add("external-services.mock", () -> "false");
+        // Members and products are re-stubbed per test, so cached entries would leak between tests
+        registry.add("external-services.member.cache.enabled", () -> "false");
+        registry.add("external-services.product.cache.enabled", () -> "false");
     }
 
     @BeforeEach
@@ -89,6 +94,78 @@ class OrderApiIntegrationTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
+    @Test
+    void clearCache_UnknownCache_ShouldReturn404() {
+        ResponseEntity<String> response = restTemplate.exchange("/api/admin/caches/no-such-cache",
+                HttpMethod.DELETE, null, String.class);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertTrue(response.getBody().contains("CACHE_NOT_FOUND"));
+    }
+
+    @Test
+    void getOrder_IfNoneMatchCurrentETag_ShouldReturn304() {
+        stubMember(1L, "ACTIVE");
+        stubProduct(101L, "AVAILABLE", 100);
+        stubPayment(50.00, "COMPLETED");
+        Long id = createOrder(1L).id();
+
+        ResponseEntity<OrderResponse> first = restTemplate.getForEntity("/api/orders/" + id, OrderResponse.class);
+        String eTag = first.getHeaders().getETag();
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(eTag);
+        assertTrue(eTag.startsWith("\"" + id + "-"), eTag);
+
+        ResponseEntity<String> notModified = getWithIfNoneMatch("/api/orders/" + id, eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+        assertEquals(eTag, notModified.getHeaders().getETag());
+
+        ResponseEntity<String> changed = getWithIfNoneMatch("/api/orders/" + id, "\"" + id + "-999\"");
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertEquals(eTag, changed.getHeaders().getETag());
+    }
+
+    @Test
+    void listOrders_ByMember_ShouldReturn304UntilMemberOrdersChange() {
+        stubMember(7L, "ACTIVE");
+        stubProduct(101L, "AVAILABLE", 100);
+        stubPayment(50.00, "COMPLETED");
+        createOrder(7L);
+
+        String eTag = restTemplate.getForEntity("/api/orders?memberId=7", String.class).getHeaders().getETag();
+        assertNotNull(eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, getWithIfNoneMatch("/api/orders?memberId=7", eTag).getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED,
+                getWithIfNoneMatch("/api/orders/cursor?memberId=7", eTag).getStatusCode());
+
+        createOrder(7L);
+
+        ResponseEntity<String> changed = getWithIfNoneMatch("/api/orders?memberId=7", eTag);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(eTag, changed.getHeaders().getETag());
+    }
+
+    @Test
+    void listOrderSummaries_SparseFieldsAndItems_ShouldReturnSelectedFieldsOnly() {
+        stubMember(8L, "ACTIVE");
+        stubProduct(101L, "AVAILABLE", 100);
+        stubPayment(50.00, "COMPLETED");
+        createOrder(8L);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/api/orders/summary?memberId=8&fields=status,itemCount&expand=items", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("\"status\":\"CONFIRMED\""), response.getBody());
+        assertTrue(response.getBody().contains("\"itemCount\":1"), response.getBody());
+        assertTrue(response.getBody().contains("\"productId\":101"), response.getBody());
+        assertFalse(response.getBody().contains("totalAmount"), response.getBody());
+
+        ResponseEntity<String> unknownField = restTemplate.getForEntity(
+                "/api/orders/summary?fields=password", String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, unknownField.getStatusCode());
+    }
+
     @Test
     void listOrders_ShouldReturnPage() {
         ResponseEntity<String> response = restTemplate.getForEntity("/api/orders", String.class);
@@ -127,6 +204,21 @@ class OrderApiIntegrationTest {
         assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
     }
 
+    private OrderResponse createOrder(Long memberId) {
+        CreateOrderRequest request = new CreateOrderRequest(memberId, List.of(new OrderItemRequest(101L, 1)),
+                "CREDIT_CARD");
+        ResponseEntity<OrderResponse> response = restTemplate.postForEntity("/api/orders", request,
+                OrderResponse.class);
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody();
+    }
+
+    private ResponseEntity<String> getWithIfNoneMatch(String url, String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
     // Helper stubs
     private void stubMember(Long id, String status) {
         wireMockServer.stubFor(get(urlEqualTo("/api/members/" + id))
@@ -0,0 +1,23 @@
+package com.sotatek.order.api.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=false", "spring.datasource.url=jdbc:h2:mem:platformthreads"})
+@ActiveProfiles("test")
+class PlatformThreadsThroughputBenchmarkTest extends AbstractSlowPaymentThroughputBenchmark {
+
+    @Override
+    protected String modeName() {
+        return "platform threads";
+    }
+
+    @Override
+    protected void verifyThroughput(double ordersPerSecond, double platformCeiling) {
+        // Each waiting request holds a Tomcat thread
+        assertTrue(ordersPerSecond <= platformCeiling * 1.1, "Throughput: " + ordersPerSecond + " orders/s");
+    }
+}
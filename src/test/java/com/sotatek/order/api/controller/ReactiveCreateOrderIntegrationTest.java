@@ -0,0 +1,139 @@
+package com.sotatek.order.api.controller;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.sotatek.order.api.dto.CreateOrderRequest;
+import com.sotatek.order.api.dto.OrderItemRequest;
+import com.sotatek.order.api.dto.OrderResponse;
+import com.sotatek.order.domain.model.OrderStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Create Order through the reactive pipeline ({@code order.create.mode=reactive}) against
+ * WireMock downstreams.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveCreateOrderIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(0); // Random port
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("order.create.mode", () -> "reactive");
+        registry.add("order.validation.timeout", () -> "1000");
+        registry.add("external-services.member.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.product.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.payment.base-url", wireMockServer::baseUrl);
+        registry.add("external-services.mock", () -> "false");
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    void createOrder_Success_ShouldReturnConfirmedOrder() {
+        stubMember(1L, 0);
+        stubProduct(101L);
+        stubPayment("COMPLETED");
+
+        CreateOrderRequest request = new CreateOrderRequest(1L, List.of(new OrderItemRequest(101L, 2)), "CREDIT_CARD");
+
+        ResponseEntity<OrderResponse> response = restTemplate.postForEntity("/api/orders", request,
+                OrderResponse.class);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(OrderStatus.CONFIRMED, response.getBody().status());
+    }
+
+    @Test
+    void createOrder_PaymentDeclined_ShouldReturn422() {
+        stubMember(2L, 0);
+        stubProduct(101L);
+        wireMockServer.stubFor(post(urlEqualTo("/api/payments"))
+                .willReturn(aResponse().withStatus(422)));
+
+        CreateOrderRequest request = new CreateOrderRequest(2L, List.of(new OrderItemRequest(101L, 1)), "CREDIT_CARD");
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/orders", request, String.class);
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+    }
+
+    @Test
+    void createOrder_MemberTooSlow_ShouldReturn503() {
+        stubMember(3L, 3000);
+        stubProduct(101L);
+
+        CreateOrderRequest request = new CreateOrderRequest(3L, List.of(new OrderItemRequest(101L, 1)), "CREDIT_CARD");
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/orders", request, String.class);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        wireMockServer.verify(0, postRequestedFor(urlEqualTo("/api/payments")));
+    }
+
+    // Helper stubs
+    private void stubMember(Long id, int delayMillis) {
+        wireMockServer.stubFor(get(urlEqualTo("/api/members/" + id))
+                .willReturn(aResponse()
+                        .withFixedDelay(delayMillis)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(String.format(
+                                "{\"id\": %d, \"name\": \"User\", \"email\": \"u@e.com\", \"status\": \"ACTIVE\", \"grade\": \"GOLD\"}",
+                                id))));
+    }
+
+    private void stubProduct(Long id) {
+        wireMockServer.stubFor(get(urlEqualTo("/api/products/" + id))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(String.format(
+                                "{\"id\": %d, \"name\": \"Product\", \"price\": 50.00, \"status\": \"AVAILABLE\"}", id))));
+        wireMockServer.stubFor(get(urlEqualTo("/api/products/" + id + "/stock"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(String.format(
+                                "{\"productId\": %d, \"totalQuantity\": 100, \"reservedQuantity\": 0, \"availableQuantity\": 100}",
+                                id))));
+    }
+
+    private void stubPayment(String status) {
+        wireMockServer.stubFor(post(urlEqualTo("/api/payments"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(String.format(
+                                "{\"id\": 999, \"orderId\": 1, \"amount\": 100.00, \"status\": \"%s\", \"transactionId\": \"TXN-1\", \"timestamp\": \"2023-10-01T10:00:00\"}",
+                                status))));
+    }
+}
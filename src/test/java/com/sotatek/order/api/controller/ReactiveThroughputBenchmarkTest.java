@@ -0,0 +1,24 @@
+package com.sotatek.order.api.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=false", "order.create.mode=reactive",
+                "spring.datasource.url=jdbc:h2:mem:reactive"})
+@ActiveProfiles("test")
+class ReactiveThroughputBenchmarkTest extends AbstractSlowPaymentThroughputBenchmark {
+
+    @Override
+    protected String modeName() {
+        return "reactive";
+    }
+
+    @Override
+    protected void verifyThroughput(double ordersPerSecond, double platformCeiling) {
+        // Tomcat threads are released while the pipeline waits on the event loop
+        assertTrue(ordersPerSecond >= platformCeiling * 1.5, "Throughput: " + ordersPerSecond + " orders/s");
+    }
+}
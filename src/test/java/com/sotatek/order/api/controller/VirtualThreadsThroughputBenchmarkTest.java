@@ -0,0 +1,23 @@
+package com.sotatek.order.api.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "spring.datasource.url=jdbc:h2:mem:virtualthreads"})
+@ActiveProfiles("test")
+class VirtualThreadsThroughputBenchmarkTest extends AbstractSlowPaymentThroughputBenchmark {
+
+    @Override
+    protected String modeName() {
+        return "virtual threads";
+    }
+
+    @Override
+    protected void verifyThroughput(double ordersPerSecond, double platformCeiling) {
+        // Waiting requests park their virtual thread and free the carrier
+        assertTrue(ordersPerSecond >= platformCeiling * 1.5, "Throughput: " + ordersPerSecond + " orders/s");
+    }
+}
@@ -0,0 +1,82 @@
+package com.sotatek.order.api.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("Requests beyond the limit should be rejected until a slot is released")
+    void tryAcquire_LimitReached_ShouldReject() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1.5, 0.2, 100);
+
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        assertNotNull(first);
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+
+        first.onIgnore();
+        assertNotNull(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("The limit should grow while latency stays at its baseline")
+    void onSuccess_SteadyLatency_ShouldGrowLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.5, 0.2, 100);
+
+        for (int round = 0; round < 20; round++) {
+            runFullyLoaded(limiter, 1_000_000);
+        }
+
+        assertTrue(limiter.getLimit() > 10, "Limit: " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("The limit should shrink when latency rises well above its baseline")
+    void onSuccess_RisingLatency_ShouldShrinkLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 1, 100, 1.5, 0.2, 1000);
+        for (int round = 0; round < 5; round++) {
+            runFullyLoaded(limiter, 1_000_000);
+        }
+        int before = limiter.getLimit();
+
+        for (int round = 0; round < 5; round++) {
+            runFullyLoaded(limiter, 10_000_000);
+        }
+
+        assertTrue(limiter.getLimit() < before, "Limit " + limiter.getLimit() + " vs " + before);
+    }
+
+    @Test
+    @DisplayName("Dropped requests should cut the limit, but not below the minimum")
+    void onDropped_ShouldBackOffToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100, 1.5, 0.2, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().onDropped();
+        }
+
+        assertEquals(5, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /**
+     * Fill the current limit, then complete every request after {@code latencyNanos}.
+     */
+    private static void runFullyLoaded(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveConcurrencyLimiter.Permit permit;
+        while ((permit = limiter.tryAcquire()) != null) {
+            permits.add(permit);
+        }
+        LockSupport.parkNanos(latencyNanos);
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::onSuccess);
+    }
+}
@@ -1,6 +1,8 @@
 package com.sotatek.order.application.service;
 
 import com.sotatek.order.application.dto.*;
+import com.sotatek.order.application.exception.DownstreamRejectedException;
+import com.sotatek.order.application.exception.ExternalServiceException;
 import com.sotatek.order.application.exception.MemberValidationException;
 import com.sotatek.order.application.exception.PaymentFailedException;
 import com.sotatek.order.application.exception.ProductValidationException;
@@ -8,6 +10,7 @@ import com.sotatek.order.application.port.out.*;
 import com.sotatek.order.domain.model.Order;
 import com.sotatek.order.domain.model.OrderStatus;
 import com.sotatek.order.domain.model.PaymentMethod;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,10 +22,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,12 +46,28 @@ class CreateOrderServiceTest {
         @Mock
         private PaymentClientPort paymentClient;
 
+        private ExecutorService validationExecutor;
         private CreateOrderService createOrderService;
 
         @BeforeEach
         void setUp() {
-                createOrderService = new CreateOrderService(
-                                orderRepository, memberClient, productClient, paymentClient);
+                validationExecutor = Executors.newFixedThreadPool(4);
+                createOrderService = createService(1000);
+        }
+
+        @AfterEach
+        void tearDown() {
+                validationExecutor.shutdownNow();
+        }
+
+        private CreateOrderService createService(long validationTimeoutMillis) {
+                return createService(validationExecutor, validationTimeoutMillis);
+        }
+
+        private CreateOrderService createService(ExecutorService executor, long validationTimeoutMillis) {
+                OrderValidationService validationService = new OrderValidationService(
+                                memberClient, productClient, executor, validationTimeoutMillis);
+                return new CreateOrderService(orderRepository, validationService, paymentClient);
         }
 
         @Test
@@ -58,10 +83,8 @@ class CreateOrderServiceTest {
                                 new MemberDto(memberId, "Test User", "test@test.com", "ACTIVE", "GOLD")));
 
                 // Mock Product & Stock
-                when(productClient.getProduct(productId)).thenReturn(Optional.of(
-                                new ProductDto(productId, "Test Product", new BigDecimal("100.00"), "AVAILABLE")));
-                when(productClient.getStock(productId)).thenReturn(Optional.of(
-                                new ProductStockDto(productId, 100, 0, 100)));
+                stubProduct(new ProductDto(productId, "Test Product", new BigDecimal("100.00"), "AVAILABLE"),
+                                new ProductStockDto(productId, 100, 0, 100));
 
                 // Mock Repository (save)
                 when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
@@ -113,12 +136,9 @@ class CreateOrderServiceTest {
                 when(memberClient.getMember(memberId)).thenReturn(Optional.of(
                                 new MemberDto(memberId, "Test User", "test@test.com", "ACTIVE", "GOLD")));
 
-                when(productClient.getProduct(productId)).thenReturn(Optional.of(
-                                new ProductDto(productId, "Product", new BigDecimal("100.00"), "AVAILABLE")));
-
                 // Stock only 1
-                when(productClient.getStock(productId)).thenReturn(Optional.of(
-                                new ProductStockDto(productId, 10, 9, 1)));
+                stubProduct(new ProductDto(productId, "Product", new BigDecimal("100.00"), "AVAILABLE"),
+                                new ProductStockDto(productId, 10, 9, 1));
 
                 List<CreateOrderService.OrderItemRequest> items = List.of(
                                 new CreateOrderService.OrderItemRequest(productId, 2) // Request 2
@@ -139,11 +159,8 @@ class CreateOrderServiceTest {
 
                 when(memberClient.getMember(memberId))
                                 .thenReturn(Optional.of(new MemberDto(memberId, "User", "e", "ACTIVE", "G")));
-                when(productClient.getProduct(productId))
-                                .thenReturn(Optional.of(
-                                                new ProductDto(productId, "P", new BigDecimal("100"), "AVAILABLE")));
-                when(productClient.getStock(productId))
-                                .thenReturn(Optional.of(new ProductStockDto(productId, 10, 0, 10)));
+                stubProduct(new ProductDto(productId, "P", new BigDecimal("100"), "AVAILABLE"),
+                                new ProductStockDto(productId, 10, 0, 10));
                 when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
 
                 // Mock Payment Failure
@@ -162,4 +179,229 @@ class CreateOrderServiceTest {
                 Order savedOrder = orderCaptor.getAllValues().get(1); // 2nd save is the status update
                 assertEquals(OrderStatus.FAILED, savedOrder.getStatus());
         }
+
+        @Test
+        @DisplayName("UT-16: Member failure wins over a product failure that completes first")
+        void execute_InvalidMemberAndInvalidProduct_ShouldThrowMemberValidationException() {
+                // Arrange
+                Long memberId = 998L;
+                Long productId = 101L;
+
+                // Slow member lookup so that the product failure is observed first
+                when(memberClient.getMember(memberId)).thenAnswer(invocation -> {
+                        Thread.sleep(200);
+                        return Optional.of(new MemberDto(memberId, "User", "e", "INACTIVE", "G"));
+                });
+                when(productClient.getProductsWithStock(anyCollection())).thenReturn(Map.of());
+
+                List<CreateOrderService.OrderItemRequest> items = List
+                                .of(new CreateOrderService.OrderItemRequest(productId, 1));
+
+                // Act & Assert
+                assertThrows(MemberValidationException.class,
+                                () -> createOrderService.execute(memberId, items, PaymentMethod.CREDIT_CARD));
+                verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("UT-17: Validation exceeding the order deadline should fail fast")
+        void execute_ValidationDeadlineExceeded_ShouldThrowExternalServiceException() {
+                // Arrange
+                Long memberId = 1L;
+                Long productId = 101L;
+                CreateOrderService service = createService(100);
+
+                when(memberClient.getMember(memberId)).thenAnswer(invocation -> {
+                        Thread.sleep(5_000);
+                        return Optional.of(new MemberDto(memberId, "User", "e", "ACTIVE", "G"));
+                });
+                stubProduct(new ProductDto(productId, "P", new BigDecimal("100"), "AVAILABLE"),
+                                new ProductStockDto(productId, 10, 0, 10));
+
+                List<CreateOrderService.OrderItemRequest> items = List
+                                .of(new CreateOrderService.OrderItemRequest(productId, 1));
+
+                // Act & Assert
+                long startNanos = System.nanoTime();
+                assertThrows(ExternalServiceException.class,
+                                () -> service.execute(memberId, items, PaymentMethod.CREDIT_CARD));
+                assertTrue(System.nanoTime() - startNanos < 2_000_000_000L,
+                                "Validation should give up at the deadline instead of waiting for the slow call");
+                verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("UT-18: Duplicate product lines should be looked up once")
+        void execute_DuplicateProductLines_ShouldLookUpProductOnce() {
+                // Arrange
+                Long memberId = 1L;
+                Long productId = 101L;
+
+                when(memberClient.getMember(memberId))
+                                .thenReturn(Optional.of(new MemberDto(memberId, "User", "e", "ACTIVE", "G")));
+                stubProduct(new ProductDto(productId, "P", new BigDecimal("10.00"), "AVAILABLE"),
+                                new ProductStockDto(productId, 10, 0, 10));
+                when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+                when(paymentClient.createPayment(any(PaymentRequestDto.class))).thenReturn(
+                                new PaymentResponseDto(1L, 1L, new BigDecimal("50.00"), "COMPLETED", "TXN-1",
+                                                LocalDateTime.now()));
+
+                List<CreateOrderService.OrderItemRequest> items = List.of(
+                                new CreateOrderService.OrderItemRequest(productId, 2),
+                                new CreateOrderService.OrderItemRequest(productId, 3));
+
+                // Act
+                Order result = createOrderService.execute(memberId, items, PaymentMethod.CREDIT_CARD);
+
+                // Assert
+                assertEquals(2, result.getItems().size());
+                assertEquals(new BigDecimal("50.00"), result.getTotalAmount());
+                verify(productClient).getProductsWithStock(List.of(productId));
+        }
+
+        @Test
+        @DisplayName("UT-19: Payment timeout should leave the saved order PENDING")
+        void execute_PaymentTimeout_ShouldLeaveOrderPending() {
+                // Arrange
+                Long memberId = 1L;
+                Long productId = 101L;
+
+                when(memberClient.getMember(memberId))
+                                .thenReturn(Optional.of(new MemberDto(memberId, "User", "e", "ACTIVE", "G")));
+                stubProduct(new ProductDto(productId, "P", new BigDecimal("100"), "AVAILABLE"),
+                                new ProductStockDto(productId, 10, 0, 10));
+                when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+                doThrow(new ExternalServiceException("PaymentService", "Read timed out"))
+                                .when(paymentClient).createPayment(any());
+
+                List<CreateOrderService.OrderItemRequest> items = List
+                                .of(new CreateOrderService.OrderItemRequest(productId, 1));
+
+                // Act & Assert
+                assertThrows(ExternalServiceException.class,
+                                () -> createOrderService.execute(memberId, items, PaymentMethod.CREDIT_CARD));
+
+                // Outcome unknown: only the initial PENDING save happened
+                ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+                verify(orderRepository, times(1)).save(orderCaptor.capture());
+                assertEquals(OrderStatus.PENDING, orderCaptor.getValue().getStatus());
+        }
+
+        @Test
+        @DisplayName("UT-35: Payment call rejected before being sent should mark order as FAILED")
+        void execute_PaymentRejectedByGuard_ShouldMarkOrderAsFailed() {
+                // Arrange
+                Long memberId = 1L;
+                Long productId = 101L;
+
+                when(memberClient.getMember(memberId))
+                                .thenReturn(Optional.of(new MemberDto(memberId, "User", "e", "ACTIVE", "G")));
+                stubProduct(new ProductDto(productId, "P", new BigDecimal("100"), "AVAILABLE"),
+                                new ProductStockDto(productId, 10, 0, 10));
+                when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+                doThrow(new DownstreamRejectedException("PaymentService",
+                                "PaymentService is unavailable (circuit breaker open)", null))
+                                .when(paymentClient).createPayment(any());
+
+                List<CreateOrderService.OrderItemRequest> items = List
+                                .of(new CreateOrderService.OrderItemRequest(productId, 1));
+
+                // Act & Assert
+                assertThrows(DownstreamRejectedException.class,
+                                () -> createOrderService.execute(memberId, items, PaymentMethod.CREDIT_CARD));
+
+                // No payment exists, so the order is not left PENDING for reconciliation
+                ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+                verify(orderRepository, times(2)).save(orderCaptor.capture());
+                assertEquals(OrderStatus.FAILED, orderCaptor.getValue().getStatus());
+        }
+
+        @Test
+        @DisplayName("UT-37: Validation run inline by a saturated executor should still report failures")
+        void execute_InvalidMember_InlineExecutor_ShouldThrowException() {
+                // Arrange: every task completes during submit(), like CallerRunsPolicy on a full pool
+                Long memberId = 999L;
+                Long productId = 101L;
+                CreateOrderService service = createService(new DirectExecutorService(), 1000);
+                when(memberClient.getMember(memberId)).thenReturn(Optional.empty());
+                stubProduct(new ProductDto(productId, "P", new BigDecimal("100"), "AVAILABLE"),
+                                new ProductStockDto(productId, 10, 0, 10));
+
+                List<CreateOrderService.OrderItemRequest> items = List
+                                .of(new CreateOrderService.OrderItemRequest(productId, 1));
+
+                // Act & Assert
+                assertThrows(MemberValidationException.class,
+                                () -> service.execute(memberId, items, PaymentMethod.CREDIT_CARD));
+                verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("UT-38: Member failure should win over an empty bulk product lookup, inline or pooled")
+        void execute_InvalidMemberAndNoProducts_ShouldThrowMemberValidationException() {
+                Long memberId = 999L;
+                when(memberClient.getMember(memberId)).thenReturn(Optional.empty());
+                when(productClient.getProductsWithStock(anyCollection())).thenReturn(Map.of());
+                List<CreateOrderService.OrderItemRequest> items = List
+                                .of(new CreateOrderService.OrderItemRequest(101L, 1));
+
+                for (ExecutorService executor : List.of(new DirectExecutorService(), validationExecutor)) {
+                        CreateOrderService service = createService(executor, 1000);
+                        assertThrows(MemberValidationException.class,
+                                        () -> service.execute(memberId, items, PaymentMethod.CREDIT_CARD));
+                }
+
+                // With a valid member, the missing product is reported instead
+                when(memberClient.getMember(1L)).thenReturn(
+                                Optional.of(new MemberDto(1L, "User", "e", "ACTIVE", "G")));
+                ProductValidationException missing = assertThrows(ProductValidationException.class,
+                                () -> createService(new DirectExecutorService(), 1000)
+                                                .execute(1L, items, PaymentMethod.CREDIT_CARD));
+                assertTrue(missing.getReason().contains("does not exist"));
+                verify(orderRepository, never()).save(any());
+        }
+
+        private void stubProduct(ProductDto product, ProductStockDto stock) {
+                when(productClient.getProductsWithStock(anyCollection()))
+                                .thenReturn(Map.of(product.id(), new ProductWithStockDto(product, stock)));
+        }
+
+        /**
+         * Runs every task on the submitting thread.
+         */
+        private static final class DirectExecutorService extends AbstractExecutorService {
+
+                private volatile boolean shutdown;
+
+                @Override
+                public void execute(Runnable command) {
+                        command.run();
+                }
+
+                @Override
+                public void shutdown() {
+                        shutdown = true;
+                }
+
+                @Override
+                public List<Runnable> shutdownNow() {
+                        shutdown = true;
+                        return List.of();
+                }
+
+                @Override
+                public boolean isShutdown() {
+                        return shutdown;
+                }
+
+                @Override
+                public boolean isTerminated() {
+                        return shutdown;
+                }
+
+                @Override
+                public boolean awaitTermination(long timeout, TimeUnit unit) {
+                        return true;
+                }
+        }
 }
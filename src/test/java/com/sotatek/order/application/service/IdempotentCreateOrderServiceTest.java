@@ -0,0 +1,174 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.IdempotencyClaim;
+import com.sotatek.order.application.dto.IdempotencyFailure;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.exception.IdempotencyKeyInProgressException;
+import com.sotatek.order.application.exception.IdempotencyKeyMismatchException;
+import com.sotatek.order.application.exception.MemberValidationException;
+import com.sotatek.order.application.exception.PaymentFailedException;
+import com.sotatek.order.application.port.out.IdempotencyStorePort;
+import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderItem;
+import com.sotatek.order.domain.model.OrderStatus;
+import com.sotatek.order.domain.model.PaymentMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentCreateOrderServiceTest {
+
+    private static final String KEY = "key-1";
+    private static final Long ORDER_ID = 42L;
+    private static final List<CreateOrderService.OrderItemRequest> ITEMS = List.of(
+            new CreateOrderService.OrderItemRequest(101L, 2));
+
+    @Mock
+    private CreateOrderService createOrderService;
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @Mock
+    private IdempotencyStorePort idempotencyStore;
+
+    private IdempotentCreateOrderService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotentCreateOrderService(createOrderService, orderRepository, idempotencyStore);
+    }
+
+    @Test
+    @DisplayName("UT-20: First request with a key should create the order and bind it to the key")
+    void execute_NewKey_ShouldCreateOrderAndComplete() {
+        when(idempotencyStore.claim(eq(KEY), anyString())).thenReturn(
+                IdempotencyClaim.of(IdempotencyClaim.Status.ACQUIRED));
+        Order order = existingOrder(OrderStatus.CONFIRMED);
+        stubCreateOrder(order);
+
+        IdempotentCreateOrderService.Result result = service.execute(KEY, 1L, ITEMS, PaymentMethod.CREDIT_CARD);
+
+        assertFalse(result.replayed());
+        assertSame(order, result.order());
+        verify(idempotencyStore).attachOrder(KEY, ORDER_ID);
+        verify(idempotencyStore).complete(KEY);
+    }
+
+    @Test
+    @DisplayName("UT-21: Replayed key should return the stored order without creating another")
+    void execute_CompletedKey_ShouldReplayOrder() {
+        when(idempotencyStore.claim(eq(KEY), anyString())).thenReturn(
+                new IdempotencyClaim(IdempotencyClaim.Status.COMPLETED, ORDER_ID));
+        Order order = existingOrder(OrderStatus.CONFIRMED);
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order));
+
+        IdempotentCreateOrderService.Result result = service.execute(KEY, 1L, ITEMS, PaymentMethod.CREDIT_CARD);
+
+        assertTrue(result.replayed());
+        assertSame(order, result.order());
+        verifyNoInteractions(createOrderService);
+    }
+
+    @Test
+    @DisplayName("UT-22: Key in flight or reused with another body should be rejected")
+    void execute_InProgressOrMismatch_ShouldThrow() {
+        when(idempotencyStore.claim(eq(KEY), anyString()))
+                .thenReturn(IdempotencyClaim.of(IdempotencyClaim.Status.IN_PROGRESS))
+                .thenReturn(IdempotencyClaim.of(IdempotencyClaim.Status.MISMATCH));
+
+        assertThrows(IdempotencyKeyInProgressException.class,
+                () -> service.execute(KEY, 1L, ITEMS, PaymentMethod.CREDIT_CARD));
+        assertThrows(IdempotencyKeyMismatchException.class,
+                () -> service.execute(KEY, 1L, ITEMS, PaymentMethod.CREDIT_CARD));
+        verifyNoInteractions(createOrderService);
+    }
+
+    @Test
+    @DisplayName("UT-23: Failure before the order exists should release the key")
+    void execute_ValidationFails_ShouldReleaseKey() {
+        when(idempotencyStore.claim(eq(KEY), anyString())).thenReturn(
+                IdempotencyClaim.of(IdempotencyClaim.Status.ACQUIRED));
+        when(createOrderService.execute(eq(1L), eq(ITEMS), eq(PaymentMethod.CREDIT_CARD), any()))
+                .thenThrow(new MemberValidationException(1L, "Member does not exist"));
+
+        assertThrows(MemberValidationException.class,
+                () -> service.execute(KEY, 1L, ITEMS, PaymentMethod.CREDIT_CARD));
+        verify(idempotencyStore).release(KEY);
+        verify(idempotencyStore, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("UT-24: Payment failure after the order exists should keep the key bound")
+    void execute_PaymentTimeout_ShouldCompleteKey() {
+        when(idempotencyStore.claim(eq(KEY), anyString())).thenReturn(
+                IdempotencyClaim.of(IdempotencyClaim.Status.ACQUIRED));
+        when(createOrderService.execute(eq(1L), eq(ITEMS), eq(PaymentMethod.CREDIT_CARD), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<Order> onPersisted = invocation.getArgument(3);
+                    onPersisted.accept(existingOrder(OrderStatus.PENDING));
+                    throw new ExternalServiceException("PaymentService", "Read timed out");
+                });
+
+        assertThrows(ExternalServiceException.class,
+                () -> service.execute(KEY, 1L, ITEMS, PaymentMethod.CREDIT_CARD));
+        verify(idempotencyStore).attachOrder(KEY, ORDER_ID);
+        verify(idempotencyStore).completeWithFailure(KEY, new IdempotencyFailure(
+                IdempotencyFailure.Type.SERVICE_UNAVAILABLE, "PaymentService", "Read timed out"));
+        verify(idempotencyStore, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("UT-40: Replayed key of a failed payment should end with the same failure")
+    void execute_CompletedWithFailure_ShouldReplayFailure() {
+        when(idempotencyStore.claim(eq(KEY), anyString())).thenReturn(new IdempotencyClaim(
+                IdempotencyClaim.Status.COMPLETED, ORDER_ID,
+                new IdempotencyFailure(IdempotencyFailure.Type.PAYMENT_FAILED, null, "Card declined")));
+
+        PaymentFailedException e = assertThrows(PaymentFailedException.class,
+                () -> service.execute(KEY, 1L, ITEMS, PaymentMethod.CREDIT_CARD));
+
+        assertEquals(new PaymentFailedException(ORDER_ID, "Card declined").getMessage(), e.getMessage());
+        verifyNoInteractions(createOrderService, orderRepository);
+    }
+
+    @Test
+    @DisplayName("UT-25: Request fingerprint should depend on the request content")
+    void fingerprint_ShouldDifferForDifferentRequests() {
+        String original = IdempotentCreateOrderService.fingerprint(1L, ITEMS, PaymentMethod.CREDIT_CARD);
+
+        assertEquals(original, IdempotentCreateOrderService.fingerprint(1L, ITEMS, PaymentMethod.CREDIT_CARD));
+        assertNotEquals(original, IdempotentCreateOrderService.fingerprint(1L,
+                List.of(new CreateOrderService.OrderItemRequest(101L, 3)), PaymentMethod.CREDIT_CARD));
+    }
+
+    private void stubCreateOrder(Order order) {
+        when(createOrderService.execute(eq(1L), eq(ITEMS), eq(PaymentMethod.CREDIT_CARD), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<Order> onPersisted = invocation.getArgument(3);
+                    onPersisted.accept(order);
+                    return order;
+                });
+    }
+
+    private static Order existingOrder(OrderStatus status) {
+        OrderItem item = new OrderItem(101L, "Test Product", new BigDecimal("100.00"), 2);
+        return Order.reconstitute(ORDER_ID, 1L, List.of(item), new BigDecimal("200.00"), PaymentMethod.CREDIT_CARD,
+                status, null, 0L, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,167 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.PaymentResponseDto;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.application.port.out.PaymentClientPort;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderItem;
+import com.sotatek.order.domain.model.OrderStatus;
+import com.sotatek.order.domain.model.PaymentMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @Mock
+    private PaymentClientPort paymentClient;
+
+    private ExecutorService executor;
+
+    private PaymentReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        service = new PaymentReconciliationService(orderRepository, paymentClient, executor,
+                BATCH_SIZE, Duration.ofMinutes(1), 10, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("UT-26: Completed and failed payments should settle their orders in one bulk save")
+    void reconcile_SettledPayments_ShouldConfirmOrFailInBulk() {
+        Order completed = pendingOrder(1L, 501L);
+        Order failed = pendingOrder(2L, 502L);
+        when(orderRepository.claimDuePaymentChecks(any(), any(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(completed, failed));
+        stubPayments(Map.of(501L, "COMPLETED", 502L, "FAILED"));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        int settled = service.reconcile();
+
+        assertEquals(2, settled);
+        assertEquals(OrderStatus.CONFIRMED, completed.getStatus());
+        assertEquals(501L, completed.getPaymentId());
+        assertEquals(OrderStatus.FAILED, failed.getStatus());
+        verify(orderRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("UT-27: Orders whose payment is still pending, unknown or unreachable should stay PENDING")
+    void reconcile_UnsettledPayments_ShouldLeaveOrdersPending() {
+        Order stillPending = pendingOrder(1L, 501L);
+        Order unknown = pendingOrder(2L, 502L);
+        Order unreachable = pendingOrder(3L, 503L);
+        Order completed = pendingOrder(4L, 504L);
+        when(orderRepository.claimDuePaymentChecks(any(), any(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(stillPending, unknown, unreachable))
+                .thenReturn(List.of(completed));
+        stubPayments(Map.of(501L, "PENDING", 504L, "COMPLETED"));
+        when(paymentClient.getPayment(502L)).thenReturn(Optional.empty());
+        when(paymentClient.getPayment(503L)).thenThrow(new ExternalServiceException("PaymentService", "timeout"));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        int settled = service.reconcile();
+
+        assertEquals(1, settled);
+        assertEquals(OrderStatus.PENDING, stillPending.getStatus());
+        assertEquals(OrderStatus.PENDING, unknown.getStatus());
+        assertEquals(OrderStatus.PENDING, unreachable.getStatus());
+        verify(orderRepository).saveAll(List.of(completed));
+    }
+
+    @Test
+    @DisplayName("UT-28: Claims should postpone the next check and stop once a batch is not full")
+    void reconcile_ShouldClaimWithLeaseUntilBatchNotFull() {
+        List<Order> fullBatch = new ArrayList<>();
+        for (long i = 1; i <= BATCH_SIZE; i++) {
+            fullBatch.add(pendingOrder(i, 500L + i));
+        }
+        when(orderRepository.claimDuePaymentChecks(any(), any(), eq(BATCH_SIZE)))
+                .thenReturn(fullBatch)
+                .thenReturn(List.of());
+        when(paymentClient.getPayment(anyLong())).thenReturn(Optional.of(payment(0L, "PENDING")));
+
+        assertEquals(0, service.reconcile());
+
+        ArgumentCaptor<LocalDateTime> dueBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> nextCheckAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(orderRepository, times(2)).claimDuePaymentChecks(dueBefore.capture(), nextCheckAt.capture(),
+                eq(BATCH_SIZE));
+        assertEquals(Duration.ofMinutes(1), Duration.between(dueBefore.getValue(), nextCheckAt.getValue()));
+        verify(orderRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("UT-36: Orders without a payment should be flagged for review, not failed, after the unpaid timeout")
+    void reconcile_OrdersWithoutPayment_ShouldFlagForReviewAfterUnpaidTimeout() {
+        Order abandoned = unpaidOrder(1L, LocalDateTime.now().minusMinutes(11));
+        Order recent = unpaidOrder(2L, LocalDateTime.now().minusMinutes(1));
+        when(orderRepository.claimDuePaymentChecks(any(), any(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(abandoned, recent));
+        when(orderRepository.flagForPaymentReview(anyList())).thenAnswer(invocation ->
+                invocation.<List<Order>>getArgument(0).size());
+
+        int handled = service.reconcile();
+
+        assertEquals(1, handled);
+        assertEquals(OrderStatus.PENDING, abandoned.getStatus());
+        assertEquals(OrderStatus.PENDING, recent.getStatus());
+        verify(orderRepository).flagForPaymentReview(List.of(abandoned));
+        verify(orderRepository, never()).saveAll(anyList());
+        verifyNoInteractions(paymentClient);
+    }
+
+    private void stubPayments(Map<Long, String> statuses) {
+        statuses.forEach((paymentId, status) -> when(paymentClient.getPayment(paymentId))
+                .thenReturn(Optional.of(payment(paymentId, status))));
+    }
+
+    private static PaymentResponseDto payment(Long paymentId, String status) {
+        return new PaymentResponseDto(paymentId, null, new BigDecimal("200.00"), status, "TXN-" + paymentId,
+                LocalDateTime.now());
+    }
+
+    private static Order unpaidOrder(Long id, LocalDateTime createdAt) {
+        OrderItem item = new OrderItem(101L, "Test Product", new BigDecimal("100.00"), 2);
+        return Order.reconstitute(id, 1L, List.of(item), new BigDecimal("200.00"), PaymentMethod.CREDIT_CARD,
+                OrderStatus.PENDING, null, 0L, createdAt, createdAt);
+    }
+
+    private static Order pendingOrder(Long id, Long paymentId) {
+        OrderItem item = new OrderItem(101L, "Test Product", new BigDecimal("100.00"), 2);
+        return Order.reconstitute(id, 1L, List.of(item), new BigDecimal("200.00"), PaymentMethod.CREDIT_CARD,
+                OrderStatus.PENDING, paymentId, 0L, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
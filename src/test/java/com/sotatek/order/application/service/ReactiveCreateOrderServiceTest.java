@@ -0,0 +1,186 @@
+package com.sotatek.order.application.service;
+
+import com.sotatek.order.application.dto.*;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.exception.MemberValidationException;
+import com.sotatek.order.application.exception.PaymentFailedException;
+import com.sotatek.order.application.exception.ProductValidationException;
+import com.sotatek.order.application.port.out.*;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderStatus;
+import com.sotatek.order.domain.model.PaymentMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreateOrderServiceTest {
+
+        private static final Long MEMBER_ID = 1L;
+        private static final Long PRODUCT_ID = 101L;
+
+        @Mock
+        private OrderRepositoryPort orderRepository;
+        @Mock
+        private ReactiveMemberClientPort memberClient;
+        @Mock
+        private ReactiveProductClientPort productClient;
+        @Mock
+        private ReactivePaymentClientPort paymentClient;
+
+        private ReactiveCreateOrderService createOrderService;
+
+        @BeforeEach
+        void setUp() {
+                createOrderService = createService(Duration.ofSeconds(5), 100);
+        }
+
+        private ReactiveCreateOrderService createService(Duration paymentTimeout, int maxInFlight) {
+                return new ReactiveCreateOrderService(memberClient, productClient, paymentClient, orderRepository,
+                                Schedulers.immediate(), 1000, paymentTimeout, maxInFlight);
+        }
+
+        @Test
+        @DisplayName("UT-29: Reactive pipeline creates a confirmed order")
+        void execute_ValidOrder_SuccessPayment_ShouldCreateConfirmedOrder() {
+                stubActiveMember();
+                stubProduct(new ProductStockDto(PRODUCT_ID, 100, 0, 100));
+                when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+                when(paymentClient.createPayment(any(PaymentRequestDto.class))).thenReturn(Mono.just(
+                                new PaymentResponseDto(1L, 1L, new BigDecimal("200.00"), "COMPLETED", "TXN-1",
+                                                LocalDateTime.now())));
+
+                StepVerifier.create(createOrderService.execute(MEMBER_ID, items(2), PaymentMethod.CREDIT_CARD))
+                                .assertNext(order -> assertEquals(OrderStatus.CONFIRMED, order.getStatus()))
+                                .verifyComplete();
+
+                verify(orderRepository, times(2)).save(any(Order.class));
+                assertEquals(0, createOrderService.inFlightCount());
+        }
+
+        @Test
+        @DisplayName("UT-30: Reactive pipeline reports the member failure over an earlier product failure")
+        void execute_InvalidMemberAndInvalidProduct_ShouldFailWithMemberValidation() {
+                // Product lookup fails at once, member check only later
+                when(memberClient.getMember(MEMBER_ID)).thenReturn(Mono.<MemberDto>empty()
+                                .delaySubscription(Duration.ofMillis(100)));
+                when(productClient.getProductsWithStock(anyCollection()))
+                                .thenReturn(Mono.error(new ExternalServiceException("ProductService", "Unavailable")));
+
+                StepVerifier.create(createOrderService.execute(MEMBER_ID, items(1), PaymentMethod.CREDIT_CARD))
+                                .expectError(MemberValidationException.class)
+                                .verify(Duration.ofSeconds(5));
+
+                verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("UT-31: Reactive pipeline rejects insufficient stock before saving")
+        void execute_InsufficientStock_ShouldFailWithProductValidation() {
+                stubActiveMember();
+                stubProduct(new ProductStockDto(PRODUCT_ID, 10, 9, 1));
+
+                StepVerifier.create(createOrderService.execute(MEMBER_ID, items(2), PaymentMethod.CREDIT_CARD))
+                                .expectError(ProductValidationException.class)
+                                .verify(Duration.ofSeconds(5));
+
+                verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("UT-32: Reactive pipeline marks the order FAILED when payment is rejected")
+        void execute_PaymentFailure_ShouldMarkOrderAsFailed() {
+                stubActiveMember();
+                stubProduct(new ProductStockDto(PRODUCT_ID, 10, 0, 10));
+                when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+                when(paymentClient.createPayment(any()))
+                                .thenReturn(Mono.error(new PaymentFailedException(1L, "Failed")));
+
+                StepVerifier.create(createOrderService.execute(MEMBER_ID, items(1), PaymentMethod.CREDIT_CARD))
+                                .expectError(PaymentFailedException.class)
+                                .verify(Duration.ofSeconds(5));
+
+                ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+                verify(orderRepository, times(2)).save(orderCaptor.capture());
+                assertEquals(OrderStatus.FAILED, orderCaptor.getAllValues().get(1).getStatus());
+        }
+
+        @Test
+        @DisplayName("UT-33: Reactive payment timeout should leave the saved order PENDING")
+        void execute_PaymentTimeout_ShouldLeaveOrderPending() {
+                createOrderService = createService(Duration.ofMillis(100), 100);
+                stubActiveMember();
+                stubProduct(new ProductStockDto(PRODUCT_ID, 10, 0, 10));
+                when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+                when(paymentClient.createPayment(any())).thenReturn(Mono.never());
+
+                StepVerifier.create(createOrderService.execute(MEMBER_ID, items(1), PaymentMethod.CREDIT_CARD))
+                                .expectError(ExternalServiceException.class)
+                                .verify(Duration.ofSeconds(5));
+
+                ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+                verify(orderRepository, times(1)).save(orderCaptor.capture());
+                assertEquals(OrderStatus.PENDING, orderCaptor.getValue().getStatus());
+                assertEquals(0, createOrderService.inFlightCount());
+        }
+
+        @Test
+        @DisplayName("UT-34: Reactive pipeline should reject orders beyond max-in-flight at once")
+        void execute_BeyondMaxInFlight_ShouldFailFast() {
+                createOrderService = createService(Duration.ofSeconds(5), 1);
+                when(memberClient.getMember(MEMBER_ID)).thenReturn(Mono.never());
+                stubProduct(new ProductStockDto(PRODUCT_ID, 10, 0, 10));
+
+                createOrderService.execute(MEMBER_ID, items(1), PaymentMethod.CREDIT_CARD).subscribe();
+
+                StepVerifier.create(createOrderService.execute(MEMBER_ID, items(1), PaymentMethod.CREDIT_CARD))
+                                .expectError(ExternalServiceException.class)
+                                .verify(Duration.ofMillis(500));
+                assertEquals(1, createOrderService.inFlightCount());
+        }
+
+        @Test
+        @DisplayName("UT-39: A client throwing while the pipeline is built should not leak an in-flight slot")
+        void execute_ClientThrowsSynchronously_ShouldReleaseInFlightSlot() {
+                when(memberClient.getMember(MEMBER_ID)).thenThrow(new IllegalStateException("Client not ready"));
+
+                StepVerifier.create(createOrderService.execute(MEMBER_ID, items(1), PaymentMethod.CREDIT_CARD))
+                                .expectError(IllegalStateException.class)
+                                .verify(Duration.ofSeconds(5));
+
+                assertEquals(0, createOrderService.inFlightCount());
+        }
+
+        private void stubActiveMember() {
+                when(memberClient.getMember(MEMBER_ID)).thenReturn(Mono.just(
+                                new MemberDto(MEMBER_ID, "Test User", "test@test.com", "ACTIVE", "GOLD")));
+        }
+
+        private void stubProduct(ProductStockDto stock) {
+                ProductDto product = new ProductDto(PRODUCT_ID, "Test Product", new BigDecimal("100.00"), "AVAILABLE");
+                when(productClient.getProductsWithStock(anyCollection()))
+                                .thenReturn(Mono.just(Map.of(PRODUCT_ID, new ProductWithStockDto(product, stock))));
+        }
+
+        private static List<CreateOrderService.OrderItemRequest> items(int quantity) {
+                return List.of(new CreateOrderService.OrderItemRequest(PRODUCT_ID, quantity));
+        }
+}
@@ -0,0 +1,25 @@
+package com.sotatek.order.domain.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Orders shared by the tests that persist or list many of them.
+ */
+public final class TestOrders {
+
+    private TestOrders() {
+    }
+
+    /**
+     * New order of a member; item i is product 101 + i with quantity i + 1.
+     */
+    public static Order createTestOrder(Long memberId, int itemCount) {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItem(101L + i, "Test Product " + i, new BigDecimal("10.00"), i + 1));
+        }
+        return Order.create(memberId, items, PaymentMethod.CREDIT_CARD);
+    }
+}
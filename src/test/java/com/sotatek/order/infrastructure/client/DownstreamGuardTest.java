@@ -0,0 +1,119 @@
+package com.sotatek.order.infrastructure.client;
+
+import com.sotatek.order.application.exception.DownstreamRejectedException;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.exception.PaymentFailedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DownstreamGuard guard;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("external-services.product.circuit-breaker.sliding-window-size", "4")
+                .withProperty("external-services.product.circuit-breaker.minimum-number-of-calls", "4")
+                .withProperty("external-services.product.circuit-breaker.wait-duration-in-open-state", "1m")
+                .withProperty("external-services.product.bulkhead.max-concurrent-calls", "1");
+        guard = new DownstreamGuards(environment, meterRegistry).forService("product", "ProductService");
+        callers = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("A failing service should open the circuit and later calls should fail without being sent")
+    void execute_RepeatedFailures_ShouldOpenCircuit() {
+        AtomicInteger sent = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ExternalServiceException.class, () -> guard.execute(() -> {
+                sent.incrementAndGet();
+                throw new ExternalServiceException("ProductService", "timeout");
+            }));
+        }
+
+        ExternalServiceException rejected = assertThrows(DownstreamRejectedException.class,
+                () -> guard.execute(() -> sent.incrementAndGet()));
+
+        assertEquals("ProductService", rejected.getServiceName());
+        assertEquals(4, sent.get());
+        assertEquals(1.0, rejections("circuit_open"));
+        // OPEN
+        assertEquals(1.0, meterRegistry.get("resilience4j.circuitbreaker.state")
+                .tag("name", "ProductService").tag("state", "open").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Business rejections and other exceptions should not count as downstream failures")
+    void execute_NonServiceErrors_ShouldKeepCircuitClosed() {
+        for (int i = 0; i < 8; i++) {
+            assertThrows(PaymentFailedException.class, () -> guard.execute(() -> {
+                throw new PaymentFailedException(1L, "Insufficient funds");
+            }));
+        }
+
+        assertEquals("ok", guard.execute(() -> "ok"));
+        assertEquals(0.0, rejections("circuit_open"));
+    }
+
+    @Test
+    @DisplayName("Calls beyond the bulkhead limit should be rejected immediately")
+    void execute_BulkheadFull_ShouldRejectImmediately() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = callers.submit(() -> guard.execute(() -> {
+            inFlight.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        assertThrows(DownstreamRejectedException.class, () -> guard.execute(() -> "second"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        release.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertTrue(elapsedMs < 100, "Rejection took " + elapsedMs + "ms");
+        assertEquals(1.0, rejections("bulkhead_full"));
+        // The slot is free again
+        assertEquals("third", guard.execute(() -> "third"));
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get(DownstreamGuard.REJECTIONS_METRIC)
+                .tag("service", "ProductService")
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sotatek.order.infrastructure.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamHttpClientsTest {
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/slow")).willReturn(ok("slow").withFixedDelay(1000)));
+        wireMockServer.stubFor(get(urlEqualTo("/fast")).willReturn(ok("fast")));
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    @DisplayName("Each service should use its own configured read timeout")
+    void requestFactory_ShouldHonorServiceTimeout() {
+        DownstreamHttpClients httpClients = new DownstreamHttpClients(new MockEnvironment()
+                .withProperty("external-services.member.timeout", "100")
+                .withProperty("external-services.product.timeout", "3000"));
+        RestClient member = client(httpClients, "member");
+        RestClient product = client(httpClients, "product");
+
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> member.get().uri("/slow").retrieve().body(String.class));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs < 800, "Member call gave up after " + elapsedMs + "ms");
+        assertEquals("slow", product.get().uri("/slow").retrieve().body(String.class));
+    }
+
+    @Test
+    @DisplayName("A service's request factory should be built once and shared")
+    void requestFactory_ShouldBeSharedPerService() {
+        DownstreamHttpClients httpClients = new DownstreamHttpClients(new MockEnvironment());
+
+        assertSame(httpClients.requestFactory("product"), httpClients.requestFactory("product"));
+        assertNotSame(httpClients.requestFactory("product"), httpClients.requestFactory("member"));
+        assertEquals("fast", client(httpClients, "product").get().uri("/fast").retrieve().body(String.class));
+    }
+
+    private static RestClient client(DownstreamHttpClients httpClients, String configKey) {
+        return RestClient.builder()
+                .requestFactory(httpClients.requestFactory(configKey))
+                .baseUrl(wireMockServer.baseUrl())
+                .build();
+    }
+}
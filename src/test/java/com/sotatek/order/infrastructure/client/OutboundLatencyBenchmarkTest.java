@@ -0,0 +1,117 @@
+package com.sotatek.order.infrastructure.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Outbound call latency under concurrent load against a local WireMock stand-in for
+ * Product Service: a new connection per request versus the pooled per-service client.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class OutboundLatencyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundLatencyBenchmarkTest.class);
+
+    private static final int CALLERS = 16;
+    private static final int WARMUP_CALLS = 500;
+    private static final int MEASURED_CALLS = 4000;
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/api/products/101"))
+                .willReturn(okJson("{\"id\": 101, \"name\": \"Product\", \"price\": 50.00, \"status\": \"AVAILABLE\"}")));
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    @DisplayName("Pooled connections should cut per-call latency compared to a new connection per call")
+    void getProduct_PooledVsNewConnection() throws Exception {
+        DownstreamHttpClients httpClients = new DownstreamHttpClients(new MockEnvironment());
+        RestClient pooled = RestClient.builder()
+                .requestFactory(httpClients.requestFactory("product"))
+                .baseUrl(wireMockServer.baseUrl())
+                .build();
+        // A fresh client per call cannot reuse a connection
+        Supplier<RestClient> unpooled = () -> RestClient.builder()
+                .requestFactory(new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                        .connectTimeout(Duration.ofSeconds(1))
+                        .build()))
+                .baseUrl(wireMockServer.baseUrl())
+                .build();
+
+        run(WARMUP_CALLS, () -> pooled);
+        run(WARMUP_CALLS, unpooled);
+        Result newConnection = run(MEASURED_CALLS, unpooled);
+        Result pooledConnection = run(MEASURED_CALLS, () -> pooled);
+
+        log.info("new connection per call: mean {} us, p95 {} us", newConnection.meanMicros(),
+                newConnection.p95Micros());
+        log.info("pooled connections:      mean {} us, p95 {} us", pooledConnection.meanMicros(),
+                pooledConnection.p95Micros());
+
+        assertTrue(pooledConnection.meanMicros() < newConnection.meanMicros(),
+                "Pooled mean " + pooledConnection.meanMicros() + "us vs new connection "
+                        + newConnection.meanMicros() + "us");
+    }
+
+    private static Result run(int calls, Supplier<RestClient> client) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            Callable<Long> call = () -> {
+                long start = System.nanoTime();
+                client.get().get().uri("/api/products/101").retrieve().body(String.class);
+                return System.nanoTime() - start;
+            };
+            List<Future<Long>> futures = new ArrayList<>(calls);
+            for (int i = 0; i < calls; i++) {
+                futures.add(callers.submit(call));
+            }
+            long[] nanos = new long[calls];
+            for (int i = 0; i < calls; i++) {
+                nanos[i] = futures.get(i).get(30, TimeUnit.SECONDS);
+            }
+            Arrays.sort(nanos);
+            return new Result(
+                    Arrays.stream(nanos).sum() / calls / 1000,
+                    nanos[(int) (calls * 0.95)] / 1000);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private record Result(long meanMicros, long p95Micros) {
+    }
+}
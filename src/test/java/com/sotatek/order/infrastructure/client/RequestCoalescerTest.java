@@ -0,0 +1,157 @@
+package com.sotatek.order.infrastructure.client;
+
+import com.sotatek.order.application.exception.ExternalServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer<Long, String> coalescer;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer<>("ProductService", "getProduct", meterRegistry);
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent identical calls should share one downstream call")
+    void execute_ConcurrentSameKey_ShouldRunOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitAll(() -> coalescer.execute(1L, () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "product-1";
+        }));
+        waitForCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("product-1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1.0, count("executed"));
+        assertEquals(CALLERS - 1.0, count("coalesced"));
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("A failure should be delivered to every collapsed caller")
+    void execute_CallFails_ShouldPropagateToAllCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitAll(() -> coalescer.execute(1L, () -> {
+            await(release);
+            throw new ExternalServiceException("ProductService", "Connection refused");
+        }));
+        waitForCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ExternalServiceException.class, e.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Callers collapsed into a call whose caller was cancelled should run the call again")
+    void execute_LeaderCancelled_ShouldNotFailOtherCallers() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Callable<String> lookup = () -> coalescer.execute(1L, () -> {
+            if (calls.incrementAndGet() > 1) {
+                return "product-1";
+            }
+            leaderStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                return "unexpected";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExternalServiceException("ProductService", "Interrupted", e);
+            }
+        });
+
+        Future<String> leader = callers.submit(lookup);
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            waiters.add(callers.submit(lookup));
+        }
+        waitForCollapsed(CALLERS - 1);
+        leader.cancel(true);
+
+        for (Future<String> waiter : waiters) {
+            assertEquals("product-1", waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Calls that do not overlap in time should not share a result")
+    void execute_Sequential_ShouldCallEachTime() {
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.execute(1L, () -> "v" + calls.incrementAndGet());
+        String second = coalescer.execute(1L, () -> "v" + calls.incrementAndGet());
+
+        assertEquals("v2", second);
+        assertEquals(2.0, count("executed"));
+        assertEquals(0.0, count("coalesced"));
+    }
+
+    private List<Future<String>> submitAll(Callable<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(call));
+        }
+        return results;
+    }
+
+    private void waitForCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get(RequestCoalescer.METRIC_NAME).tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.sotatek.order.infrastructure.client;
+
+import com.sotatek.order.application.exception.ExternalServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestHedgerTest {
+
+    private static final Duration DELAY = Duration.ofMillis(50);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("A fast call should not be hedged")
+    void execute_FastCall_ShouldNotHedge() {
+        RequestHedger hedger = hedger(new HedgeBudget(1.0, 10));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("product", hedger.execute(() -> {
+            calls.incrementAndGet();
+            return "product";
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals(0.0, hedges("sent"));
+    }
+
+    @Test
+    @DisplayName("A slow call should be hedged, the hedge should win and the slow call be cancelled")
+    void execute_SlowCall_ShouldHedgeAndCancelLoser() throws Exception {
+        RequestHedger hedger = hedger(new HedgeBudget(1.0, 10));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loserInterrupted = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        String result = hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                // First replica stalls (e.g. GC pause)
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    loserInterrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+                return "stalled";
+            }
+            return "hedge";
+        });
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("hedge", result);
+        assertTrue(elapsedMs < 1000, "Hedged call took " + elapsedMs + "ms");
+        assertTrue(loserInterrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, hedges("sent"));
+        assertEquals(1.0, hedges("won"));
+    }
+
+    @Test
+    @DisplayName("A call failing before the delay should not be hedged")
+    void execute_FastFailure_ShouldNotHedge() {
+        RequestHedger hedger = hedger(new HedgeBudget(1.0, 10));
+
+        assertThrows(ExternalServiceException.class, () -> hedger.execute(() -> {
+            throw new ExternalServiceException("ProductService", "503");
+        }));
+        assertEquals(0.0, hedges("sent"));
+    }
+
+    @Test
+    @DisplayName("Hedges should stop once the budget is used up")
+    void execute_BudgetExhausted_ShouldSkipHedges() {
+        RequestHedger hedger = hedger(new HedgeBudget(0.05, 1));
+
+        for (int i = 0; i < 40; i++) {
+            hedger.execute(() -> {
+                sleep(DELAY.toMillis() + 20);
+                return "slow";
+            });
+        }
+
+        // 40 requests earn 2 tokens at 5%
+        assertEquals(2.0, hedges("sent"));
+        assertEquals(38.0, hedges("skipped"));
+    }
+
+    @Test
+    @DisplayName("A hedge the executor rejects should be skipped")
+    void execute_HedgeRejected_ShouldSkipHedge() {
+        useSingleWorkerExecutor();
+        RequestHedger hedger = hedger(new HedgeBudget(1.0, 10));
+
+        // The only worker runs the call, so its hedge is rejected
+        assertEquals("slow", hedger.execute(() -> {
+            sleep(DELAY.toMillis() * 2);
+            return "slow";
+        }));
+
+        assertEquals(0.0, hedges("sent"));
+        assertEquals(1.0, hedges("skipped"));
+    }
+
+    @Test
+    @DisplayName("A call the executor rejects should run on the caller, without a hedge")
+    void execute_CallRejected_ShouldRunOnCaller() {
+        useSingleWorkerExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+        RequestHedger hedger = hedger(new HedgeBudget(1.0, 10));
+        try {
+            assertEquals(Thread.currentThread(), hedger.execute(Thread::currentThread));
+            assertEquals(0.0, hedges("sent"));
+            assertEquals(1.0, hedges("skipped"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private RequestHedger hedger(HedgeBudget budget) {
+        return new RequestHedger("ProductService", "getProduct", DELAY, budget, executor, meterRegistry);
+    }
+
+    private void useSingleWorkerExecutor() {
+        executor.shutdownNow();
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private double hedges(String outcome) {
+        return meterRegistry.get(RequestHedger.METRIC_NAME)
+                .tag("service", "ProductService")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.sotatek.order.infrastructure.client.cache;
+
+import com.sotatek.order.application.dto.CacheStatsDto;
+import com.sotatek.order.application.dto.MemberDto;
+import com.sotatek.order.application.port.out.MemberClientPort;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingMemberClientAdapterTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(4);
+
+    @Mock
+    private MemberClientPort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private CachingMemberClientAdapter cachingClient;
+
+    @BeforeEach
+    void setUp() {
+        // Same-thread executor makes refreshes deterministic
+        cachingClient = new CachingMemberClientAdapter(
+                delegate, 100, TTL, NEGATIVE_TTL, REFRESH_AFTER, Runnable::run, nanos::get);
+    }
+
+    @Test
+    @DisplayName("Repeated lookups of a member should hit the cache")
+    void getMember_RepeatedLookup_ShouldCallDownstreamOnce() {
+        when(delegate.getMember(1L)).thenReturn(Optional.of(activeMember(1L)));
+
+        cachingClient.getMember(1L);
+        Optional<MemberDto> result = cachingClient.getMember(1L);
+
+        assertTrue(result.isPresent());
+        verify(delegate, times(1)).getMember(1L);
+        CacheStatsDto stats = cachingClient.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    @DisplayName("Not-found answers should expire after the negative TTL")
+    void getMember_NotFound_ShouldExpireAfterNegativeTtl() {
+        when(delegate.getMember(999L)).thenReturn(Optional.empty());
+
+        cachingClient.getMember(999L);
+        advance(NEGATIVE_TTL.minusSeconds(1));
+        cachingClient.getMember(999L);
+        verify(delegate, times(1)).getMember(999L);
+
+        advance(Duration.ofSeconds(2));
+        cachingClient.getMember(999L);
+        verify(delegate, times(2)).getMember(999L);
+    }
+
+    @Test
+    @DisplayName("Entries past refresh-after should be reloaded ahead of expiry")
+    void getMember_PastRefreshAfter_ShouldRefreshAhead() {
+        when(delegate.getMember(1L))
+                .thenReturn(Optional.of(activeMember(1L)))
+                .thenReturn(Optional.of(new MemberDto(1L, "User", "u@e.com", "INACTIVE", "GOLD")));
+
+        cachingClient.getMember(1L);
+        advance(REFRESH_AFTER.plusSeconds(1));
+
+        // Read past refresh-after triggers the reload
+        cachingClient.getMember(1L);
+        Optional<MemberDto> refreshed = cachingClient.getMember(1L);
+
+        assertEquals("INACTIVE", refreshed.orElseThrow().status());
+        verify(delegate, times(2)).getMember(1L);
+    }
+
+    @Test
+    @DisplayName("Concurrent misses for the same member should share one downstream call")
+    void getMember_ConcurrentMisses_ShouldCollapseIntoOneCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getMember(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(activeMember(1L));
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<MemberDto>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cachingClient.getMember(1L)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Optional<MemberDto>> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isPresent());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(delegate, times(1)).getMember(1L);
+    }
+
+    @Test
+    @DisplayName("Lookups on virtual threads should not pin their carrier while loading")
+    void getMember_OnVirtualThreads_ShouldNotPinCarrier() throws Exception {
+        MemberClientPort slowMemberService = memberId -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(activeMember(memberId));
+        };
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+
+        try (ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor();
+                RecordingStream recording = new RecordingStream()) {
+            CachingMemberClientAdapter client = new CachingMemberClientAdapter(
+                    slowMemberService, 100, TTL, NEGATIVE_TTL, REFRESH_AFTER, loader, nanos::get);
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(10));
+            recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            recording.startAsync();
+
+            try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (long id = 1; id <= 20; id++) {
+                    long memberId = id;
+                    callers.submit(() -> client.getMember(memberId));
+                }
+            }
+            recording.stop();
+        }
+
+        assertTrue(pinned.isEmpty(), "Pinned virtual threads: " + pinned);
+    }
+
+    @Test
+    @DisplayName("Invalidation should force the next lookup downstream")
+    void invalidate_ShouldEvictMember() {
+        when(delegate.getMember(1L)).thenReturn(Optional.of(activeMember(1L)));
+
+        cachingClient.getMember(1L);
+        cachingClient.invalidate(1L);
+        cachingClient.getMember(1L);
+
+        verify(delegate, times(2)).getMember(1L);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static MemberDto activeMember(Long id) {
+        return new MemberDto(id, "User", "u@e.com", "ACTIVE", "GOLD");
+    }
+}
@@ -0,0 +1,154 @@
+package com.sotatek.order.infrastructure.client.cache;
+
+import com.sotatek.order.application.dto.ProductDto;
+import com.sotatek.order.application.dto.ProductStockDto;
+import com.sotatek.order.application.dto.ProductWithStockDto;
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.port.out.ProductClientPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductClientAdapterTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final Duration STALE_WHILE_REVALIDATE = Duration.ofMinutes(5);
+    private static final Duration STALE_IF_ERROR = Duration.ofMinutes(30);
+
+    @Mock
+    private ProductClientPort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private CachingProductClientAdapter cachingClient;
+
+    @BeforeEach
+    void setUp() {
+        // Same-thread executor makes background refreshes deterministic
+        cachingClient = new CachingProductClientAdapter(
+                delegate, 100, TTL, STALE_WHILE_REVALIDATE, STALE_IF_ERROR, Runnable::run, nanos::get);
+    }
+
+    @Test
+    @DisplayName("Fresh entries should be served without calling Product Service")
+    void getProduct_Fresh_ShouldServeFromCache() {
+        when(delegate.getProduct(1L)).thenReturn(Optional.of(product(1L, "100000")));
+
+        cachingClient.getProduct(1L);
+        advance(TTL.minusSeconds(1));
+        Optional<ProductDto> result = cachingClient.getProduct(1L);
+
+        assertTrue(result.isPresent());
+        verify(delegate, times(1)).getProduct(1L);
+    }
+
+    @Test
+    @DisplayName("Stale entries should be served while being refreshed")
+    void getProduct_Stale_ShouldServeStaleAndRefresh() {
+        when(delegate.getProduct(1L))
+                .thenReturn(Optional.of(product(1L, "100000")))
+                .thenReturn(Optional.of(product(1L, "120000")));
+
+        cachingClient.getProduct(1L);
+        advance(TTL.plusSeconds(1));
+
+        assertEquals(new BigDecimal("100000"), cachingClient.getProduct(1L).orElseThrow().price());
+        assertEquals(new BigDecimal("120000"), cachingClient.getProduct(1L).orElseThrow().price());
+        verify(delegate, times(2)).getProduct(1L);
+    }
+
+    @Test
+    @DisplayName("Stale entries should be served when Product Service fails")
+    void getProduct_ServiceFails_ShouldServeStaleWithinStaleIfError() {
+        when(delegate.getProduct(1L))
+                .thenReturn(Optional.of(product(1L, "100000")))
+                .thenThrow(new ExternalServiceException("ProductService", "Connection refused"));
+
+        cachingClient.getProduct(1L);
+        advance(TTL.plus(STALE_WHILE_REVALIDATE).plusSeconds(1));
+
+        Optional<ProductDto> result = cachingClient.getProduct(1L);
+
+        assertEquals(new BigDecimal("100000"), result.orElseThrow().price());
+    }
+
+    @Test
+    @DisplayName("Product Service failure should propagate once past the stale-if-error window")
+    void getProduct_ServiceFails_ShouldThrowPastStaleIfError() {
+        when(delegate.getProduct(1L))
+                .thenReturn(Optional.of(product(1L, "100000")))
+                .thenThrow(new ExternalServiceException("ProductService", "Connection refused"));
+
+        cachingClient.getProduct(1L);
+        advance(TTL.plus(STALE_IF_ERROR).plusSeconds(1));
+
+        assertThrows(ExternalServiceException.class, () -> cachingClient.getProduct(1L));
+    }
+
+    @Test
+    @DisplayName("Stock should never be cached")
+    void getStock_ShouldAlwaysCallProductService() {
+        when(delegate.getStock(1L)).thenReturn(Optional.of(new ProductStockDto(1L, 10, 0, 10)));
+
+        cachingClient.getStock(1L);
+        cachingClient.getStock(1L);
+
+        verify(delegate, times(2)).getStock(1L);
+    }
+
+    @Test
+    @DisplayName("Cached products should only need a stock lookup")
+    void getProductsWithStock_AllCached_ShouldFetchStockOnly() {
+        ProductStockDto stock = new ProductStockDto(1L, 10, 0, 10);
+        when(delegate.getProducts(List.of(1L))).thenReturn(Map.of(1L, product(1L, "100000")));
+        when(delegate.getStocks(List.of(1L))).thenReturn(Map.of(1L, stock));
+
+        cachingClient.getProductsWithStock(List.of(1L));
+        Map<Long, ProductWithStockDto> result = cachingClient.getProductsWithStock(List.of(1L));
+
+        assertEquals(stock, result.get(1L).stock());
+        verify(delegate, times(1)).getProducts(List.of(1L));
+        verify(delegate, times(2)).getStocks(List.of(1L));
+        verify(delegate, never()).getProductsWithStock(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Only products missing from the cache should be fetched, stock for all of them")
+    void getProductsWithStock_PartlyCached_ShouldFetchMissingProductsOnly() {
+        when(delegate.getProduct(1L)).thenReturn(Optional.of(product(1L, "100000")));
+        cachingClient.getProduct(1L);
+        ProductStockDto stock1 = new ProductStockDto(1L, 10, 0, 10);
+        ProductStockDto stock2 = new ProductStockDto(2L, 5, 0, 5);
+        when(delegate.getProducts(List.of(2L))).thenReturn(Map.of(2L, product(2L, "50000")));
+        when(delegate.getStocks(List.of(1L, 2L))).thenReturn(Map.of(1L, stock1, 2L, stock2));
+
+        Map<Long, ProductWithStockDto> result = cachingClient.getProductsWithStock(List.of(1L, 2L));
+
+        assertEquals(List.of(1L, 2L), List.copyOf(result.keySet()));
+        assertEquals(stock1, result.get(1L).stock());
+        assertEquals(product(2L, "50000"), result.get(2L).product());
+        assertEquals(stock2, result.get(2L).stock());
+        verify(delegate).getProducts(List.of(2L));
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static ProductDto product(Long id, String price) {
+        return new ProductDto(id, "Product " + id, new BigDecimal(price), "AVAILABLE");
+    }
+}
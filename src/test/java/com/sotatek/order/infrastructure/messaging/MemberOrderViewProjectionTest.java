@@ -0,0 +1,153 @@
+package com.sotatek.order.infrastructure.messaging;
+
+import com.sotatek.order.application.dto.OrderEvent;
+import com.sotatek.order.application.dto.OrderEventType;
+import com.sotatek.order.application.port.out.OrderEventPublisherPort;
+import com.sotatek.order.application.service.ListOrdersService;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderStatus;
+import com.sotatek.order.infrastructure.persistence.MemberOrderViewAdapter;
+import com.sotatek.order.infrastructure.persistence.MemberOrderViewJpaRepository;
+import com.sotatek.order.infrastructure.persistence.OrderOutboxJpaRepository;
+import com.sotatek.order.infrastructure.persistence.OrderOutboxMapper;
+import com.sotatek.order.infrastructure.persistence.OrderRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.sotatek.order.domain.model.TestOrders.createTestOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Orders and relay batches commit in their own transactions, like in production
+@DataJpaTest(properties = "order.member-order-view.read-from-view=true")
+@ActiveProfiles("test")
+@Import({ OrderRepositoryAdapter.class, OrderOutboxRelay.class, MemberOrderViewProjection.class,
+        MemberOrderViewAdapter.class, ListOrdersService.class, MemberOrderViewProjectionTest.Config.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberOrderViewProjectionTest {
+
+    @Autowired
+    private OrderOutboxRelay relay;
+
+    @Autowired
+    private MemberOrderViewProjection projection;
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepository;
+
+    @Autowired
+    private OrderOutboxJpaRepository outboxRepository;
+
+    @Autowired
+    private MemberOrderViewJpaRepository viewRepository;
+
+    @Autowired
+    private ListOrdersService listOrdersService;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAllInBatch();
+        viewRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("The history read from the view should match the history read from the order tables")
+    void executeByMember_FromView_ShouldMatchOrderTables() {
+        Order first = orderRepository.save(createTestOrder(11L, 1));
+        orderRepository.save(createTestOrder(11L, 2));
+        orderRepository.save(createTestOrder(11L, 3));
+        first.cancel();
+        orderRepository.save(first);
+
+        relay.relayPending();
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        Page<Order> fromView = listOrdersService.executeByMember(11L, pageable);
+        Page<Order> fromTables = orderRepository.findByMemberId(11L, pageable);
+
+        assertEquals(3, fromView.getTotalElements());
+        assertEquals(fromTables.getContent().size(), fromView.getContent().size());
+        for (int i = 0; i < fromTables.getContent().size(); i++) {
+            assertSameOrder(fromTables.getContent().get(i), fromView.getContent().get(i));
+        }
+        assertEquals(orderRepository.findListVersionByMemberId(11L),
+                listOrdersService.findMemberListVersion(11L, pageable.getSort()));
+    }
+
+    @Test
+    @DisplayName("An event replayed after a newer one should not move the row back")
+    void apply_OlderEventAfterNewer_ShouldKeepNewerVersion() {
+        Order order = orderRepository.save(createTestOrder(12L, 1));
+        OrderEvent created =
+                OrderOutboxMapper.toEvent(OrderOutboxMapper.toEntity(order, OrderEventType.ORDER_CREATED));
+        order.cancel();
+        Order cancelled = orderRepository.save(order);
+        OrderEvent cancelledEvent =
+                OrderOutboxMapper.toEvent(OrderOutboxMapper.toEntity(cancelled, OrderEventType.ORDER_CANCELLED));
+
+        projection.apply(List.of(cancelledEvent));
+        projection.apply(List.of(created));
+
+        Order fromView = listOrdersService.executeByMember(12L, PageRequest.of(0, 10)).getContent().get(0);
+        assertEquals(OrderStatus.CANCELLED, fromView.getStatus());
+        assertEquals(cancelled.getVersion(), fromView.getVersion());
+    }
+
+    @Test
+    @DisplayName("A sort the view cannot serve should fall back to the order tables")
+    void executeByMember_UnsupportedSort_ShouldReadOrderTables() {
+        orderRepository.save(createTestOrder(13L, 1));
+
+        Page<Order> page = listOrdersService.executeByMember(13L,
+                PageRequest.of(0, 10, Sort.by("totalAmount")));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(0, viewRepository.count());
+        // The tag comes from the same store as the page
+        assertEquals(1L, listOrdersService.findMemberListVersion(13L, Sort.by("totalAmount")).orderCount());
+    }
+
+    private static void assertSameOrder(Order expected, Order actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getMemberId(), actual.getMemberId());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(0, expected.getTotalAmount().compareTo(actual.getTotalAmount()));
+        assertEquals(expected.getPaymentMethod(), actual.getPaymentMethod());
+        assertEquals(expected.getPaymentId(), actual.getPaymentId());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getItems(), actual.getItems());
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        OrderEventPublisherPort publisher() {
+            return events -> {
+            };
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
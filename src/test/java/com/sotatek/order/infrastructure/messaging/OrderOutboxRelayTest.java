@@ -0,0 +1,225 @@
+package com.sotatek.order.infrastructure.messaging;
+
+import com.sotatek.order.application.dto.OrderEvent;
+import com.sotatek.order.application.dto.OrderEventType;
+import com.sotatek.order.application.port.out.OrderEventPublisherPort;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderItem;
+import com.sotatek.order.domain.model.PaymentMethod;
+import com.sotatek.order.infrastructure.persistence.OrderOutboxJpaRepository;
+import com.sotatek.order.infrastructure.persistence.OrderRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Orders and relay batches commit in their own transactions, like in production
+@DataJpaTest(properties = "order.outbox.relay.batch-size=50")
+@ActiveProfiles("test")
+@Import({ OrderRepositoryAdapter.class, OrderOutboxRelay.class, OrderOutboxRelayTest.Config.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderOutboxRelayTest {
+
+    @Autowired
+    private OrderOutboxRelay relay;
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepository;
+
+    @Autowired
+    private OrderOutboxJpaRepository outboxRepository;
+
+    @Autowired
+    private RecordingPublisher publisher;
+
+    @Autowired
+    private RecordingProjection projection;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAllInBatch();
+        publisher.reset();
+        projection.reset();
+    }
+
+    @Test
+    @DisplayName("The relay should publish waiting events in batches, in order, and remove them")
+    void relayPending_ShouldPublishInBatchesAndDelete() {
+        double publishedBefore = meterRegistry.get("order.outbox.events.published").counter().count();
+        long batchesBefore = meterRegistry.get("order.outbox.relay.batch").timer().count();
+        saveOrders(120);
+
+        int relayed = relay.relayPending();
+
+        assertEquals(120, relayed);
+        List<Long> ids = publisher.events().stream().map(OrderEvent::id).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+        publisher.events().forEach(event -> assertEquals(OrderEventType.ORDER_CREATED, event.type()));
+        assertEquals(0, outboxRepository.count());
+        assertEquals(120, meterRegistry.get("order.outbox.events.published").counter().count() - publishedBefore);
+        assertEquals(3, meterRegistry.get("order.outbox.relay.batch").timer().count() - batchesBefore);
+        assertEquals(0.0, meterRegistry.get("order.outbox.oldest.age").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Events of a failed batch should stay in the outbox and be published on the next run")
+    void relayPending_PublishFails_ShouldRetryNextRun() {
+        saveOrders(3);
+        publisher.failNext();
+
+        assertEquals(0, relay.relayPending());
+        assertEquals(3, outboxRepository.count());
+
+        assertEquals(3, relay.relayPending());
+        assertEquals(3, publisher.events().size());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("An event the projection fails on should not hold back publication or the other events")
+    void relayPending_ProjectionFails_ShouldStillPublishAndProjectOthers() {
+        double failuresBefore = meterRegistry.get("order.outbox.projection.failures").counter().count();
+        saveOrders(3);
+        Long poison = outboxRepository.findAll().get(1).getId();
+        projection.failOn(poison);
+
+        assertEquals(3, relay.relayPending());
+
+        assertEquals(3, publisher.events().size());
+        assertEquals(0, outboxRepository.count());
+        List<Long> projected = projection.events().stream().map(OrderEvent::id).toList();
+        assertEquals(2, projected.size());
+        assertFalse(projected.contains(poison));
+        assertEquals(1, meterRegistry.get("order.outbox.projection.failures").counter().count() - failuresBefore);
+    }
+
+    @Test
+    @DisplayName("Concurrent relays should never publish the same event twice")
+    void relayPending_Concurrent_ShouldSkipLockedRows() throws Exception {
+        saveOrders(300);
+        ExecutorService relays = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> runs = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                runs.add(relays.submit(relay::relayPending));
+            }
+            int total = 0;
+            for (Future<Integer> run : runs) {
+                total += run.get(30, TimeUnit.SECONDS);
+            }
+            total += relay.relayPending();
+
+            assertEquals(300, total);
+            List<Long> ids = publisher.events().stream().map(OrderEvent::id).toList();
+            assertEquals(300, new HashSet<>(ids).size());
+        } finally {
+            relays.shutdownNow();
+        }
+    }
+
+    private void saveOrders(int count) {
+        for (int i = 0; i < count; i++) {
+            orderRepository.save(Order.create(1L,
+                    List.of(new OrderItem(101L, "Product A", new BigDecimal("10.00"), 1)),
+                    PaymentMethod.CREDIT_CARD));
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        RecordingPublisher recordingPublisher() {
+            return new RecordingPublisher();
+        }
+
+        @Bean
+        RecordingProjection recordingProjection() {
+            return new RecordingProjection();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    static class RecordingPublisher implements OrderEventPublisherPort {
+
+        private final List<OrderEvent> events = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicBoolean failNext = new AtomicBoolean();
+
+        @Override
+        public void publish(List<OrderEvent> batch) {
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("Broker unavailable");
+            }
+            events.addAll(batch);
+        }
+
+        List<OrderEvent> events() {
+            return List.copyOf(events);
+        }
+
+        void failNext() {
+            failNext.set(true);
+        }
+
+        void reset() {
+            events.clear();
+            failNext.set(false);
+        }
+    }
+
+    static class RecordingProjection implements OrderEventProjection {
+
+        private final List<OrderEvent> events = Collections.synchronizedList(new ArrayList<>());
+        private volatile Long poisonEventId;
+
+        @Override
+        public void apply(List<OrderEvent> batch) {
+            if (batch.stream().anyMatch(event -> event.id().equals(poisonEventId))) {
+                throw new IllegalStateException("Cannot project event " + poisonEventId);
+            }
+            events.addAll(batch);
+        }
+
+        List<OrderEvent> events() {
+            return List.copyOf(events);
+        }
+
+        void failOn(Long eventId) {
+            poisonEventId = eventId;
+        }
+
+        void reset() {
+            events.clear();
+            poisonEventId = null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sotatek.order.infrastructure.metrics;
+
+import com.sotatek.order.application.exception.ExternalServiceException;
+import com.sotatek.order.application.exception.MemberValidationException;
+import com.sotatek.order.application.exception.PaymentFailedException;
+import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.application.service.CancelOrderService;
+import com.sotatek.order.application.service.IdempotentCreateOrderService;
+import com.sotatek.order.domain.exception.OrderNotFoundException;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderItem;
+import com.sotatek.order.domain.model.PaymentMethod;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UseCaseMetricsAspectTest {
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CancelOrderService cancelOrderService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CancelOrderService(orderRepository));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+        cancelOrderService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Use case should be timed with the status of the returned order")
+    void execute_Success_ShouldRecordOrderStatusOutcome() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(createTestOrder()));
+        when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+
+        cancelOrderService.execute(1L);
+
+        assertEquals(1, timer("cancelled").count());
+    }
+
+    @Test
+    @DisplayName("Failed use case should be timed with its error category and rethrow")
+    void execute_NotFound_ShouldRecordErrorOutcome() {
+        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(OrderNotFoundException.class, () -> cancelOrderService.execute(999L));
+
+        assertEquals(1, timer("not_found").count());
+        assertNull(meterRegistry.find(UseCaseMetricsAspect.TIMER_NAME).tag("outcome", "cancelled").timer());
+    }
+
+    @Test
+    @DisplayName("Outcomes should map results and errors to low-cardinality categories")
+    void outcomeOf_ShouldCategorizeResultsAndErrors() {
+        Order order = createTestOrder();
+
+        assertEquals("pending", UseCaseMetricsAspect.outcomeOf(order));
+        assertEquals("replayed",
+                UseCaseMetricsAspect.outcomeOf(new IdempotentCreateOrderService.Result(order, true)));
+        assertEquals("success", UseCaseMetricsAspect.outcomeOf(List.of(order)));
+        assertEquals("validation_error",
+                UseCaseMetricsAspect.outcomeOf(new MemberValidationException(1L, "Member is inactive")));
+        assertEquals("payment_failed",
+                UseCaseMetricsAspect.outcomeOf(new PaymentFailedException(1L, "Declined")));
+        assertEquals("downstream_error",
+                UseCaseMetricsAspect.outcomeOf(new ExternalServiceException("PaymentService", "Timeout")));
+        assertEquals("error", UseCaseMetricsAspect.outcomeOf(new IllegalStateException("boom")));
+    }
+
+    private Timer timer(String outcome) {
+        Timer timer = meterRegistry.find(UseCaseMetricsAspect.TIMER_NAME)
+                .tags("usecase", "CancelOrder", "method", "execute", "outcome", outcome)
+                .timer();
+        assertNotNull(timer, "no timer for outcome " + outcome);
+        return timer;
+    }
+
+    private Order createTestOrder() {
+        OrderItem item = new OrderItem(101L, "Test Product", new BigDecimal("100.00"), 1);
+        return Order.create(1L, List.of(item), PaymentMethod.CREDIT_CARD);
+    }
+}
@@ -0,0 +1,84 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.domain.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+
+import static com.sotatek.order.domain.model.TestOrders.createTestOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Insert throughput of orders with 30 items, with JDBC batching off (one statement
+ * per row, as with the former IDENTITY IDs) and on. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+abstract class AbstractOrderInsertBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractOrderInsertBenchmark.class);
+
+    private static final int WARMUP_ORDERS = 200;
+    private static final int MEASURED_ORDERS = 1000;
+    private static final int ITEMS_PER_ORDER = 30;
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Batched inserts should need a few statements per order instead of one per row")
+    void insertOrders_BatchedVsRowByRow() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        insertOrders(1, WARMUP_ORDERS, statistics);
+        Result rowByRow = insertOrders(1, MEASURED_ORDERS, statistics);
+        Result batched = insertOrders(50, MEASURED_ORDERS, statistics);
+
+        log.info("[{}] row-by-row: {} orders/s, {} statements/order", databaseName(),
+                rowByRow.ordersPerSecond(), rowByRow.statementsPerOrder());
+        log.info("[{}] batched:    {} orders/s, {} statements/order", databaseName(),
+                batched.ordersPerSecond(), batched.statementsPerOrder());
+
+        assertTrue(rowByRow.statementsPerOrder() >= ITEMS_PER_ORDER + 1);
+        // Order insert + one item batch + outbox insert, plus an occasional sequence call
+        assertTrue(batched.statementsPerOrder() < 4, "Statements per order: " + batched.statementsPerOrder());
+    }
+
+    protected abstract String databaseName();
+
+    /**
+     * Insert orders one at a time, flushing each like a committed create-order would.
+     */
+    private Result insertOrders(int jdbcBatchSize, int count, Statistics statistics) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            orderRepository.save(createTestOrder(1L, ITEMS_PER_ORDER));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        return new Result(
+                count * 1_000_000_000.0 / elapsedNanos,
+                (double) statistics.getPrepareStatementCount() / count);
+    }
+
+    private record Result(double ordersPerSecond, double statementsPerOrder) {
+    }
+}
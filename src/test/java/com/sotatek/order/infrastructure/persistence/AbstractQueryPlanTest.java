@@ -0,0 +1,108 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plans of the hot queries on a schema built by the Flyway migrations: each one
+ * must be answered through an index, not a full table scan. Fails when a migration
+ * drops or changes an index a query relies on, or a query stops matching its index.
+ */
+abstract class AbstractQueryPlanTest {
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("All migrations should have been applied")
+    void migrations_ShouldBeApplied() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" AND \"version\" IS NOT NULL "
+                        + "ORDER BY \"installed_rank\"",
+                String.class);
+
+        assertEquals(expectedMigrations(), versions);
+    }
+
+    @Test
+    @DisplayName("A member's order history page should use the member index")
+    void memberHistoryPage_ShouldUseMemberIndex() {
+        assertUsesIndex("SELECT id FROM orders WHERE member_id = 1 ORDER BY created_at DESC, id DESC LIMIT 20",
+                "idx_orders_member_created_at_id");
+        assertUsesIndex("SELECT COUNT(*), MAX(updated_at), SUM(version) FROM orders WHERE member_id = 1",
+                "idx_orders_member_created_at_id");
+    }
+
+    @Test
+    @DisplayName("A page of orders in one status should use the status index")
+    void statusPage_ShouldUseStatusIndex() {
+        assertUsesIndex("SELECT id FROM orders WHERE status = 'PENDING' ORDER BY created_at DESC, id DESC LIMIT 20",
+                "idx_orders_status_created_at_id");
+    }
+
+    @Test
+    @DisplayName("Claiming due payment checks should not scan all orders")
+    void duePaymentChecks_ShouldUseIndex() {
+        assertUsesIndex("SELECT id FROM orders WHERE payment_check_due_at <= TIMESTAMP '2024-01-01 00:00:00' "
+                + "AND status = 'PENDING' ORDER BY payment_check_due_at LIMIT 200", null);
+    }
+
+    @Test
+    @DisplayName("Loading and cancelling an order should use keys only")
+    void cancelOrder_ShouldUseKeys() {
+        assertUsesIndex("SELECT id FROM orders WHERE id = 1", null);
+        // H2 may use the index it creates for the foreign key instead of idx_order_items_order_id
+        String itemsSql = "SELECT product_id, quantity FROM order_items WHERE order_id IN (1, 2, 3)";
+        String itemsPlan = explain(itemsSql);
+        assertFalse(isFullScan(itemsPlan), () -> "Full scan for " + itemsSql + "\n" + itemsPlan);
+        assertTrue(usesIndexOn(itemsPlan, "order_id"), () -> "Expected an index on order_id\n" + itemsPlan);
+        assertUsesIndex("UPDATE orders SET status = 'CANCELLED', version = version + 1 "
+                + "WHERE id = 1 AND version = 0", null);
+    }
+
+    @Test
+    @DisplayName("The member order view page and the Idempotency-Key cleanup should use their indexes")
+    void memberViewAndCleanup_ShouldUseIndexes() {
+        assertUsesIndex("SELECT document FROM member_order_view WHERE member_id = 1 "
+                + "ORDER BY created_at DESC, order_id DESC LIMIT 20", "idx_member_order_view_member_created_id");
+        assertUsesIndex("SELECT idempotency_key FROM idempotency_keys "
+                + "WHERE created_at < TIMESTAMP '2024-01-01 00:00:00' ORDER BY created_at LIMIT 500",
+                "idx_idempotency_keys_created_at");
+    }
+
+    /**
+     * Versions of the migrations applied to this database, in order.
+     */
+    protected abstract List<String> expectedMigrations();
+
+    /**
+     * The plan of {@code sql} as text.
+     */
+    protected abstract String explain(String sql);
+
+    /**
+     * Whether the plan reads a whole table.
+     */
+    protected abstract boolean isFullScan(String plan);
+
+    /**
+     * Whether the plan looks rows up through an index whose leading column is {@code column}.
+     */
+    protected abstract boolean usesIndexOn(String plan, String column);
+
+    private void assertUsesIndex(String sql, String expectedIndex) {
+        String plan = explain(sql);
+        assertFalse(isFullScan(plan), () -> "Full scan for " + sql + "\n" + plan);
+        if (expectedIndex != null) {
+            assertTrue(plan.toLowerCase(Locale.ROOT).contains(expectedIndex),
+                    () -> "Expected " + expectedIndex + " for " + sql + "\n" + plan);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    }
+
+    @Test
+    @DisplayName("Closing a connection should free its slot for the next borrower")
+    void getConnection_AfterClose_ShouldAdmitNextBorrower() throws Exception {
+        ConnectionLimitingDataSource dataSource = limited(1, 10, Duration.ofSeconds(5));
+        Connection first = dataSource.getConnection();
+
+        ExecutorService borrower = Executors.newSingleThreadExecutor();
+        try {
+            Future<Connection> second = borrower.submit(() -> dataSource.getConnection());
+            Thread.sleep(100);
+            assertFalse(second.isDone());
+
+            first.close();
+            assertNotNull(second.get(5, TimeUnit.SECONDS));
+        } finally {
+            borrower.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Borrowers should fail after max-wait when the pool stays busy")
+    void getConnection_PoolBusy_ShouldFailAfterMaxWait() throws Exception {
+        ConnectionLimitingDataSource dataSource = limited(1, 10, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(1.0, meterRegistry.get("db.connection.limit.rejected").counter().count());
+        verify(pool, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Borrowers should fail at once when too many are already waiting")
+    void getConnection_TooManyWaiting_ShouldFailFast() throws Exception {
+        ConnectionLimitingDataSource dataSource = limited(1, 1, Duration.ofSeconds(5));
+        dataSource.getConnection();
+
+        ExecutorService waiter = Executors.newSingleThreadExecutor();
+        try {
+            waiter.submit(() -> dataSource.getConnection());
+            Thread.sleep(100);
+
+            long start = System.nanoTime();
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        } finally {
+            waiter.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A failed borrow and a repeated close should not leak or add slots")
+    void getConnection_FailureAndDoubleClose_ShouldKeepSlotCount() throws Exception {
+        ConnectionLimitingDataSource dataSource = limited(1, 10, Duration.ofMillis(50));
+        when(pool.getConnection())
+                .thenThrow(new SQLException("Pool down"))
+                .thenAnswer(invocation -> mock(Connection.class));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    @DisplayName("Closing the wrapper should close the wrapped pool")
+    void close_ShouldCloseWrappedPool() {
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        ConnectionLimitingDataSource dataSource =
+                new ConnectionLimitingDataSource(hikari, 1, 10, Duration.ofMillis(50), meterRegistry);
+
+        dataSource.close();
+
+        verify(hikari).close();
+    }
+
+    private ConnectionLimitingDataSource limited(int poolSize, int maxWaiting, Duration maxWait) {
+        return new ConnectionLimitingDataSource(pool, poolSize, maxWaiting, maxWait, meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(OrderRepositoryAdapter.class)
+class H2OrderInsertBenchmarkTest extends AbstractOrderInsertBenchmark {
+
+    @Override
+    protected String databaseName() {
+        return "H2";
+    }
+}
@@ -0,0 +1,42 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Query plans on H2, with the schema from db/migration/common and db/migration/h2.
+ * Hibernate does not validate here: H2 reports the text columns as CLOB.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@ActiveProfiles("test")
+class H2QueryPlanTest extends AbstractQueryPlanTest {
+
+    @Override
+    protected List<String> expectedMigrations() {
+        return List.of("1", "1.1", "2", "3");
+    }
+
+    @Override
+    protected String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    @Override
+    protected boolean isFullScan(String plan) {
+        return plan.contains("tableScan");
+    }
+
+    @Override
+    protected boolean usesIndexOn(String plan, String column) {
+        // e.g. /* PUBLIC.FK_ORDER_ITEMS_ORDER_INDEX_2: ORDER_ID IN(1, 2, 3) */
+        return Pattern.compile("/\\* [A-Z0-9_.]+: " + column.toUpperCase(Locale.ROOT) + "\\b")
+                .matcher(plan).find();
+    }
+}
@@ -0,0 +1,146 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.IdempotencyClaim;
+import com.sotatek.order.application.dto.IdempotencyFailure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Claims commit in their own transactions, like in production
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(IdempotencyStoreAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyStoreAdapterTest {
+
+    @Autowired
+    private IdempotencyStoreAdapter store;
+
+    @Autowired
+    private IdempotencyKeyJpaRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Only one of several concurrent claims of a key should be acquired")
+    void claim_Concurrent_ShouldAcquireOnce() throws Exception {
+        String key = newKey();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<IdempotencyClaim>> claims = new ArrayList<>();
+            Callable<IdempotencyClaim> claim = () -> store.claim(key, "hash");
+            for (int i = 0; i < 8; i++) {
+                claims.add(callers.submit(claim));
+            }
+
+            int acquired = 0;
+            for (Future<IdempotencyClaim> result : claims) {
+                IdempotencyClaim.Status status = result.get(10, TimeUnit.SECONDS).status();
+                assertNotEquals(IdempotencyClaim.Status.MISMATCH, status);
+                if (status == IdempotencyClaim.Status.ACQUIRED) {
+                    acquired++;
+                }
+            }
+            assertEquals(1, acquired);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A completed key should replay its order, or mismatch for another request")
+    void claim_Completed_ShouldReplayOrMismatch() {
+        String key = newKey();
+        store.claim(key, "hash");
+        store.attachOrder(key, 42L);
+        store.complete(key);
+
+        IdempotencyClaim replay = store.claim(key, "hash");
+        assertEquals(IdempotencyClaim.Status.COMPLETED, replay.status());
+        assertEquals(42L, replay.orderId());
+        assertEquals(IdempotencyClaim.Status.MISMATCH, store.claim(key, "other-hash").status());
+    }
+
+    @Test
+    @DisplayName("A key completed with a failure should replay that failure")
+    void claim_CompletedWithFailure_ShouldReplayFailure() {
+        String key = newKey();
+        IdempotencyFailure failure = new IdempotencyFailure(IdempotencyFailure.Type.PAYMENT_FAILED, null,
+                "Card declined");
+        store.claim(key, "hash");
+        store.attachOrder(key, 42L);
+        store.completeWithFailure(key, failure);
+
+        IdempotencyClaim replay = store.claim(key, "hash");
+        assertEquals(IdempotencyClaim.Status.COMPLETED, replay.status());
+        assertEquals(42L, replay.orderId());
+        assertEquals(failure, replay.failure());
+        assertEquals(failure, store.claim(key, "hash").failure());
+    }
+
+    @Test
+    @DisplayName("A released key should be claimable again")
+    void release_ShouldAllowRetry() {
+        String key = newKey();
+        store.claim(key, "hash");
+        assertEquals(IdempotencyClaim.Status.IN_PROGRESS, store.claim(key, "hash").status());
+
+        store.release(key);
+
+        assertEquals(IdempotencyClaim.Status.ACQUIRED, store.claim(key, "hash").status());
+    }
+
+    @Test
+    @DisplayName("A key left in progress with an order after its lease should replay that order")
+    void claim_AbandonedWithOrder_ShouldReplayOrder() {
+        String key = newKey();
+        store.claim(key, "hash");
+        store.attachOrder(key, 42L);
+        assertEquals(IdempotencyClaim.Status.IN_PROGRESS, store.claim(key, "hash").status());
+
+        // Crashed before completing the key; the lease has expired since
+        jdbcTemplate.update("update idempotency_keys set locked_at = ? where idempotency_key = ?",
+                LocalDateTime.now().minusHours(1), key);
+
+        IdempotencyClaim replay = store.claim(key, "hash");
+        assertEquals(IdempotencyClaim.Status.COMPLETED, replay.status());
+        assertEquals(42L, replay.orderId());
+        assertEquals(IdempotencyKeyEntity.State.COMPLETED, repository.findById(key).orElseThrow().getState());
+    }
+
+    @Test
+    @DisplayName("Purge should delete old keys in bounded batches")
+    void purgeCreatedBefore_ShouldDeleteAtMostBatchSize() {
+        for (int i = 0; i < 5; i++) {
+            store.claim(newKey(), "hash");
+        }
+        LocalDateTime cutoff = LocalDateTime.now().plusSeconds(1);
+        long before = repository.count();
+
+        assertEquals(2, store.purgeCreatedBefore(cutoff, 2));
+        assertEquals(before - 2, repository.count());
+    }
+
+    private static String newKey() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.MemberOrderViewDrift;
+import com.sotatek.order.application.dto.MemberOrderViewRebuild;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderItem;
+import com.sotatek.order.domain.model.PaymentMethod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Small chunks and no grace period, so a handful of orders spans several chunks
+@DataJpaTest(properties = {
+        "order.member-order-view.chunk-size=2",
+        "order.member-order-view.check.grace=PT0S"
+})
+@ActiveProfiles("test")
+@Import({ OrderRepositoryAdapter.class, MemberOrderViewAdapter.class, MemberOrderViewMaintenanceAdapter.class,
+        MemberOrderViewMaintenanceAdapterTest.Config.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberOrderViewMaintenanceAdapterTest {
+
+    @Autowired
+    private MemberOrderViewMaintenanceAdapter maintenance;
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepository;
+
+    @Autowired
+    private MemberOrderViewJpaRepository viewRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        viewRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("A rebuild should copy every order in chunks and leave no drift; a second one writes nothing")
+    void rebuild_ShouldBackfillEveryOrder() {
+        saveOrders(5);
+
+        MemberOrderViewRebuild first = maintenance.rebuild();
+        MemberOrderViewRebuild second = maintenance.rebuild();
+        MemberOrderViewDrift drift = maintenance.checkConsistency();
+
+        assertTrue(first.scannedOrders() >= 5);
+        assertEquals(first.scannedOrders(), first.writtenRows());
+        assertEquals(first.scannedOrders(), viewRepository.count());
+        assertEquals(first.scannedOrders(), second.scannedOrders());
+        assertEquals(0, second.writtenRows());
+        assertFalse(drift.hasDrift(), () -> "Unexpected drift " + drift);
+        assertEquals(first.scannedOrders(), drift.checkedOrders());
+    }
+
+    @Test
+    @DisplayName("The consistency check should report missing, stale, mismatched and orphaned rows")
+    void checkConsistency_ShouldReportEachKindOfDrift() {
+        List<Order> orders = saveOrders(3);
+        maintenance.rebuild();
+
+        // Missing: row deleted
+        Order missing = orders.get(0);
+        viewRepository.deleteById(missing.getId());
+        // Stale: order changed without its event reaching the view
+        Order stale = orders.get(1);
+        stale.cancel();
+        orderRepository.save(stale);
+        // Mismatched: same version, different content
+        Order mismatched = orders.get(2);
+        viewRepository.deleteById(mismatched.getId());
+        viewRepository.save(new MemberOrderViewEntity(mismatched.getId(), mismatched.getMemberId(),
+                mismatched.getCreatedAt(), mismatched.getUpdatedAt(), mismatched.getVersion(),
+                MemberOrderViewMapper.toDocument(mismatched).replace("PENDING", "FAILED")));
+        // Orphaned: no such order
+        Order orphan = orders.get(0);
+        viewRepository.save(new MemberOrderViewEntity(Long.MAX_VALUE, orphan.getMemberId(), orphan.getCreatedAt(),
+                orphan.getUpdatedAt(), orphan.getVersion(), MemberOrderViewMapper.toDocument(orphan)));
+
+        MemberOrderViewDrift drift = maintenance.checkConsistency();
+
+        assertTrue(drift.hasDrift());
+        assertEquals(1, drift.missing());
+        assertEquals(1, drift.stale());
+        assertEquals(1, drift.mismatched());
+        assertEquals(1, drift.orphaned());
+        assertTrue(drift.sampleOrderIds().containsAll(
+                List.of(missing.getId(), stale.getId(), mismatched.getId(), Long.MAX_VALUE)));
+        assertEquals(1.0, meterRegistry.get("order.member_view.drift").tag("kind", "stale").gauge().value());
+
+        maintenance.rebuild();
+        viewRepository.deleteById(Long.MAX_VALUE);
+        assertFalse(maintenance.checkConsistency().hasDrift());
+    }
+
+    private List<Order> saveOrders(int count) {
+        List<Order> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            saved.add(orderRepository.save(Order.create(21L,
+                    List.of(new OrderItem(101L, "Product A", new BigDecimal("10.00"), i + 1)),
+                    PaymentMethod.CREDIT_CARD)));
+        }
+        // Reload, so timestamps have the precision of the database like the rows built from them
+        return saved.stream().map(order -> orderRepository.findById(order.getId()).orElseThrow()).toList();
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sotatek.order.api.dto.OrderResponse;
+import com.sotatek.order.api.dto.OrderSummaryResponse;
+import com.sotatek.order.application.service.ListOrderSummariesService;
+import com.sotatek.order.application.service.ListOrdersService;
+import com.sotatek.order.domain.model.Order;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static com.sotatek.order.domain.model.TestOrders.createTestOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Allocation and latency per listing page of 50 orders with 5 items each, from query to
+ * JSON bytes: full aggregates (entity graph, domain, OrderResponse) against summary
+ * projections. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ OrderRepositoryAdapter.class, OrderSummaryQueryAdapter.class, MemberOrderViewAdapter.class,
+        ListOrdersService.class, ListOrderSummariesService.class })
+class OrderListingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderListingBenchmarkTest.class);
+
+    private static final int ORDER_COUNT = 500;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_PAGES = 200;
+    private static final int MEASURED_PAGES = 1000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepository;
+
+    @Autowired
+    private ListOrdersService listOrdersService;
+
+    @Autowired
+    private ListOrderSummariesService listOrderSummariesService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Summary pages should allocate less and be faster than full aggregate pages")
+    void listPage_FullVsSummary() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderRepository.save(createTestOrder(i % 10 + 1L, ITEMS_PER_ORDER));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Supplier<byte[]> full = () -> serialize(listOrdersService.execute(page())
+                .map(OrderResponse::fromDomain));
+        Supplier<byte[]> summary = () -> serialize(listOrderSummariesService.execute(null, page(), false)
+                .map(s -> OrderSummaryResponse.from(s, OrderSummaryResponse.FIELDS)));
+        Supplier<byte[]> summaryWithItems = () -> serialize(listOrderSummariesService.execute(null, page(), true)
+                .map(s -> OrderSummaryResponse.from(s, OrderSummaryResponse.FIELDS)));
+
+        Result fullResult = measure(full);
+        Result summaryResult = measure(summary);
+        Result expandedResult = measure(summaryWithItems);
+
+        log.info("full aggregates:      {} us/page, {} KB allocated/page, {} bytes of JSON",
+                fullResult.microsPerPage(), fullResult.kilobytesPerPage(), fullResult.jsonBytes());
+        log.info("summaries:            {} us/page, {} KB allocated/page, {} bytes of JSON",
+                summaryResult.microsPerPage(), summaryResult.kilobytesPerPage(), summaryResult.jsonBytes());
+        log.info("summaries with items: {} us/page, {} KB allocated/page, {} bytes of JSON",
+                expandedResult.microsPerPage(), expandedResult.kilobytesPerPage(), expandedResult.jsonBytes());
+
+        assertTrue(summaryResult.kilobytesPerPage() < fullResult.kilobytesPerPage() / 2,
+                "Summary allocation " + summaryResult.kilobytesPerPage() + " KB vs full "
+                        + fullResult.kilobytesPerPage() + " KB");
+        assertTrue(summaryResult.microsPerPage() < fullResult.microsPerPage(),
+                "Summary latency " + summaryResult.microsPerPage() + " us vs full "
+                        + fullResult.microsPerPage() + " us");
+        assertTrue(expandedResult.kilobytesPerPage() < fullResult.kilobytesPerPage(),
+                "Expanded allocation " + expandedResult.kilobytesPerPage() + " KB vs full "
+                        + fullResult.kilobytesPerPage() + " KB");
+    }
+
+    /**
+     * Pages through the orders; entities of the previous page are detached so every
+     * page starts from an empty persistence context, as a request does.
+     */
+    private Result measure(Supplier<byte[]> listPage) {
+        for (int i = 0; i < WARMUP_PAGES; i++) {
+            listPage.get();
+            entityManager.clear();
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        int jsonBytes = 0;
+        for (int i = 0; i < MEASURED_PAGES; i++) {
+            jsonBytes = listPage.get().length;
+            entityManager.clear();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(
+                elapsedNanos / 1000.0 / MEASURED_PAGES,
+                allocated / 1024.0 / MEASURED_PAGES,
+                jsonBytes);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Pageable page() {
+        return PageRequest.of(2, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    private record Result(double microsPerPage, double kilobytesPerPage, int jsonBytes) {
+    }
+}
@@ -0,0 +1,329 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.CursorPage;
+import com.sotatek.order.application.dto.OrderEventType;
+import com.sotatek.order.application.dto.OrderListVersion;
+import com.sotatek.order.application.service.ListOrdersService;
+import com.sotatek.order.domain.exception.OrderVersionConflictException;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.sotatek.order.domain.model.TestOrders.createTestOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ OrderRepositoryAdapter.class, MemberOrderViewAdapter.class, ListOrdersService.class })
+class OrderRepositoryAdapterTest {
+
+    private static final int ORDER_COUNT = 100;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepository;
+
+    @Autowired
+    private ListOrdersService listOrdersService;
+
+    @Autowired
+    private OrderOutboxJpaRepository outboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderRepository.save(createTestOrder(i % 5 + 1L, ITEMS_PER_ORDER));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("A page of 100 orders should load with its items in a constant number of queries")
+    void findAll_PageOf100_ShouldNotIssueQueryPerOrder() {
+        Page<Order> page = orderRepository.findAll(PageRequest.of(0, ORDER_COUNT, Sort.by("id")));
+
+        assertEquals(ORDER_COUNT, page.getContent().size());
+        page.getContent().forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+        // Page query + item fetch-join query (+ count query when the page is not the whole result)
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Statements executed: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Paging by member should keep the requested order and load items in bulk")
+    void findByMemberId_ShouldKeepPageOrder() {
+        Page<Order> page = orderRepository.findByMemberId(1L, PageRequest.of(0, 10, Sort.by("id").descending()));
+
+        List<Long> ids = page.getContent().stream().map(Order::getId).toList();
+        assertEquals(ids.stream().sorted((a, b) -> Long.compare(b, a)).toList(), ids);
+        assertEquals(ORDER_COUNT / 5, page.getTotalElements());
+        page.getContent().forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Statements executed: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Find by ID should load the order with its items in one query")
+    void findById_ShouldLoadItemsInOneQuery() {
+        Long id = firstOrderId();
+        statistics.clear();
+
+        Order order = orderRepository.findById(id).orElseThrow();
+
+        assertEquals(ITEMS_PER_ORDER, order.getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Version lookups should read the orders rows only, in one query")
+    void findVersion_ShouldNotLoadItems() {
+        Long id = firstOrderId();
+        statistics.clear();
+
+        Long version = orderRepository.findVersionById(id).orElseThrow();
+        OrderListVersion listVersion = orderRepository.findListVersionByMemberId(1L);
+
+        assertEquals(0L, version);
+        assertEquals(ORDER_COUNT / 5, listVersion.orderCount());
+        assertEquals(0L, listVersion.versionSum());
+        assertNotNull(listVersion.lastUpdatedAt());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(OrderItemEntity.class.getName()).getLoadCount());
+        assertTrue(orderRepository.findVersionById(-1L).isEmpty());
+        assertEquals(0L, orderRepository.findListVersionByMemberId(999L).orderCount());
+    }
+
+    @Test
+    @DisplayName("A status change should raise the member list version")
+    void findListVersion_AfterStatusChange_ShouldChange() {
+        Order order = orderRepository.findById(firstOrderId()).orElseThrow();
+        OrderListVersion before = orderRepository.findListVersionByMemberId(order.getMemberId());
+
+        order.markAsConfirmed(999L);
+        orderRepository.save(order);
+        entityManager.flush();
+
+        OrderListVersion after = orderRepository.findListVersionByMemberId(order.getMemberId());
+        assertEquals(before.orderCount(), after.orderCount());
+        assertEquals(before.versionSum() + 1, after.versionSum());
+    }
+
+    @Test
+    @DisplayName("A status change should be a single versioned UPDATE of the order row plus its outbox event")
+    void save_StatusChange_ShouldIssueOneUpdate() {
+        Order order = orderRepository.findById(firstOrderId()).orElseThrow();
+        entityManager.clear();
+        statistics.clear();
+
+        order.markAsConfirmed(999L);
+        Order saved = orderRepository.save(order);
+        entityManager.flush();
+
+        // Order UPDATE + outbox INSERT, plus an occasional sequence call
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Statements executed: " + statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(OrderItemEntity.class.getName()).getInsertCount());
+        assertEquals(1, statistics.getEntityStatistics(OrderOutboxEntity.class.getName()).getInsertCount());
+        assertEquals(order.getVersion() + 1, saved.getVersion());
+        entityManager.clear();
+        Order reloaded = orderRepository.findById(order.getId()).orElseThrow();
+        assertEquals(OrderStatus.CONFIRMED, reloaded.getStatus());
+        assertEquals(999L, reloaded.getPaymentId());
+        assertEquals(ITEMS_PER_ORDER, reloaded.getItems().size());
+    }
+
+    @Test
+    @DisplayName("Every save should write its lifecycle event to the outbox")
+    void save_ShouldWriteOutboxEvents() {
+        Long id = firstOrderId();
+        Order order = orderRepository.findById(id).orElseThrow();
+
+        order.cancel();
+        orderRepository.save(order);
+        entityManager.flush();
+
+        List<OrderEventType> types = outboxRepository.findAll(Sort.by("id")).stream()
+                .filter(event -> event.getOrderId().equals(id))
+                .map(OrderOutboxEntity::getEventType)
+                .toList();
+        assertEquals(List.of(OrderEventType.ORDER_CREATED, OrderEventType.ORDER_CANCELLED), types);
+        assertEquals(ORDER_COUNT + 1, outboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("Due payment checks of PENDING orders should be claimed once, until the next check time")
+    void claimDuePaymentChecks_ShouldClaimPendingOrdersOnce() {
+        List<Order> firstTwo = orderRepository.findAll(PageRequest.of(0, 2)).getContent();
+        entityManager.clear();
+        Order withPayment = orderRepository.findById(firstTwo.get(0).getId()).orElseThrow();
+        withPayment.markAsPending(555L);
+        orderRepository.save(withPayment);
+        Order confirmed = orderRepository.findById(firstTwo.get(1).getId()).orElseThrow();
+        confirmed.markAsConfirmed(556L);
+        orderRepository.save(confirmed);
+        entityManager.clear();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Order> claimed = orderRepository.claimDuePaymentChecks(now, now.plusMinutes(1), ORDER_COUNT);
+
+        // Orders without a payment are claimed too (reconciliation flags them for review once too old)
+        List<Long> claimedIds = claimed.stream().map(Order::getId).toList();
+        assertEquals(ORDER_COUNT - 1, claimed.size());
+        assertTrue(claimedIds.contains(withPayment.getId()));
+        assertFalse(claimedIds.contains(confirmed.getId()));
+        assertEquals(ITEMS_PER_ORDER, claimed.get(0).getItems().size());
+        assertTrue(orderRepository.claimDuePaymentChecks(now, now.plusMinutes(1), ORDER_COUNT).isEmpty());
+        assertEquals(ORDER_COUNT - 1, orderRepository.claimDuePaymentChecks(now.plusMinutes(2),
+                now.plusMinutes(3), ORDER_COUNT).size());
+    }
+
+    @Test
+    @DisplayName("Orders flagged for payment review should keep their state, stop being checked and get an event")
+    void flagForPaymentReview_ShouldStopChecksAndWriteEvent() {
+        List<Order> orders = orderRepository.findAll(PageRequest.of(0, 2, Sort.by("id"))).getContent();
+        entityManager.clear();
+        Order paidMeanwhile = orderRepository.findById(orders.get(1).getId()).orElseThrow();
+        paidMeanwhile.markAsPending(555L);
+        orderRepository.save(paidMeanwhile);
+        entityManager.flush();
+        entityManager.clear();
+        long eventsBefore = outboxRepository.count();
+
+        int flagged = orderRepository.flagForPaymentReview(orders);
+        entityManager.clear();
+
+        assertEquals(1, flagged);
+        Order unpaid = orderRepository.findById(orders.get(0).getId()).orElseThrow();
+        assertEquals(OrderStatus.PENDING, unpaid.getStatus());
+        assertEquals(orders.get(0).getVersion(), unpaid.getVersion());
+        List<OrderOutboxEntity> events = outboxRepository.findAll(Sort.by("id"));
+        assertEquals(eventsBefore + 1, events.size());
+        assertEquals(OrderEventType.ORDER_PAYMENT_REVIEW_REQUIRED, events.get(events.size() - 1).getEventType());
+        assertEquals(unpaid.getId(), events.get(events.size() - 1).getOrderId());
+        LocalDateTime later = LocalDateTime.now().plusHours(1);
+        List<Long> claimedIds = orderRepository.claimDuePaymentChecks(later, later.plusMinutes(1), ORDER_COUNT)
+                .stream().map(Order::getId).toList();
+        assertFalse(claimedIds.contains(unpaid.getId()));
+        assertTrue(claimedIds.contains(paidMeanwhile.getId()));
+    }
+
+    @Test
+    @DisplayName("Bulk save should apply state changes and skip orders modified meanwhile")
+    void saveAll_ShouldSkipStaleOrders() {
+        List<Order> orders = orderRepository.findAll(PageRequest.of(0, 3, Sort.by("id"))).getContent();
+        entityManager.clear();
+        Order changedMeanwhile = orderRepository.findById(orders.get(2).getId()).orElseThrow();
+        changedMeanwhile.cancel();
+        orderRepository.save(changedMeanwhile);
+
+        orders.get(0).markAsConfirmed(1L);
+        orders.get(1).markAsFailed();
+        orders.get(2).markAsConfirmed(3L);
+        List<Order> saved = orderRepository.saveAll(orders);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(List.of(orders.get(0).getId(), orders.get(1).getId()),
+                saved.stream().map(Order::getId).toList());
+        assertEquals(OrderStatus.CONFIRMED, orderRepository.findById(orders.get(0).getId()).orElseThrow().getStatus());
+        assertEquals(OrderStatus.FAILED, orderRepository.findById(orders.get(1).getId()).orElseThrow().getStatus());
+        assertEquals(OrderStatus.CANCELLED, orderRepository.findById(orders.get(2).getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Saving a stale copy of an order should fail with a version conflict")
+    void save_StaleVersion_ShouldThrowConflict() {
+        Long id = firstOrderId();
+        Order first = orderRepository.findById(id).orElseThrow();
+        Order second = orderRepository.findById(id).orElseThrow();
+
+        first.cancel();
+        orderRepository.save(first);
+
+        second.markAsConfirmed(999L);
+        assertThrows(OrderVersionConflictException.class, () -> orderRepository.save(second));
+    }
+
+    @Test
+    @DisplayName("Walking all cursor pages should return every order once, newest first")
+    void executeWithCursor_AllPages_ShouldReturnEveryOrderOnce() {
+        List<Order> walked = walkAllPages(null, 7);
+
+        List<Long> expected = orderRepository
+                .findAll(PageRequest.of(0, ORDER_COUNT, Sort.by("createdAt", "id").descending()))
+                .map(Order::getId)
+                .getContent();
+        assertEquals(expected, walked.stream().map(Order::getId).toList());
+        assertEquals(ORDER_COUNT, new HashSet<>(expected).size());
+    }
+
+    @Test
+    @DisplayName("Cursor pages should apply the member filter and need no count query")
+    void executeWithCursor_MemberFilter_ShouldOnlyReturnMemberOrders() {
+        CursorPage<Order> first = listOrdersService.executeWithCursor(null, 1L, null, 5);
+
+        assertTrue(first.hasNext());
+        assertNotNull(first.nextCursor());
+        // Id query + item fetch-join query
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        List<Order> walked = walkAllPages(1L, 5);
+        assertEquals(ORDER_COUNT / 5, walked.size());
+        walked.forEach(order -> assertEquals(1L, order.getMemberId()));
+    }
+
+    @Test
+    @DisplayName("A malformed cursor should be rejected")
+    void executeWithCursor_MalformedCursor_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> listOrdersService.executeWithCursor("not-a-cursor", null, null, 10));
+    }
+
+    private Long firstOrderId() {
+        Long id = orderRepository.findAll(PageRequest.of(0, 1)).getContent().get(0).getId();
+        entityManager.clear();
+        return id;
+    }
+
+    private List<Order> walkAllPages(Long memberId, int size) {
+        List<Order> walked = new ArrayList<>();
+        String cursor = null;
+        CursorPage<Order> page;
+        do {
+            page = listOrdersService.executeWithCursor(cursor, memberId, null, size);
+            walked.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+        return walked;
+    }
+}
@@ -0,0 +1,93 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import com.sotatek.order.application.dto.OrderSummary;
+import com.sotatek.order.application.service.ListOrderSummariesService;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+
+import static com.sotatek.order.domain.model.TestOrders.createTestOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ OrderRepositoryAdapter.class, OrderSummaryQueryAdapter.class, ListOrderSummariesService.class })
+class OrderSummaryQueryAdapterTest {
+
+    private static final int ORDER_COUNT = 60;
+    private static final int MEMBERS = 3;
+
+    @Autowired
+    private OrderRepositoryAdapter orderRepository;
+
+    @Autowired
+    private ListOrderSummariesService listOrderSummariesService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            // 1 to 3 items per order
+            orderRepository.save(createTestOrder(i % MEMBERS + 1L, i % 3 + 1));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("A summary page should be projected in page + count queries without loading any entity")
+    void execute_SummaryPage_ShouldNotLoadEntities() {
+        Page<OrderSummary> page = listOrderSummariesService.execute(null, PageRequest.of(0, 20, Sort.by("id")), false);
+
+        assertEquals(20, page.getContent().size());
+        assertEquals(ORDER_COUNT, page.getTotalElements());
+        for (int i = 0; i < page.getContent().size(); i++) {
+            OrderSummary summary = page.getContent().get(i);
+            assertEquals(i % 3 + 1, summary.itemCount());
+            assertEquals(OrderStatus.PENDING, summary.status());
+            assertNull(summary.items());
+        }
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Expanding items should load the lines of the whole page in one more query")
+    void execute_ExpandItems_ShouldLoadItemsInOneQuery() {
+        Page<OrderSummary> page = listOrderSummariesService.execute(1L, PageRequest.of(0, 10, Sort.by("id")), true);
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(ORDER_COUNT / MEMBERS, page.getTotalElements());
+        page.getContent().forEach(summary -> {
+            assertEquals(1L, summary.memberId());
+            assertEquals(summary.itemCount(), summary.items().size());
+            summary.items().forEach(item -> assertEquals(summary.id(), item.orderId()));
+        });
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
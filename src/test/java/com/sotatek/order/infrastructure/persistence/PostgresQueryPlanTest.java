@@ -0,0 +1,117 @@
+package com.sotatek.order.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plans on a throwaway Postgres migrated like production (indexes built
+ * CONCURRENTLY), with Hibernate validating the entities against the migrated schema.
+ * Skipped when Docker is not available.
+ * <p>
+ * The tables are empty, where a sequential scan is always cheapest; sequential scans
+ * are therefore disabled, so the plan shows whether a usable index exists at all.
+ * <p>
+ * Also upgrades, in a second database of the same container, a schema created by
+ * Hibernate before migrations existed, the way a production database is baselined.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresQueryPlanTest extends AbstractQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Test
+    @DisplayName("A database created by Hibernate before migrations should be upgraded to the current schema")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void baselinedDatabase_ShouldUpgradeToCurrentSchema() throws SQLException {
+        try (Connection connection = postgres.createConnection(""); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE baselined");
+        }
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl().replace("/" + postgres.getDatabaseName() + "?", "/baselined?"),
+                postgres.getUsername(), postgres.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/baseline/postgresql-hibernate-schema.sql"))
+                .execute(dataSource);
+
+        // Same settings as spring.flyway in application.yml
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/postgresql")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+
+        JdbcTemplate baselined = new JdbcTemplate(dataSource);
+        assertEquals(List.of("1", "1.1", "1.2", "2", "3"), baselined.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class));
+        for (String table : List.of("order_outbox", "idempotency_keys", "member_order_view")) {
+            assertEquals(0, baselined.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class), table);
+        }
+        // Only the PENDING order with a payment is due for a payment check
+        assertEquals(List.of(2L), baselined.queryForList(
+                "SELECT id FROM orders WHERE payment_check_due_at IS NOT NULL", Long.class));
+        assertEquals(0, baselined.queryForObject("SELECT COUNT(*) FROM information_schema.columns "
+                + "WHERE table_name IN ('orders', 'order_items') AND is_identity = 'YES'", Integer.class));
+        // Hibernate uses the 50 IDs up to the value read, which must all be above the existing ones
+        assertTrue(baselined.queryForObject("SELECT nextval('orders_seq')", Long.class) - 49 > 3);
+        assertTrue(baselined.queryForObject("SELECT nextval('order_items_seq')", Long.class) - 49 > 3);
+        assertEquals(1, baselined.queryForObject(
+                "SELECT COUNT(*) FROM pg_indexes WHERE indexname = 'idx_orders_payment_check_due_at'", Integer.class));
+    }
+
+    @Override
+    protected List<String> expectedMigrations() {
+        return List.of("1", "1.1", "1.2", "2", "3");
+    }
+
+    @Override
+    protected String explain(String sql) {
+        // Runs in the test transaction, so the setting ends with it
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    @Override
+    protected boolean isFullScan(String plan) {
+        return plan.contains("Seq Scan");
+    }
+
+    @Override
+    protected boolean usesIndexOn(String plan, String column) {
+        // e.g. Index Cond: (order_id = ANY ('{1,2,3}'::bigint[]))
+        return Pattern.compile("Index Cond: \\(+" + column + "\\b").matcher(plan).find();
+    }
+}
@@ -0,0 +1,160 @@
+package com.sotatek.order.infrastructure.persistence.cache;
+
+import com.sotatek.order.application.dto.CacheStatsDto;
+import com.sotatek.order.application.port.out.OrderRepositoryPort;
+import com.sotatek.order.domain.model.Order;
+import com.sotatek.order.domain.model.OrderItem;
+import com.sotatek.order.domain.model.OrderStatus;
+import com.sotatek.order.domain.model.PaymentMethod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingOrderRepositoryAdapterTest {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+    private static final Duration TERMINAL_TTL = Duration.ofHours(1);
+    private static final Duration TOMBSTONE_TTL = Duration.ofSeconds(30);
+
+    @Mock
+    private OrderRepositoryPort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final InMemoryOrderCacheInvalidationBus bus = new InMemoryOrderCacheInvalidationBus();
+    private CachingOrderRepositoryAdapter repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = newNode();
+    }
+
+    @Test
+    @DisplayName("Repeated reads of an order should hit the cache and return independent copies")
+    void findById_RepeatedRead_ShouldLoadOnce() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(order(1L, OrderStatus.PENDING, 0)));
+
+        Order first = repository.findById(1L).orElseThrow();
+        first.cancel();
+        Order second = repository.findById(1L).orElseThrow();
+
+        assertEquals(OrderStatus.PENDING, second.getStatus());
+        verify(delegate, times(1)).findById(1L);
+        CacheStatsDto stats = repository.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    @DisplayName("Terminal orders should outlive the TTL of orders that can still change")
+    void findById_TerminalOrder_ShouldUseLongerTtl() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(order(1L, OrderStatus.PENDING, 0)));
+        when(delegate.findById(2L)).thenReturn(Optional.of(order(2L, OrderStatus.CONFIRMED, 1)));
+
+        repository.findById(1L);
+        repository.findById(2L);
+        advance(TTL.plusSeconds(1));
+        repository.findById(1L);
+        repository.findById(2L);
+
+        verify(delegate, times(2)).findById(1L);
+        verify(delegate, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Saving an order should evict it so the next read sees the new version")
+    void save_ExistingOrder_ShouldInvalidate() {
+        Order pending = order(1L, OrderStatus.PENDING, 0);
+        Order cancelled = order(1L, OrderStatus.CANCELLED, 1);
+        when(delegate.findById(1L)).thenReturn(Optional.of(pending)).thenReturn(Optional.of(cancelled));
+        when(delegate.save(any(Order.class))).thenReturn(cancelled);
+
+        repository.findById(1L);
+        repository.save(pending);
+        Order result = repository.findById(1L).orElseThrow();
+
+        assertEquals(OrderStatus.CANCELLED, result.getStatus());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("A read that loaded a version older than a concurrent save should not be cached")
+    void findById_StaleLoadAfterSave_ShouldNotBeCached() {
+        Order pending = order(1L, OrderStatus.PENDING, 0);
+        Order cancelled = order(1L, OrderStatus.CANCELLED, 1);
+        // The first read loads version 0, but the save of version 1 lands before it is cached
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            bus.publish(1L, 1L);
+            return Optional.of(pending);
+        }).thenReturn(Optional.of(cancelled));
+
+        repository.findById(1L);
+        Order result = repository.findById(1L).orElseThrow();
+        repository.findById(1L);
+
+        assertEquals(OrderStatus.CANCELLED, result.getStatus());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("A save on another node should invalidate this node through the bus")
+    void save_OnOtherNode_ShouldInvalidateThroughBus() {
+        CachingOrderRepositoryAdapter otherNode = newNode();
+        Order pending = order(1L, OrderStatus.PENDING, 0);
+        when(delegate.findById(1L)).thenReturn(Optional.of(pending));
+        when(delegate.save(any(Order.class))).thenReturn(order(1L, OrderStatus.CANCELLED, 1));
+
+        repository.findById(1L);
+        otherNode.save(pending);
+        repository.findById(1L);
+
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Tombstones should expire so a rolled back save does not block caching")
+    void findById_AfterTombstoneTtl_ShouldCacheAgain() {
+        Order pending = order(1L, OrderStatus.PENDING, 0);
+        when(delegate.findById(1L)).thenReturn(Optional.of(pending));
+
+        bus.publish(1L, 1L);
+        repository.findById(1L);
+        repository.findById(1L);
+        verify(delegate, times(2)).findById(1L);
+
+        advance(TOMBSTONE_TTL.plusSeconds(1));
+        repository.findById(1L);
+        repository.findById(1L);
+        verify(delegate, times(3)).findById(1L);
+    }
+
+    private CachingOrderRepositoryAdapter newNode() {
+        return new CachingOrderRepositoryAdapter(delegate, bus, 1024 * 1024, TTL, TERMINAL_TTL, TOMBSTONE_TTL,
+                nanos::get, new SimpleMeterRegistry());
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static Order order(Long id, OrderStatus status, long version) {
+        OrderItem item = new OrderItem(101L, "Test Product", new BigDecimal("100.00"), 1);
+        LocalDateTime now = LocalDateTime.now();
+        return Order.reconstitute(id, 1L, List.of(item), new BigDecimal("100.00"), PaymentMethod.CREDIT_CARD,
+                status, null, version, now, now);
+    }
+}
@@ -0,0 +1,12 @@
+-- Schema Hibernate generated (ddl-auto: update) for the entities before Flyway migrations
+-- existed: IDENTITY ids, only the orders and order_items tables.
+create table orders (id bigint generated by default as identity, created_at timestamp(6) not null, member_id bigint not null, payment_id bigint, payment_method varchar(255) not null check (payment_method in ('CREDIT_CARD','DEBIT_CARD','BANK_TRANSFER')), status varchar(255) not null check (status in ('CONFIRMED','PENDING','FAILED','CANCELLED')), total_amount numeric(19,2) not null, updated_at timestamp(6) not null, version bigint, primary key (id));
+create table order_items (id bigint generated by default as identity, product_id bigint not null, product_name varchar(255) not null, quantity integer not null, unit_price numeric(19,2) not null, order_id bigint not null, primary key (id));
+alter table if exists order_items add constraint FKbioxgbv59vetrxe0ejfubep1w foreign key (order_id) references orders;
+
+insert into orders (created_at, member_id, payment_id, payment_method, status, total_amount, updated_at, version)
+values (now(), 1, 501, 'CREDIT_CARD', 'CONFIRMED', 200.00, now(), 1),
+       (now(), 1, 502, 'CREDIT_CARD', 'PENDING', 100.00, now(), 1),
+       (now(), 2, null, 'BANK_TRANSFER', 'PENDING', 50.00, now(), 0);
+insert into order_items (order_id, product_id, product_name, quantity, unit_price)
+values (1, 101, 'Product 101', 2, 100.00), (2, 102, 'Product 102', 1, 100.00), (3, 103, 'Product 103', 1, 50.00);